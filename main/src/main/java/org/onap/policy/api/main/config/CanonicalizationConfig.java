@@ -0,0 +1,46 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.config;
+
+import org.onap.policy.api.main.service.IdentifierCanonicalizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configures the canonicalization of the identifiers held in long-lived read models and caches.
+ */
+@Configuration
+public class CanonicalizationConfig {
+
+    /**
+     * Creates the canonicalizer of identifiers.
+     *
+     * @param maxLength the maximum length of an identifier that is canonicalized
+     * @return the canonicalizer
+     */
+    @Bean
+    public IdentifierCanonicalizer identifierCanonicalizer(
+        @Value("${policy-api.canonicalization.max-length:256}") int maxLength) {
+        return new IdentifierCanonicalizer(maxLength);
+    }
+}
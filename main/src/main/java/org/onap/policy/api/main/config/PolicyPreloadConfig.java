@@ -2,6 +2,7 @@
  * ============LICENSE_START=======================================================
  * Copyright (C) 2022 Bell Canada. All rights reserved.
  * Modifications Copyright (C) 2023-2024 Nordix Foundation.
+ * Modifications Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,4 +37,20 @@ public class PolicyPreloadConfig {
     List<String> policyTypes;
 
     List<String> policies;
+
+    /**
+     * Number of threads decoding the preloaded resources, 0 for the number of available processors.
+     */
+    int parallelism;
+
+    /**
+     * Resource or file holding the policy types and policies decoded at build time, used when it was generated
+     * for the configured policy types and policies.
+     */
+    String bundle;
+
+    /**
+     * Whether the policy types and policies missing from a database that already has policy types are preloaded.
+     */
+    boolean incremental;
 }
@@ -2,6 +2,7 @@
  * ============LICENSE_START=======================================================
  * Copyright (C) 2022 Bell Canada. All rights reserved.
  * Modifications Copyright (C) 2023 Nordix Foundation.
+ * Modifications Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,12 +23,20 @@
 package org.onap.policy.api.main.config;
 
 import java.util.List;
+import org.onap.policy.api.main.config.converter.GsonCborHttpMessageConverter;
+import org.onap.policy.api.main.config.converter.PooledGsonHttpMessageConverter;
+import org.onap.policy.api.main.config.converter.StreamingYamlHttpMessageConverter;
 import org.onap.policy.api.main.config.converter.StringToEnumConverter;
+import org.onap.policy.api.main.config.converter.Utf8BufferPool;
+import org.onap.policy.api.main.rest.RequestBulkheadInterceptor;
 import org.onap.policy.common.spring.utils.YamlHttpMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.format.FormatterRegistry;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.GsonHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
@@ -35,6 +44,29 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
  */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
+
+    private final Utf8BufferPool bufferPool;
+    private final RequestBulkheadInterceptor bulkheadInterceptor;
+
+    /**
+     * Constructs the configuration.
+     *
+     * @param bulkheadInterceptor the interceptor executing controller requests in read and write lanes
+     * @param poolSize    the maximum number of idle response buffers kept for reuse
+     * @param bufferBytes the size of a response buffer, which is the size of the chunks responses are written in
+     */
+    public WebConfig(RequestBulkheadInterceptor bulkheadInterceptor,
+        @Value("${policy-api.response-buffers.pool-size:64}") int poolSize,
+        @Value("${policy-api.response-buffers.buffer-bytes:16384}") int bufferBytes) {
+        this.bulkheadInterceptor = bulkheadInterceptor;
+        this.bufferPool = new Utf8BufferPool(poolSize, bufferBytes);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(bulkheadInterceptor);
+    }
+
     @Override
     public void addFormatters(FormatterRegistry registry) {
         registry.addConverter(new StringToEnumConverter());
@@ -45,5 +77,15 @@ public class WebConfig implements WebMvcConfigurer {
         var yamlConverter = new YamlHttpMessageConverter();
         yamlConverter.setSupportedMediaTypes(List.of(MediaType.parseMediaType("application/yaml")));
         converters.add(yamlConverter);
+
+        // JSON responses are written through pooled buffers, and YAML responses are streamed, with the same Gson
+        // instance that reads JSON requests, and CBOR, for the clients that ask for it, is converted with that instance
+        // too; YAML requests are still read by the YAML converter
+        converters.stream().filter(GsonHttpMessageConverter.class::isInstance).findFirst().ifPresent(converter -> {
+            final var gson = ((GsonHttpMessageConverter) converter).getGson();
+            converters.add(converters.indexOf(converter), new PooledGsonHttpMessageConverter(gson, bufferPool));
+            converters.add(converters.indexOf(yamlConverter), new StreamingYamlHttpMessageConverter(gson));
+            converters.add(new GsonCborHttpMessageConverter(gson));
+        });
     }
 }
@@ -0,0 +1,194 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.config.converter;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.reflect.TypeToken;
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.util.StreamUtils;
+import tools.jackson.core.JacksonException;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+/**
+ * Reads and writes CBOR, a compact binary equivalent of JSON, for clients that ask for it. Objects are converted with
+ * the same Gson instance and type adapters as for JSON, to and from a Gson JSON tree, and the tree is encoded and
+ * decoded by the Jackson CBOR data format, so a body read from CBOR is the same as one read from the equivalent JSON.
+ * CBOR byte strings have no JSON equivalent and are rejected.
+ */
+public class GsonCborHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private final Gson gson;
+    private final CBORMapper cborMapper = new CBORMapper();
+
+    /**
+     * Constructs the converter.
+     *
+     * @param gson the Gson instance used to convert JSON
+     */
+    public GsonCborHttpMessageConverter(Gson gson) {
+        super(MediaType.APPLICATION_CBOR);
+        this.gson = gson;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return true;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        final var resolvedType = GenericTypeResolver.resolveType(type, contextClass);
+        try {
+            final var value = cborMapper.readValue(StreamUtils.nonClosing(inputMessage.getBody()), Object.class);
+            return gson.fromJson(toJsonElement(value), TypeToken.get(resolvedType));
+        } catch (JacksonException | JsonParseException | IllegalArgumentException exc) {
+            throw new HttpMessageNotReadableException("Could not read CBOR: " + exc.getMessage(), exc, inputMessage);
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return read(clazz, null, inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        try {
+            final var tree = gson.toJsonTree(object, type instanceof ParameterizedType ? type : object.getClass());
+            cborMapper.writeValue(StreamUtils.nonClosing(outputMessage.getBody()), toCborValue(tree));
+        } catch (JacksonException | JsonIOException exc) {
+            throw new HttpMessageNotWritableException("Could not write CBOR: " + exc.getMessage(), exc);
+        }
+    }
+
+    /**
+     * Converts a value decoded from CBOR to a JSON tree.
+     *
+     * @param value the decoded value, a map, list, string, number, boolean or null
+     * @return the JSON tree
+     * @throws IllegalArgumentException if the value has no JSON equivalent
+     */
+    static JsonElement toJsonElement(Object value) {
+        if (value == null) {
+            return JsonNull.INSTANCE;
+        } else if (value instanceof Map<?, ?> map) {
+            final var object = new JsonObject();
+            map.forEach((name, item) -> object.add(String.valueOf(name), toJsonElement(item)));
+            return object;
+        } else if (value instanceof List<?> list) {
+            final var array = new JsonArray(list.size());
+            list.forEach(item -> array.add(toJsonElement(item)));
+            return array;
+        } else if (value instanceof String string) {
+            return new JsonPrimitive(string);
+        } else if (value instanceof Number number) {
+            return new JsonPrimitive(number);
+        } else if (value instanceof Boolean bool) {
+            return new JsonPrimitive(bool);
+        } else if (value instanceof byte[]) {
+            throw new IllegalArgumentException("CBOR byte strings have no JSON equivalent");
+        }
+        throw new IllegalArgumentException("CBOR value of type " + value.getClass().getSimpleName()
+            + " has no JSON equivalent");
+    }
+
+    /**
+     * Converts a JSON tree to the maps, lists, strings, numbers and booleans that are encoded in CBOR.
+     *
+     * @param element the JSON tree
+     * @return the value to encode
+     */
+    static Object toCborValue(JsonElement element) {
+        if (element.isJsonObject()) {
+            final Map<String, Object> map = new LinkedHashMap<>();
+            element.getAsJsonObject().entrySet()
+                .forEach(entry -> map.put(entry.getKey(), toCborValue(entry.getValue())));
+            return map;
+        } else if (element.isJsonArray()) {
+            final List<Object> list = new ArrayList<>(element.getAsJsonArray().size());
+            element.getAsJsonArray().forEach(item -> list.add(toCborValue(item)));
+            return list;
+        } else if (element.isJsonNull()) {
+            return null;
+        }
+
+        final var primitive = element.getAsJsonPrimitive();
+        if (primitive.isBoolean()) {
+            return primitive.getAsBoolean();
+        } else if (primitive.isString()) {
+            return primitive.getAsString();
+        }
+        return toCborNumber(primitive.getAsNumber());
+    }
+
+    /**
+     * Converts a number to the number that is encoded in CBOR, whose value is the value of the number in JSON. Floats
+     * are written in JSON with their shortest decimal representation, and so are encoded as the double with that
+     * representation, and numbers held as their JSON text are encoded as the narrowest type that holds them exactly.
+     */
+    private static Number toCborNumber(Number number) {
+        if (number instanceof Integer || number instanceof Long || number instanceof Double
+            || number instanceof BigInteger || number instanceof BigDecimal) {
+            return number;
+        }
+        final var text = number.toString();
+        if (number instanceof Float) {
+            return Double.valueOf(text);
+        }
+
+        final BigDecimal decimal;
+        try {
+            decimal = new BigDecimal(text);
+        } catch (NumberFormatException exc) {
+            // a non-finite number written by a lenient Gson instance
+            return number.doubleValue();
+        }
+        if (decimal.scale() <= 0) {
+            final var integer = decimal.toBigIntegerExact();
+            return integer.bitLength() < Long.SIZE ? (Number) integer.longValue() : integer;
+        }
+        final var doubleValue = decimal.doubleValue();
+        return new BigDecimal(Double.toString(doubleValue)).compareTo(decimal) == 0 ? doubleValue : decimal;
+    }
+}
@@ -0,0 +1,209 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.config.converter;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.onap.policy.api.main.rest.PolicyReadResult;
+import org.onap.policy.models.base.PfConceptKey;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaPolicies;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaPolicy;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaServiceTemplate;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaTopologyTemplate;
+
+/**
+ * Writes policy read results without decoding the property values of their policies. The values are stored as JSON
+ * strings, and converting them to authorative concepts means decoding every one of them into an object graph that is
+ * then encoded again. The rest of the service template, including its types and metadata, is still converted to the
+ * authorative concepts, but without the property values, which are copied token by token into the output as it is
+ * written, with the Gson instance and writer that write the response, so that the output is the same as for the
+ * authorative service template, in JSON, YAML or CBOR. Policy read results are read as authorative service templates,
+ * which are then converted to JPA service templates.
+ */
+public class PolicyReadResultTypeAdapterFactory implements TypeAdapterFactory {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        if (!PolicyReadResult.class.isAssignableFrom(type.getRawType())) {
+            return null;
+        }
+        final var serviceTemplateAdapter = gson.getAdapter(ToscaServiceTemplate.class);
+        return (TypeAdapter<T>) new TypeAdapter<PolicyReadResult>() {
+            @Override
+            public void write(JsonWriter out, PolicyReadResult value) throws IOException {
+                serviceTemplateAdapter.write(out, toWireTemplate(value.getServiceTemplate()));
+            }
+
+            @Override
+            public PolicyReadResult read(JsonReader in) throws IOException {
+                return new PolicyReadResult(new JpaToscaServiceTemplate(serviceTemplateAdapter.read(in)));
+            }
+        }.nullSafe();
+    }
+
+    /**
+     * Converts a JPA service template to an authorative service template whose policy property values are the stored
+     * JSON strings. Only the decoding of the property values is saved, everything else is converted as usual. The JPA
+     * service template is not changed: its policies are replaced by shells that share all their fields but the
+     * property values, in a shallow copy of the service template and its topology template.
+     */
+    private static ToscaServiceTemplate toWireTemplate(JpaToscaServiceTemplate jpaServiceTemplate) {
+        final var jpaTopologyTemplate = jpaServiceTemplate.getTopologyTemplate();
+        if (jpaTopologyTemplate == null || jpaTopologyTemplate.getPolicies() == null) {
+            return jpaServiceTemplate.toAuthorative();
+        }
+
+        final Map<PfConceptKey, Map<String, String>> storedProperties = new LinkedHashMap<>();
+        final var policies = new JpaToscaPolicies(jpaTopologyTemplate.getPolicies().getKey());
+        jpaTopologyTemplate.getPolicies().getConceptMap().forEach((key, policy) -> {
+            final var policyShell = new JpaToscaPolicy(policy.getKey(), policy.getType());
+            policyShell.setDerivedFrom(policy.getDerivedFrom());
+            policyShell.setDescription(policy.getDescription());
+            policyShell.setMetadata(policy.getMetadata());
+            policyShell.setProperties(null);
+            policies.getConceptMap().put(key, policyShell);
+            storedProperties.put(key, policy.getProperties());
+        });
+
+        final var topologyTemplate = new JpaToscaTopologyTemplate();
+        topologyTemplate.setKey(jpaTopologyTemplate.getKey());
+        topologyTemplate.setDescription(jpaTopologyTemplate.getDescription());
+        topologyTemplate.setInputs(jpaTopologyTemplate.getInputs());
+        topologyTemplate.setNodeTemplates(jpaTopologyTemplate.getNodeTemplates());
+        topologyTemplate.setPolicies(policies);
+
+        final var serviceTemplate = new JpaToscaServiceTemplate();
+        serviceTemplate.setKey(jpaServiceTemplate.getKey());
+        serviceTemplate.setDerivedFrom(jpaServiceTemplate.getDerivedFrom());
+        serviceTemplate.setMetadata(jpaServiceTemplate.getMetadata());
+        serviceTemplate.setDescription(jpaServiceTemplate.getDescription());
+        serviceTemplate.setToscaDefinitionsVersion(jpaServiceTemplate.getToscaDefinitionsVersion());
+        serviceTemplate.setDataTypes(jpaServiceTemplate.getDataTypes());
+        serviceTemplate.setCapabilityTypes(jpaServiceTemplate.getCapabilityTypes());
+        serviceTemplate.setNodeTypes(jpaServiceTemplate.getNodeTypes());
+        serviceTemplate.setRelationshipTypes(jpaServiceTemplate.getRelationshipTypes());
+        serviceTemplate.setPolicyTypes(jpaServiceTemplate.getPolicyTypes());
+        serviceTemplate.setTopologyTemplate(topologyTemplate);
+
+        final var wireTemplate = serviceTemplate.toAuthorative();
+        for (final var policyMap : wireTemplate.getToscaTopologyTemplate().getPolicies()) {
+            for (final var toscaPolicy : policyMap.values()) {
+                final var properties =
+                    storedProperties.get(new PfConceptKey(toscaPolicy.getName(), toscaPolicy.getVersion()));
+                if (properties != null) {
+                    final Map<String, Object> wireProperties = new LinkedHashMap<>();
+                    properties.forEach((name, value) -> wireProperties.put(name, new StoredJsonValue(value)));
+                    toscaPolicy.setProperties(wireProperties);
+                }
+            }
+        }
+        return wireTemplate;
+    }
+
+    /**
+     * A property value as stored in the database, in JSON. It is written as a value of an untyped property map, so
+     * its adapter is declared on the type, where any Gson instance finds it.
+     */
+    @JsonAdapter(StoredJsonValueAdapter.class)
+    private record StoredJsonValue(String json) {
+    }
+
+    /**
+     * Copies stored JSON values to the output token by token, so that the output is formatted and escaped in the
+     * same way as the decoded values would be. Values are read back as their JSON.
+     */
+    static final class StoredJsonValueAdapter extends TypeAdapter<StoredJsonValue> {
+
+        @Override
+        public void write(JsonWriter out, StoredJsonValue value) throws IOException {
+            if (value == null || value.json() == null) {
+                out.nullValue();
+                return;
+            }
+            try (var in = new JsonReader(new StringReader(value.json()))) {
+                copy(in, out);
+            }
+        }
+
+        @Override
+        public StoredJsonValue read(JsonReader in) {
+            return new StoredJsonValue(JsonParser.parseReader(in).toString());
+        }
+
+        private static void copy(JsonReader in, JsonWriter out) throws IOException {
+            switch (in.peek()) {
+                case BEGIN_ARRAY -> {
+                    in.beginArray();
+                    out.beginArray();
+                    while (in.hasNext()) {
+                        copy(in, out);
+                    }
+                    in.endArray();
+                    out.endArray();
+                }
+                case BEGIN_OBJECT -> {
+                    in.beginObject();
+                    out.beginObject();
+                    while (in.hasNext()) {
+                        out.name(in.nextName());
+                        copy(in, out);
+                    }
+                    in.endObject();
+                    out.endObject();
+                }
+                case STRING -> out.value(in.nextString());
+                case NUMBER -> out.value(toDecodedNumber(in.nextDouble()));
+                case BOOLEAN -> out.value(in.nextBoolean());
+                case NULL -> {
+                    in.nextNull();
+                    out.nullValue();
+                }
+                default -> throw new IOException("unexpected token " + in.peek() + " in stored JSON value");
+            }
+        }
+
+        /**
+         * Converts a number to the type it has when the stored value is decoded by the standard coder, which decodes
+         * numbers as doubles and converts integral doubles to integers or longs.
+         */
+        private static Number toDecodedNumber(double value) {
+            final var longValue = (long) value;
+            if (Double.compare(value, longValue) != 0) {
+                return value;
+            }
+            final var intValue = (int) longValue;
+            return intValue == longValue ? Integer.valueOf(intValue) : Long.valueOf(longValue);
+        }
+    }
+}
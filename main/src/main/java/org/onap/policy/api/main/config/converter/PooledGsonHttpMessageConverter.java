@@ -0,0 +1,109 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.config.converter;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+/**
+ * Writes JSON responses with Gson through pooled fixed-size buffers that encode to UTF-8 directly, instead of through
+ * an {@link java.io.OutputStreamWriter} created for each response. The encoded bytes are written to the response in
+ * chunks of the buffer size as they are produced, so the memory used does not depend on the size of the response.
+ * Requests are still read by the regular Gson converter, and responses in other character sets are left to it as well.
+ */
+public class PooledGsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private final Gson gson;
+    private final Utf8BufferPool bufferPool;
+
+    /**
+     * Constructs the converter.
+     *
+     * @param gson       the Gson instance used to write the other JSON responses
+     * @param bufferPool the pool of buffers the responses are encoded through
+     */
+    public PooledGsonHttpMessageConverter(Gson gson, Utf8BufferPool bufferPool) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        setDefaultCharset(StandardCharsets.UTF_8);
+        this.gson = gson;
+        this.bufferPool = bufferPool;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return true;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canWrite(MediaType mediaType) {
+        return super.canWrite(mediaType)
+            && (mediaType == null || mediaType.getCharset() == null
+                || StandardCharsets.UTF_8.equals(mediaType.getCharset()));
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("reading is left to the Gson converter", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("reading is left to the Gson converter", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        final var buffer = bufferPool.acquire(outputMessage.getBody());
+        try {
+            if (type instanceof ParameterizedType) {
+                gson.toJson(object, type, buffer);
+            } else {
+                gson.toJson(object, buffer);
+            }
+            buffer.finish();
+        } catch (JsonIOException exc) {
+            throw new HttpMessageNotWritableException("Could not write JSON: " + exc.getMessage(), exc);
+        } finally {
+            bufferPool.release(buffer);
+        }
+    }
+}
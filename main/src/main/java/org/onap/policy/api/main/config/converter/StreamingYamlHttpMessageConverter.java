@@ -0,0 +1,105 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.config.converter;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Writes YAML responses to the response body as they are converted, with the same Gson instance and type adapters as
+ * JSON responses, rather than converting the whole response to a YAML document and then to a string first. Requests are
+ * still read by the regular YAML converter.
+ */
+public class StreamingYamlHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_YAML = MediaType.parseMediaType("application/yaml");
+
+    private final Gson gson;
+
+    /**
+     * Constructs the converter.
+     *
+     * @param gson the Gson instance used to write JSON responses
+     */
+    public StreamingYamlHttpMessageConverter(Gson gson) {
+        super(APPLICATION_YAML);
+        setDefaultCharset(StandardCharsets.UTF_8);
+        this.gson = gson;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return true;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canWrite(MediaType mediaType) {
+        return super.canWrite(mediaType)
+            && (mediaType == null || mediaType.getCharset() == null
+                || StandardCharsets.UTF_8.equals(mediaType.getCharset()));
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("reading is left to the YAML converter", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("reading is left to the YAML converter", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        final var writer =
+            new OutputStreamWriter(StreamUtils.nonClosing(outputMessage.getBody()), StandardCharsets.UTF_8);
+        try {
+            final var valueType = type instanceof ParameterizedType ? type : object.getClass();
+            gson.toJson(object, valueType, new YamlJsonWriter(writer));
+            writer.flush();
+        } catch (JsonIOException exc) {
+            throw new HttpMessageNotWritableException("Could not write YAML: " + exc.getMessage(), exc);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.config.converter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A bounded pool of reusable fixed-size buffers that response bodies are encoded through. The buffers are writers that
+ * encode characters to UTF-8 directly into a byte array, without intermediate strings, character buffers or encoders,
+ * and write the array to the response stream each time it fills up. A response of any size is so written in chunks,
+ * with the memory of a single buffer, and the buffer is kept for the next response.
+ */
+public class Utf8BufferPool {
+
+    private final int bufferBytes;
+    private final BlockingQueue<Utf8Buffer> buffers;
+
+    /**
+     * Constructs the pool.
+     *
+     * @param poolSize    the maximum number of idle buffers kept in the pool
+     * @param bufferBytes the size of a buffer, which is the size of the chunks written to the response stream
+     */
+    public Utf8BufferPool(int poolSize, int bufferBytes) {
+        this.bufferBytes = bufferBytes;
+        this.buffers = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+    }
+
+    /**
+     * Takes a buffer from the pool, or creates one if the pool is empty, to write to a stream.
+     *
+     * @param out the stream the buffer writes to
+     * @return an empty buffer, to be given back with {@link #release(Utf8Buffer)}
+     */
+    public Utf8Buffer acquire(OutputStream out) {
+        final var pooledBuffer = buffers.poll();
+        final var buffer = pooledBuffer != null ? pooledBuffer : new Utf8Buffer(bufferBytes);
+        buffer.out = out;
+        return buffer;
+    }
+
+    /**
+     * Gives a buffer back to the pool, discarding anything that was not written to its stream with
+     * {@link Utf8Buffer#finish()}.
+     *
+     * @param buffer the buffer, which must not be used afterwards
+     */
+    public void release(Utf8Buffer buffer) {
+        buffer.out = null;
+        buffer.size = 0;
+        buffer.highSurrogate = 0;
+        buffers.offer(buffer);
+    }
+
+    /**
+     * Gets the number of idle buffers in the pool.
+     *
+     * @return the number of idle buffers
+     */
+    public int getIdleCount() {
+        return buffers.size();
+    }
+
+    /**
+     * A writer that encodes the characters written to it to UTF-8 in a fixed-size byte array, and writes the array to
+     * its stream whenever it is full.
+     */
+    public static final class Utf8Buffer extends Writer {
+
+        private final byte[] bytes;
+        private OutputStream out;
+        private int size;
+        private char highSurrogate;
+
+        private Utf8Buffer(int bufferBytes) {
+            bytes = new byte[Math.max(16, bufferBytes)];
+        }
+
+        /**
+         * Writes everything written to the buffer to its stream, replacing a high surrogate that was not followed by a
+         * low one, and flushes the stream.
+         *
+         * @throws IOException if the stream cannot be written
+         */
+        public void finish() throws IOException {
+            if (highSurrogate != 0) {
+                highSurrogate = 0;
+                ensureCapacity(1);
+                bytes[size++] = '?';
+            }
+            flush();
+        }
+
+        @Override
+        public void write(int ch) throws IOException {
+            encode((char) ch);
+        }
+
+        @Override
+        public void write(char[] chars, int off, int len) throws IOException {
+            for (var i = off; i < off + len; i++) {
+                encode(chars[i]);
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            for (var i = off; i < off + len; i++) {
+                encode(str.charAt(i));
+            }
+        }
+
+        @Override
+        public Writer append(CharSequence csq) throws IOException {
+            final var chars = csq == null ? "null" : csq;
+            return append(chars, 0, chars.length());
+        }
+
+        @Override
+        public Writer append(CharSequence csq, int start, int end) throws IOException {
+            final var chars = csq == null ? "null" : csq;
+            for (var i = start; i < end; i++) {
+                encode(chars.charAt(i));
+            }
+            return this;
+        }
+
+        @Override
+        public Writer append(char ch) throws IOException {
+            encode(ch);
+            return this;
+        }
+
+        /**
+         * Writes the encoded bytes to the stream and flushes it. A pending high surrogate is kept, in case its low
+         * surrogate is written next.
+         *
+         * @throws IOException if the stream cannot be written
+         */
+        @Override
+        public void flush() throws IOException {
+            drain();
+            out.flush();
+        }
+
+        @Override
+        public void close() {
+            // the stream belongs to the caller, and the buffer stays usable until it is released
+        }
+
+        private void encode(char ch) throws IOException {
+            ensureCapacity(4);
+            if (highSurrogate != 0) {
+                final var high = highSurrogate;
+                highSurrogate = 0;
+                if (Character.isLowSurrogate(ch)) {
+                    final var codePoint = Character.toCodePoint(high, ch);
+                    bytes[size++] = (byte) (0xF0 | (codePoint >> 18));
+                    bytes[size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    bytes[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    bytes[size++] = (byte) (0x80 | (codePoint & 0x3F));
+                    return;
+                }
+                // unpaired surrogate, replaced as the JDK encoder does
+                bytes[size++] = '?';
+                ensureCapacity(4);
+            }
+
+            if (ch < 0x80) {
+                bytes[size++] = (byte) ch;
+            } else if (ch < 0x800) {
+                bytes[size++] = (byte) (0xC0 | (ch >> 6));
+                bytes[size++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (Character.isHighSurrogate(ch)) {
+                highSurrogate = ch;
+            } else if (Character.isLowSurrogate(ch)) {
+                bytes[size++] = '?';
+            } else {
+                bytes[size++] = (byte) (0xE0 | (ch >> 12));
+                bytes[size++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+                bytes[size++] = (byte) (0x80 | (ch & 0x3F));
+            }
+        }
+
+        private void ensureCapacity(int extra) throws IOException {
+            if (size + extra > bytes.length) {
+                drain();
+            }
+        }
+
+        private void drain() throws IOException {
+            if (size > 0) {
+                out.write(bytes, 0, size);
+                size = 0;
+            }
+        }
+    }
+}
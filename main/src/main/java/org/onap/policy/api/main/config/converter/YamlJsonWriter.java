@@ -0,0 +1,393 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.config.converter;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * A Gson {@link JsonWriter} that writes block style YAML rather than JSON, straight to a writer as the values are
+ * written, so that anything Gson writes as JSON can be written as YAML with the same type adapters and without
+ * building a YAML document in memory first. Strings are written plain when they cannot be read back as anything but
+ * the same string, and double quoted otherwise. Every method of {@link JsonWriter} that writes is overridden, so
+ * nothing is ever written to the underlying JSON writer.
+ */
+final class YamlJsonWriter extends JsonWriter {
+
+    private static final Writer UNWRITABLE_WRITER = new Writer() {
+        @Override
+        public void write(char[] buffer, int offset, int count) {
+            throw new UnsupportedOperationException("YAML is written by the YAML writer");
+        }
+
+        @Override
+        public void flush() {
+            // nothing to flush
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+    };
+
+    /**
+     * Strings that can be written plain: identifier like strings, which includes dotted versions such as 1.0.0 but
+     * not numbers, since a second dot makes a string that no YAML resolver reads as a number or date.
+     */
+    private static final Pattern PLAIN = Pattern.compile("[A-Za-z_/$][A-Za-z0-9_./$-]*|[0-9]+(\\.[0-9]+){2,}");
+
+    /**
+     * Plain strings that YAML 1.1 resolvers read as booleans or null.
+     */
+    private static final Set<String> RESERVED = Set.of("y", "yes", "n", "no", "true", "false", "on", "off", "null");
+
+    private enum Kind {
+        OBJECT, ARRAY
+    }
+
+    private enum Introducer {
+        TOP, KEY, DASH
+    }
+
+    private static final class Frame {
+        private final Kind kind;
+        private final Introducer introducer;
+        private final int indent;
+        private boolean opened;
+        private boolean inlineNext;
+
+        private Frame(Kind kind, Introducer introducer, int indent) {
+            this.kind = kind;
+            this.introducer = introducer;
+            this.indent = indent;
+        }
+    }
+
+    private final Writer out;
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    private String deferredName;
+
+    /**
+     * Constructs the writer.
+     *
+     * @param out the writer to write the YAML to
+     */
+    YamlJsonWriter(Writer out) {
+        super(UNWRITABLE_WRITER);
+        this.out = out;
+    }
+
+    @Override
+    public JsonWriter beginArray() throws IOException {
+        beginContainer(Kind.ARRAY);
+        return this;
+    }
+
+    @Override
+    public JsonWriter endArray() throws IOException {
+        endContainer(Kind.ARRAY, "[]");
+        return this;
+    }
+
+    @Override
+    public JsonWriter beginObject() throws IOException {
+        beginContainer(Kind.OBJECT);
+        return this;
+    }
+
+    @Override
+    public JsonWriter endObject() throws IOException {
+        if (deferredName != null) {
+            throw new IllegalStateException("name " + deferredName + " has no value");
+        }
+        endContainer(Kind.OBJECT, "{}");
+        return this;
+    }
+
+    @Override
+    public JsonWriter name(String name) {
+        Objects.requireNonNull(name, "name == null");
+        if (deferredName != null || frames.isEmpty() || frames.peek().kind != Kind.OBJECT) {
+            throw new IllegalStateException("name " + name + " is not expected here");
+        }
+        deferredName = name;
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        writeScalar(null, value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter jsonValue(String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        writeElement(JsonParser.parseString(value));
+        return this;
+    }
+
+    @Override
+    public JsonWriter nullValue() throws IOException {
+        if (deferredName != null && !getSerializeNulls()) {
+            // the name is dropped along with the value, as for JSON
+            deferredName = null;
+            return this;
+        }
+        writeScalar("null", null);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(boolean value) throws IOException {
+        writeScalar(value ? "true" : "false", null);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(Boolean value) throws IOException {
+        return value == null ? nullValue() : value(value.booleanValue());
+    }
+
+    @Override
+    public JsonWriter value(float value) throws IOException {
+        if (!isLenient() && (Float.isNaN(value) || Float.isInfinite(value))) {
+            throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
+        }
+        // written with the shortest representation of the float, as in JSON
+        writeScalar(formatFloatingPoint(value, Float.toString(value)), null);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(double value) throws IOException {
+        if (!isLenient() && (Double.isNaN(value) || Double.isInfinite(value))) {
+            throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
+        }
+        writeScalar(formatFloatingPoint(value, Double.toString(value)), null);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(long value) throws IOException {
+        writeScalar(Long.toString(value), null);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(Number value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        if (value instanceof Float) {
+            return value(value.floatValue());
+        }
+        if (value instanceof Double) {
+            return value(value.doubleValue());
+        }
+        final var text = value.toString();
+        if ("NaN".equals(text) || "Infinity".equals(text) || "-Infinity".equals(text)) {
+            return value(Double.parseDouble(text));
+        }
+        writeScalar(text, null);
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+
+    private void beginContainer(Kind kind) throws IOException {
+        final var parent = frames.peek();
+        if (parent == null) {
+            frames.push(new Frame(kind, Introducer.TOP, 0));
+            return;
+        }
+        writeEntryPrefix(parent);
+        final var introducer = parent.kind == Kind.OBJECT ? Introducer.KEY : Introducer.DASH;
+        frames.push(new Frame(kind, introducer, parent.indent + 2));
+    }
+
+    private void endContainer(Kind kind, String empty) throws IOException {
+        final var frame = frames.peek();
+        if (frame == null || frame.kind != kind) {
+            throw new IllegalStateException("no " + kind.name().toLowerCase() + " to end");
+        }
+        frames.pop();
+        if (!frame.opened) {
+            out.write(frame.introducer == Introducer.TOP ? empty : " " + empty);
+            out.write('\n');
+        }
+    }
+
+    /**
+     * Writes the key or dash that introduces an entry of a container, opening the container on its first entry.
+     */
+    private void writeEntryPrefix(Frame frame) throws IOException {
+        if (!frame.opened) {
+            frame.opened = true;
+            if (frame.introducer == Introducer.KEY) {
+                out.write('\n');
+            } else if (frame.introducer == Introducer.DASH) {
+                // the first entry goes on the line of the dash
+                out.write(' ');
+                frame.inlineNext = true;
+            }
+        }
+
+        if (frame.inlineNext) {
+            frame.inlineNext = false;
+        } else {
+            writeIndent(frame.indent);
+        }
+
+        if (frame.kind == Kind.OBJECT) {
+            if (deferredName == null) {
+                throw new IllegalStateException("object entry has no name");
+            }
+            writeString(deferredName);
+            deferredName = null;
+            out.write(':');
+        } else {
+            out.write('-');
+        }
+    }
+
+    /**
+     * Writes a scalar, either a literal such as a number or a string to be quoted as needed.
+     */
+    private void writeScalar(String literal, String string) throws IOException {
+        final var frame = frames.peek();
+        if (frame != null) {
+            writeEntryPrefix(frame);
+            out.write(' ');
+        }
+        if (literal != null) {
+            out.write(literal);
+        } else {
+            writeString(string);
+        }
+        out.write('\n');
+    }
+
+    private void writeString(String value) throws IOException {
+        if (PLAIN.matcher(value).matches() && !RESERVED.contains(value.toLowerCase())) {
+            out.write(value);
+            return;
+        }
+
+        out.write('"');
+        var start = 0;
+        for (var i = 0; i < value.length(); i++) {
+            final var ch = value.charAt(i);
+            final var escape = getEscape(ch);
+            if (escape != null) {
+                out.write(value, start, i - start);
+                out.write(escape);
+                start = i + 1;
+            }
+        }
+        out.write(value, start, value.length() - start);
+        out.write('"');
+    }
+
+    private static String getEscape(char ch) {
+        return switch (ch) {
+            case '"' -> "\\\"";
+            case '\\' -> "\\\\";
+            case '\n' -> "\\n";
+            case '\r' -> "\\r";
+            case '\t' -> "\\t";
+            default -> ch < 0x20 || ch == 0x7F || ch == 0x85 || ch == 0x2028 || ch == 0x2029 || ch == 0xFEFF
+                ? String.format("\\u%04x", (int) ch) : null;
+        };
+    }
+
+    private static String formatFloatingPoint(double value, String text) {
+        if (Double.isNaN(value)) {
+            return ".nan";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? ".inf" : "-.inf";
+        }
+        // YAML 1.1 resolvers need a signed exponent
+        final var exponent = text.indexOf('E');
+        if (exponent < 0) {
+            return text;
+        }
+        final var mantissa = text.substring(0, exponent);
+        final var power = text.substring(exponent + 1);
+        return mantissa + "e" + (power.startsWith("-") ? power : "+" + power);
+    }
+
+    private void writeIndent(int indent) throws IOException {
+        for (var i = 0; i < indent; i++) {
+            out.write(' ');
+        }
+    }
+
+    private void writeElement(JsonElement element) throws IOException {
+        if (element.isJsonNull()) {
+            nullValue();
+        } else if (element.isJsonArray()) {
+            beginArray();
+            for (final var item : element.getAsJsonArray()) {
+                writeElement(item);
+            }
+            endArray();
+        } else if (element.isJsonObject()) {
+            beginObject();
+            for (final Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+                name(entry.getKey());
+                writeElement(entry.getValue());
+            }
+            endObject();
+        } else if (element.getAsJsonPrimitive().isBoolean()) {
+            value(element.getAsBoolean());
+        } else if (element.getAsJsonPrimitive().isNumber()) {
+            value(element.getAsNumber());
+        } else {
+            value(element.getAsString());
+        }
+    }
+}
@@ -20,12 +20,21 @@
 
 package org.onap.policy.api.main.repository;
 
+import java.util.List;
 import org.onap.policy.models.base.PfConceptKey;
 import org.onap.policy.models.tosca.simple.concepts.JpaToscaDataType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface DataTypeRepository extends JpaRepository<JpaToscaDataType, PfConceptKey> {
 
+    /**
+     * Find the keys of all the data types, without loading them.
+     *
+     * @return the keys of the data types
+     */
+    @Query("SELECT t.key FROM JpaToscaDataType t")
+    List<PfConceptKey> findAllKeys();
 }
@@ -1,6 +1,7 @@
 /*-
  * ============LICENSE_START=======================================================
  *  Copyright (C) 2022 Bell Canada. All rights reserved.
+ *  Modifications Copyright (C) 2026 Deutsche Telekom AG.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,12 +21,78 @@
 
 package org.onap.policy.api.main.repository;
 
+import java.util.Collection;
+import java.util.List;
 import org.onap.policy.models.base.PfConceptKey;
 import org.onap.policy.models.pdp.persistence.concepts.JpaPdpGroup;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PdpGroupRepository extends JpaRepository<JpaPdpGroup, PfConceptKey> {
 
-}
\ No newline at end of file
+    /**
+     * Find the PDP subgroups in which any version of the given policies is deployed, reading only the subgroup policy
+     * references rather than the PDP groups.
+     *
+     * @param names the names of the policies
+     * @return the subgroups and the policies deployed in them, ordered by PDP group and subgroup
+     */
+    @Query("SELECT new org.onap.policy.api.main.repository.PdpSubGroupReference("
+        + "s.key.parentKeyName, s.key.localName, p.name, p.version)"
+        + " FROM JpaPdpSubGroup s JOIN s.policies p WHERE p.name IN :names"
+        + " ORDER BY s.key.parentKeyName, s.key.localName")
+    List<PdpSubGroupReference> findPolicyDeployments(@Param("names") Collection<String> names);
+
+    /**
+     * Find the PDP subgroups that support a policy type, reading only the subgroup policy type references rather than
+     * the PDP groups.
+     *
+     * @param name the name of the policy type
+     * @param version the version of the policy type
+     * @return the subgroups that support the policy type, ordered by PDP group and subgroup
+     */
+    @Query("SELECT new org.onap.policy.api.main.repository.PdpSubGroupReference("
+        + "s.key.parentKeyName, s.key.localName, t.name, t.version)"
+        + " FROM JpaPdpSubGroup s JOIN s.supportedPolicyTypes t WHERE t.name = :name AND t.version = :version"
+        + " ORDER BY s.key.parentKeyName, s.key.localName")
+    List<PdpSubGroupReference> findPolicyTypeSupport(@Param("name") String name, @Param("version") String version);
+
+    /**
+     * Find the policies deployed in all the PDP subgroups.
+     *
+     * @return the subgroups and the policies deployed in them, ordered by PDP group and subgroup
+     */
+    @Query("SELECT new org.onap.policy.api.main.repository.PdpSubGroupReference("
+        + "s.key.parentKeyName, s.key.localName, p.name, p.version)"
+        + " FROM JpaPdpSubGroup s JOIN s.policies p ORDER BY s.key.parentKeyName, s.key.localName")
+    List<PdpSubGroupReference> findAllPolicyDeployments();
+
+    /**
+     * Find the policy types supported by all the PDP subgroups.
+     *
+     * @return the subgroups and the policy types they support, ordered by PDP group and subgroup
+     */
+    @Query("SELECT new org.onap.policy.api.main.repository.PdpSubGroupReference("
+        + "s.key.parentKeyName, s.key.localName, t.name, t.version)"
+        + " FROM JpaPdpSubGroup s JOIN s.supportedPolicyTypes t ORDER BY s.key.parentKeyName, s.key.localName")
+    List<PdpSubGroupReference> findAllPolicyTypeSupport();
+
+    /**
+     * Count the references from PDP subgroups to deployed policies, as a cheap probe for deployment changes.
+     *
+     * @return the number of references
+     */
+    @Query("SELECT COUNT(p) FROM JpaPdpSubGroup s JOIN s.policies p")
+    long countPolicyDeployments();
+
+    /**
+     * Count the references from PDP subgroups to supported policy types, as a cheap probe for changes.
+     *
+     * @return the number of references
+     */
+    @Query("SELECT COUNT(t) FROM JpaPdpSubGroup s JOIN s.supportedPolicyTypes t")
+    long countPolicyTypeSupport();
+}
@@ -0,0 +1,33 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.repository;
+
+/**
+ * A reference from a PDP subgroup to a policy deployed in it, or to a policy type it supports.
+ *
+ * @param pdpGroupName the name of the PDP group
+ * @param pdpType the PDP type of the subgroup
+ * @param name the name of the policy or policy type
+ * @param version the version of the policy or policy type
+ */
+public record PdpSubGroupReference(String pdpGroupName, String pdpType, String name, String version) {
+}
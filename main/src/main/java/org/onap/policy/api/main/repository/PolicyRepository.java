@@ -1,6 +1,7 @@
 /*-
  * ============LICENSE_START=======================================================
  *  Copyright (C) 2022 Bell Canada. All rights reserved.
+ *  Modifications Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,12 +21,74 @@
 
 package org.onap.policy.api.main.repository;
 
+import java.util.List;
 import org.onap.policy.models.base.PfConceptKey;
 import org.onap.policy.models.tosca.simple.concepts.JpaToscaPolicy;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PolicyRepository extends JpaRepository<JpaToscaPolicy, PfConceptKey> {
 
-}
\ No newline at end of file
+    /**
+     * Remove the reference to a policy from the policies container of the service template, without loading the
+     * container or any of the other policies it holds.
+     *
+     * @param name the policy name
+     * @param version the policy version
+     * @return the number of references removed
+     */
+    @Modifying
+    @Query(value = "DELETE FROM ToscaPolicies_ToscaPolicy"
+        + " WHERE conceptContainerName = :name AND conceptContainerVersion = :version", nativeQuery = true)
+    int deletePolicyReference(@Param("name") String name, @Param("version") String version);
+
+    /**
+     * Add a reference to a policy to a policies container of the service template, without loading the container or
+     * any of the other policies it holds.
+     *
+     * @param containerName the name of the policies container
+     * @param containerVersion the version of the policies container
+     * @param name the policy name
+     * @param version the policy version
+     * @return the number of references added
+     */
+    @Modifying
+    @Query(value = "INSERT INTO ToscaPolicies_ToscaPolicy (conceptContainerMapName, concpetContainerMapVersion,"
+        + " conceptContainerName, conceptContainerVersion, name, version)"
+        + " VALUES (:containerName, :containerVersion, :name, :version, :name, :version)", nativeQuery = true)
+    int insertPolicyReference(@Param("containerName") String containerName,
+        @Param("containerVersion") String containerVersion, @Param("name") String name,
+        @Param("version") String version);
+
+    /**
+     * Find the keys of the policies of a policy type.
+     *
+     * @param name the name of the policy type
+     * @param version the version of the policy type
+     * @return the keys of the policies of the policy type, ordered by key
+     */
+    @Query("SELECT p.key FROM JpaToscaPolicy p WHERE p.type.name = :name AND p.type.version = :version"
+        + " ORDER BY p.key.name, p.key.version")
+    List<PfConceptKey> findKeysByType(@Param("name") String name, @Param("version") String version);
+
+    /**
+     * Find the keys of all the versions of a policy.
+     *
+     * @param name the policy name
+     * @return the keys of the versions of the policy
+     */
+    @Query("SELECT p.key FROM JpaToscaPolicy p WHERE p.key.name = :name")
+    List<PfConceptKey> findKeysByName(@Param("name") String name);
+
+    /**
+     * Find the keys of all the policies, without loading them.
+     *
+     * @return the keys of the policies
+     */
+    @Query("SELECT p.key FROM JpaToscaPolicy p")
+    List<PfConceptKey> findAllKeys();
+}
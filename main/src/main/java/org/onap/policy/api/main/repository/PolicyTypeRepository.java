@@ -1,6 +1,7 @@
 /*-
  * ============LICENSE_START=======================================================
  *  Copyright (C) 2022 Bell Canada. All rights reserved.
+ *  Modifications Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,12 +21,40 @@
 
 package org.onap.policy.api.main.repository;
 
+import java.util.Collection;
+import java.util.List;
 import org.onap.policy.models.base.PfConceptKey;
 import org.onap.policy.models.tosca.simple.concepts.JpaToscaPolicyType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PolicyTypeRepository extends JpaRepository<JpaToscaPolicyType, PfConceptKey> {
 
-}
\ No newline at end of file
+    /**
+     * Find the keys of the policy types directly derived from a policy type. A policy type has descendants if and only
+     * if it has at least one direct child, so this is sufficient to check whether a policy type is used as an ancestor.
+     *
+     * <p>A derived_from given by name only is stored with the null key version, and resolves to the latest version of
+     * the parent, so callers pass that version too when the parent is the latest version of its name.
+     *
+     * @param name the name of the parent policy type
+     * @param versions the versions of the parent policy type that derived_from may refer to
+     * @return the keys of the derived policy types, ordered by key
+     */
+    @Query("SELECT t.key FROM JpaToscaPolicyType t"
+        + " WHERE t.derivedFrom.name = :name AND t.derivedFrom.version IN :versions"
+        + " ORDER BY t.key.name, t.key.version")
+    List<PfConceptKey> findKeysByDerivedFrom(@Param("name") String name,
+        @Param("versions") Collection<String> versions);
+
+    /**
+     * Find the keys of all the policy types, without loading them.
+     *
+     * @return the keys of the policy types
+     */
+    @Query("SELECT t.key FROM JpaToscaPolicyType t")
+    List<PfConceptKey> findAllKeys();
+}
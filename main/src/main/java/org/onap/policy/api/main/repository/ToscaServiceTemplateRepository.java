@@ -1,6 +1,7 @@
 /*-
  * ============LICENSE_START=======================================================
  *  Copyright (C) 2022 Bell Canada. All rights reserved.
+ *  Modifications Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,12 +21,38 @@
 
 package org.onap.policy.api.main.repository;
 
+import java.util.Optional;
 import org.onap.policy.models.base.PfConceptKey;
 import org.onap.policy.models.tosca.simple.concepts.JpaToscaServiceTemplate;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ToscaServiceTemplateRepository extends JpaRepository<JpaToscaServiceTemplate, PfConceptKey> {
 
+    /**
+     * Find a single metadata value of a service template, without loading the service template.
+     *
+     * @param name the name of the service template
+     * @param version the version of the service template
+     * @param property the metadata property
+     * @return the metadata value, empty if the service template or the property does not exist
+     */
+    @Query("SELECT VALUE(m) FROM JpaToscaServiceTemplate t JOIN t.metadata m"
+        + " WHERE t.key.name = :name AND t.key.version = :version AND KEY(m) = :property")
+    Optional<String> findMetadataValue(@Param("name") String name, @Param("version") String version,
+        @Param("property") String property);
+
+    /**
+     * Find the key of the policies container of a service template, without loading the service template.
+     *
+     * @param name the name of the service template
+     * @param version the version of the service template
+     * @return the key of the policies container, empty if the service template has no policies container
+     */
+    @Query("SELECT t.topologyTemplate.policies.key FROM JpaToscaServiceTemplate t"
+        + " WHERE t.key.name = :name AND t.key.version = :version")
+    Optional<PfConceptKey> findPoliciesKey(@Param("name") String name, @Param("version") String version);
 }
\ No newline at end of file
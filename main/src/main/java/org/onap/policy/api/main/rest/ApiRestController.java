@@ -27,23 +27,31 @@
 package org.onap.policy.api.main.rest;
 
 import jakarta.ws.rs.core.Response.Status;
+import java.io.InputStream;
+import java.net.URI;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.onap.policy.api.main.exception.PolicyApiRuntimeException;
 import org.onap.policy.api.main.rest.genapi.PolicyDesignApi;
 import org.onap.policy.api.main.rest.provider.healthcheck.HealthCheckProvider;
+import org.onap.policy.api.main.service.PolicyCreateCombiner;
+import org.onap.policy.api.main.service.PolicyImportService;
+import org.onap.policy.api.main.service.PolicyWriteJobService;
 import org.onap.policy.api.main.service.ToscaServiceTemplateService;
-import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
-import org.onap.policy.common.message.bus.utils.NetLoggerUtil;
-import org.onap.policy.common.message.bus.utils.NetLoggerUtil.EventType;
 import org.onap.policy.common.utils.report.HealthCheckReport;
 import org.onap.policy.models.base.PfModelException;
 import org.onap.policy.models.base.PfModelRuntimeException;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaTypedEntityFilter;
 import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 /**
  * Class to provide REST API services.
@@ -57,6 +65,10 @@ public class ApiRestController extends CommonRestController implements PolicyDes
 
     private final ToscaServiceTemplateService toscaServiceTemplateService;
     private final HealthCheckProvider healthCheckProvider;
+    private final PolicyWriteJobService policyWriteJobService;
+    private final PolicyCreateCombiner policyCreateCombiner;
+    private final PolicyImportService policyImportService;
+    private final NetworkRequestLogger networkRequestLogger;
 
     /**
      * Retrieves the healthcheck status of the API component.
@@ -148,17 +160,22 @@ public class ApiRestController extends CommonRestController implements PolicyDes
     /**
      * Creates a new policy type.
      *
-     * @param body the body of policy type following TOSCA definition
+     * @param body  the body of policy type following TOSCA definition
+     * @param async whether the policy type is created by a background job
      * @return the Response object containing the results of the API operation
      */
     @Override
     public ResponseEntity<ToscaServiceTemplate> createPolicyType(
         ToscaServiceTemplate body,
+        Boolean async,
         UUID requestId) {
-        if (NetLoggerUtil.getNetworkLogger().isInfoEnabled()) {
-            NetLoggerUtil.log(EventType.IN, CommInfrastructure.REST, "/policytypes", toJson(body));
-        }
+        networkRequestLogger.logRequest("/policytypes", body);
         try {
+            if (Boolean.TRUE.equals(async)) {
+                var job = policyWriteJobService.submit("POST /policytypes",
+                    () -> toscaServiceTemplateService.createPolicyType(body));
+                return makeAcceptedResponse(requestId, makeJobLocation(job));
+            }
             lock();
             ToscaServiceTemplate serviceTemplate = toscaServiceTemplateService.createPolicyType(body);
             return makeCreatedResponse(requestId, serviceTemplate);
@@ -205,9 +222,9 @@ public class ApiRestController extends CommonRestController implements PolicyDes
         PolicyFetchMode mode,
         UUID requestId) {
         try {
-            ToscaServiceTemplate serviceTemplate =
-                toscaServiceTemplateService.fetchPolicies(policyTypeId, policyTypeVersion, null, null, mode);
-            return makeOkResponse(requestId, serviceTemplate);
+            PolicyReadResult serviceTemplate = new PolicyReadResult(
+                toscaServiceTemplateService.fetchJpaPolicies(policyTypeId, policyTypeVersion, null, null, mode, false));
+            return makeOkReadResponse(requestId, serviceTemplate);
         } catch (PfModelException | PfModelRuntimeException pfme) {
             var msg = String.format("GET /policytypes/%s/versions/%s/policies", policyTypeId, policyTypeVersion);
             throw new PolicyApiRuntimeException(msg, pfme.getCause(), pfme.getErrorResponse(), requestId);
@@ -230,9 +247,9 @@ public class ApiRestController extends CommonRestController implements PolicyDes
         PolicyFetchMode mode,
         UUID requestId) {
         try {
-            ToscaServiceTemplate serviceTemplate =
-                toscaServiceTemplateService.fetchPolicies(policyTypeId, policyTypeVersion, policyId, null, mode);
-            return makeOkResponse(requestId, serviceTemplate);
+            PolicyReadResult serviceTemplate = new PolicyReadResult(toscaServiceTemplateService
+                .fetchJpaPolicies(policyTypeId, policyTypeVersion, policyId, null, mode, false));
+            return makeOkReadResponse(requestId, serviceTemplate);
         } catch (PfModelException | PfModelRuntimeException pfme) {
             var msg = String.format("/policytypes/%s/versions/%s/policies/%s",
                 policyTypeId, policyTypeVersion, policyId);
@@ -259,10 +276,10 @@ public class ApiRestController extends CommonRestController implements PolicyDes
         Boolean skipMetadata,
         UUID requestId) {
         try {
-            ToscaServiceTemplate serviceTemplate = toscaServiceTemplateService
-                .fetchPolicies(policyTypeId, policyTypeVersion, policyId, policyVersion, mode,
-                    Boolean.TRUE.equals(skipMetadata));
-            return makeOkResponse(requestId, serviceTemplate);
+            PolicyReadResult serviceTemplate = new PolicyReadResult(toscaServiceTemplateService
+                .fetchJpaPolicies(policyTypeId, policyTypeVersion, policyId, policyVersion, mode,
+                    Boolean.TRUE.equals(skipMetadata)));
+            return makeOkReadResponse(requestId, serviceTemplate);
         } catch (PfModelException | PfModelRuntimeException pfme) {
             var msg = String.format("GET /policytypes/%s/versions/%s/policies/%s/versions/%s",
                 policyTypeId, policyTypeVersion, policyId, policyVersion);
@@ -286,9 +303,10 @@ public class ApiRestController extends CommonRestController implements PolicyDes
         PolicyFetchMode mode,
         UUID requestId) {
         try {
-            ToscaServiceTemplate serviceTemplate =
-                toscaServiceTemplateService.fetchLatestPolicies(policyTypeId, policyTypeVersion, policyId, mode);
-            return makeOkResponse(requestId, serviceTemplate);
+            PolicyReadResult serviceTemplate = new PolicyReadResult(toscaServiceTemplateService
+                .fetchJpaPolicies(policyTypeId, policyTypeVersion, policyId, ToscaTypedEntityFilter.LATEST_VERSION,
+                    mode, false));
+            return makeOkReadResponse(requestId, serviceTemplate);
         } catch (PfModelException | PfModelRuntimeException pfme) {
             var msg = String.format("GET /policytypes/%s/versions/%s/policies/%s/versions/latest",
                 policyTypeId, policyTypeVersion, policyId);
@@ -310,13 +328,11 @@ public class ApiRestController extends CommonRestController implements PolicyDes
         String policyTypeVersion,
         ToscaServiceTemplate body,
         UUID requestId) {
-        if (NetLoggerUtil.getNetworkLogger().isInfoEnabled()) {
-            NetLoggerUtil.log(EventType.IN, CommInfrastructure.REST,
-                "/policytypes/" + policyTypeId + "/versions/" + policyTypeVersion + "/policies", toJson(body));
-        }
+        networkRequestLogger.logRequest(
+            "/policytypes/" + policyTypeId + "/versions/" + policyTypeVersion + "/policies", body);
         try {
             lock();
-            ToscaServiceTemplate serviceTemplate = toscaServiceTemplateService.createPolicy(body);
+            ToscaServiceTemplate serviceTemplate = policyCreateCombiner.createPolicies(body);
             return makeCreatedResponse(requestId, serviceTemplate);
         } catch (PfModelRuntimeException pfme) {
             var msg = String.format("POST /policytypes/%s/versions/%s/policies", policyTypeId, policyTypeVersion);
@@ -362,9 +378,9 @@ public class ApiRestController extends CommonRestController implements PolicyDes
         PolicyFetchMode mode,
         UUID requestId) {
         try {
-            ToscaServiceTemplate serviceTemplate =
-                toscaServiceTemplateService.fetchPolicies(null, null, null, null, mode);
-            return makeOkResponse(requestId, serviceTemplate);
+            PolicyReadResult serviceTemplate = new PolicyReadResult(
+                toscaServiceTemplateService.fetchJpaPolicies(null, null, null, null, mode, false));
+            return makeOkReadResponse(requestId, serviceTemplate);
         } catch (PfModelException | PfModelRuntimeException pfme) {
             final var msg = "GET /policies/ --";
             if (pfme.getErrorResponse().getResponseCode().equals(Status.NOT_FOUND)) {
@@ -390,10 +406,10 @@ public class ApiRestController extends CommonRestController implements PolicyDes
         Boolean skipMetadata,
         UUID requestId) {
         try {
-            ToscaServiceTemplate serviceTemplate =
-                toscaServiceTemplateService.fetchPolicies(null, null, policyId, policyVersion, mode,
-                    Boolean.TRUE.equals(skipMetadata));
-            return makeOkResponse(requestId, serviceTemplate);
+            PolicyReadResult serviceTemplate = new PolicyReadResult(
+                toscaServiceTemplateService.fetchJpaPolicies(null, null, policyId, policyVersion, mode,
+                    Boolean.TRUE.equals(skipMetadata)));
+            return makeOkReadResponse(requestId, serviceTemplate);
         } catch (PfModelException | PfModelRuntimeException pfme) {
             var msg = String.format("GET /policies/%s/versions/%s", policyId, policyVersion);
             throw new PolicyApiRuntimeException(msg, pfme.getCause(), pfme.getErrorResponse(), requestId);
@@ -403,19 +419,24 @@ public class ApiRestController extends CommonRestController implements PolicyDes
     /**
      * Creates one or more new policies in one call.
      *
-     * @param body the body of policy following TOSCA definition
+     * @param body  the body of policy following TOSCA definition
+     * @param async whether the policies are created by a background job
      * @return the Response object containing the results of the API operation
      */
     @Override
     public ResponseEntity<ToscaServiceTemplate> createPolicies(
         ToscaServiceTemplate body,
+        Boolean async,
         UUID requestId) {
-        if (NetLoggerUtil.getNetworkLogger().isInfoEnabled()) {
-            NetLoggerUtil.log(EventType.IN, CommInfrastructure.REST, "/policies", toJson(body));
-        }
+        networkRequestLogger.logRequest("/policies", body);
         try {
+            if (Boolean.TRUE.equals(async)) {
+                var job = policyWriteJobService.submit("POST /policies",
+                    () -> toscaServiceTemplateService.createPolicies(body));
+                return makeAcceptedResponse(requestId, makeJobLocation(job));
+            }
             lock();
-            ToscaServiceTemplate serviceTemplate = toscaServiceTemplateService.createPolicies(body);
+            ToscaServiceTemplate serviceTemplate = policyCreateCombiner.createPolicies(body);
             return makeCreatedResponse(requestId, serviceTemplate);
         } catch (PfModelRuntimeException pfme) {
             final var msg = "POST /policies";
@@ -423,6 +444,75 @@ public class ApiRestController extends CommonRestController implements PolicyDes
         }
     }
 
+    /**
+     * Deletes several policies, or several versions of a policy, in one call.
+     *
+     * @param body the policies to delete
+     * @return the Response object containing the results of the API operation
+     */
+    @Override
+    public ResponseEntity<ToscaServiceTemplate> deletePolicies(
+        PolicyDeleteRequest body,
+        UUID requestId) {
+        try {
+            lock();
+            ToscaServiceTemplate serviceTemplate = toscaServiceTemplateService.deletePolicies(body);
+            return makeOkResponse(requestId, serviceTemplate);
+        } catch (PfModelRuntimeException pfme) {
+            final var msg = "POST /policies/delete";
+            throw new PolicyApiRuntimeException(msg, pfme.getCause(), pfme.getErrorResponse(), requestId);
+        }
+    }
+
+    /**
+     * Imports a large number of policies in chunks.
+     *
+     * @param body      the body of the policies following TOSCA definition
+     * @param chunkSize the number of policies validated and persisted together
+     * @return the Response object containing the outcome of the import of each chunk
+     */
+    @Override
+    public ResponseEntity<PolicyImportReport> importPolicies(
+        ToscaServiceTemplate body,
+        Integer chunkSize,
+        UUID requestId) {
+        networkRequestLogger.logRequest("/policies/import", body);
+        try {
+            lock();
+            PolicyImportReport report = policyImportService.importPolicies(body,
+                chunkSize == null ? PolicyImportService.DEFAULT_IMPORT_CHUNK_SIZE : chunkSize);
+            return makeImportResponse(requestId, report);
+        } catch (PfModelRuntimeException pfme) {
+            final var msg = "POST /policies/import";
+            throw new PolicyApiRuntimeException(msg, pfme.getCause(), pfme.getErrorResponse(), requestId);
+        }
+    }
+
+    /**
+     * Imports a large number of policies in chunks from a stream of newline delimited JSON service templates, one per
+     * line. The stream is read as the import progresses, so it is never held in memory as a whole.
+     *
+     * @param body      the stream of service templates
+     * @param chunkSize the number of policies validated and persisted together
+     * @return the Response object containing the outcome of the import of each chunk
+     */
+    @PostMapping(value = "/policies/import", consumes = "application/x-ndjson",
+        produces = {"application/json", "application/yaml"})
+    public ResponseEntity<PolicyImportReport> importPolicyStream(
+        InputStream body,
+        @RequestParam(value = "chunkSize", required = false) Integer chunkSize,
+        @RequestHeader(value = "X-ONAP-RequestID", required = false) UUID requestId) {
+        try {
+            lock();
+            PolicyImportReport report = policyImportService.importPolicies(new NdjsonServiceTemplateReader(body),
+                chunkSize == null ? PolicyImportService.DEFAULT_IMPORT_CHUNK_SIZE : chunkSize);
+            return makeImportResponse(requestId, report);
+        } catch (PfModelRuntimeException pfme) {
+            final var msg = "POST /policies/import";
+            throw new PolicyApiRuntimeException(msg, pfme.getCause(), pfme.getErrorResponse(), requestId);
+        }
+    }
+
     /**
      * Deletes the specified version of a particular policy.
      *
@@ -445,4 +535,46 @@ public class ApiRestController extends CommonRestController implements PolicyDes
             throw new PolicyApiRuntimeException(msg, pfme.getCause(), pfme.getErrorResponse(), requestId);
         }
     }
-}
+
+    /**
+     * Retrieves the status of an asynchronous write job.
+     *
+     * @param jobId the ID of the job
+     * @return the Response object containing the status of the job
+     */
+    @Override
+    public ResponseEntity<PolicyWriteJob> getWriteJob(
+        UUID jobId,
+        UUID requestId) {
+        try {
+            return makeOkResponse(requestId, policyWriteJobService.getJob(jobId));
+        } catch (PfModelRuntimeException pfme) {
+            var msg = String.format("GET /jobs/%s", jobId);
+            throw new PolicyApiRuntimeException(msg, pfme.getCause(), pfme.getErrorResponse(), requestId);
+        }
+    }
+
+    private ResponseEntity<PolicyImportReport> makeImportResponse(UUID requestId, PolicyImportReport report) {
+        final var status = report.getFailedPolicies() > 0 ? HttpStatus.MULTI_STATUS : HttpStatus.OK;
+        return makeResponse(requestId, report, status.value());
+    }
+
+    private URI makeJobLocation(PolicyWriteJob job) {
+        return ServletUriComponentsBuilder.fromCurrentContextPath().path("/jobs/{jobId}")
+            .buildAndExpand(job.getId()).toUri();
+    }
+
+    /**
+     * Makes the response to a policy read. The response body is declared and documented as the authorative service
+     * template, which the policy read result is written as by the message converters, since they write a body by its
+     * runtime type, through {@link org.onap.policy.api.main.config.converter.PolicyReadResultTypeAdapterFactory}.
+     *
+     * @param requestId the request ID
+     * @param readResult the policy read result
+     * @return the response
+     */
+    @SuppressWarnings("unchecked")
+    private ResponseEntity<ToscaServiceTemplate> makeOkReadResponse(UUID requestId, PolicyReadResult readResult) {
+        return (ResponseEntity<ToscaServiceTemplate>) (ResponseEntity<?>) makeOkResponse(requestId, readResult);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,143 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.rest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+
+/**
+ * A bounded execution lane. At most a fixed number of requests execute in the lane at the same time, at most a fixed
+ * number wait for their turn, and a waiting request gives up after a maximum wait. Its activity is reported in the
+ * {@value #METRIC_PREFIX}.* meters, tagged with the name of the lane.
+ */
+class Bulkhead {
+
+    static final String METRIC_PREFIX = "policy.api.bulkhead";
+
+    /**
+     * Outcome of a request to enter the lane.
+     */
+    enum Admission {
+        ADMITTED,
+        QUEUE_FULL,
+        TIMED_OUT
+    }
+
+    @Getter
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final long maxWaitMillis;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Counter queueFullCounter;
+    private final Counter timedOutCounter;
+
+    /**
+     * Constructs the lane.
+     *
+     * @param name          the name of the lane
+     * @param maxConcurrent the maximum number of requests executing in the lane
+     * @param maxQueued     the maximum number of requests waiting to execute
+     * @param maxWaitMillis the maximum time a request waits to execute
+     * @param registry      the registry the activity of the lane is reported in, or {@code null}
+     */
+    Bulkhead(String name, int maxConcurrent, int maxQueued, long maxWaitMillis, MeterRegistry registry) {
+        this.name = name;
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.maxQueued = Math.max(0, maxQueued);
+        this.maxWaitMillis = maxWaitMillis;
+        this.permits = new Semaphore(this.maxConcurrent, true);
+
+        if (registry != null) {
+            Gauge.builder(METRIC_PREFIX + ".active", this, Bulkhead::getActive)
+                .description("Requests executing in the lane").tag("lane", name).register(registry);
+            Gauge.builder(METRIC_PREFIX + ".queued", this, Bulkhead::getQueued)
+                .description("Requests waiting to execute in the lane").tag("lane", name).register(registry);
+            queueFullCounter = Counter.builder(METRIC_PREFIX + ".rejected").description("Requests rejected by the lane")
+                .tag("lane", name).tag("reason", "queue-full").register(registry);
+            timedOutCounter = Counter.builder(METRIC_PREFIX + ".rejected").description("Requests rejected by the lane")
+                .tag("lane", name).tag("reason", "timeout").register(registry);
+        } else {
+            queueFullCounter = null;
+            timedOutCounter = null;
+        }
+    }
+
+    /**
+     * Enters the lane, waiting if all its permits are taken. A request that is admitted must {@link #leave()}.
+     *
+     * @return whether the request is admitted, or the reason it is not
+     */
+    Admission enter() {
+        try {
+            // a zero timeout respects the fairness of the semaphore, unlike a plain tryAcquire()
+            if (permits.tryAcquire(0, TimeUnit.MILLISECONDS)) {
+                return Admission.ADMITTED;
+            }
+
+            if (queued.incrementAndGet() > maxQueued) {
+                queued.decrementAndGet();
+                increment(queueFullCounter);
+                return Admission.QUEUE_FULL;
+            }
+            try {
+                if (permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+                    return Admission.ADMITTED;
+                }
+            } finally {
+                queued.decrementAndGet();
+            }
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+        }
+
+        increment(timedOutCounter);
+        return Admission.TIMED_OUT;
+    }
+
+    /**
+     * Leaves the lane, after an admitted request has executed.
+     */
+    void leave() {
+        permits.release();
+    }
+
+    int getActive() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    int getQueued() {
+        return queued.get();
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
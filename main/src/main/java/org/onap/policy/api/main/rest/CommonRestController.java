@@ -25,6 +25,7 @@
 package org.onap.policy.api.main.rest;
 
 import jakarta.ws.rs.core.Response;
+import java.net.URI;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.Semaphore;
@@ -66,6 +67,12 @@ public class CommonRestController {
         return makeResponse(requestId, respEntity, HttpStatus.CREATED.value());
     }
 
+    protected <T> ResponseEntity<T> makeAcceptedResponse(UUID requestId, URI location) {
+        return CommonRestController
+            .addLoggingHeaders(addVersionControlHeaders(ResponseEntity.status(HttpStatus.ACCEPTED)), requestId)
+            .location(location).build();
+    }
+
     protected <T> ResponseEntity<T> makeResponse(UUID requestId, T respEntity, int status) {
         return CommonRestController
             .addLoggingHeaders(addVersionControlHeaders(ResponseEntity.status(status)), requestId)
@@ -0,0 +1,147 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.rest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.ws.rs.core.Response;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.models.errors.concepts.ErrorResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Limits the number of requests executed at the same time to the size of the database connection pool. Request
+ * threads are no longer a limit when requests run on virtual threads, and without this limit thousands of them would
+ * queue on the connection pool, each holding its request in memory until the pool times out. A request that cannot be
+ * admitted within the configured wait is answered with 503 and a Retry-After header. The health and metrics endpoints
+ * are always admitted, so that probes keep working under load.
+ */
+@Component
+@Order(RequestFilterOrder.DATABASE_ADMISSION)
+public class DatabaseAdmissionFilter extends OncePerRequestFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseAdmissionFilter.class);
+
+    private static final List<String> ALWAYS_ADMITTED_PATHS = List.of("/health", "/metrics", "/plain-metrics");
+
+    private final boolean enabled;
+    private final int maxConcurrent;
+    private final long waitMillis;
+    private final String retryAfterSeconds;
+    private final Semaphore permits;
+    private final StandardCoder coder = new StandardCoder();
+
+    /**
+     * Constructs the filter.
+     *
+     * @param enabled         whether requests are limited, by default when they run on virtual threads
+     * @param maxConcurrent   the maximum number of requests executed at the same time, 0 for the pool size
+     * @param poolSize        the maximum size of the database connection pool
+     * @param waitMillis      how long a request waits to be admitted
+     * @param retryAfterSecs  the delay after which a rejected request may be retried
+     */
+    public DatabaseAdmissionFilter(
+        @Value("${policy-api.admission.enabled:${spring.threads.virtual.enabled:false}}") boolean enabled,
+        @Value("${policy-api.admission.max-concurrent:0}") int maxConcurrent,
+        @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+        @Value("${policy-api.admission.wait-ms:5000}") long waitMillis,
+        @Value("${policy-api.admission.retry-after-seconds:1}") int retryAfterSecs) {
+        this.enabled = enabled;
+        this.maxConcurrent = Math.max(1, maxConcurrent > 0 ? maxConcurrent : poolSize);
+        this.waitMillis = waitMillis;
+        this.retryAfterSeconds = String.valueOf(retryAfterSecs);
+        this.permits = new Semaphore(this.maxConcurrent, true);
+        if (enabled) {
+            LOGGER.info("admitting at most {} concurrent requests", this.maxConcurrent);
+        }
+    }
+
+    /**
+     * Gets the number of requests that can be admitted without waiting.
+     *
+     * @return the number of available permits
+     */
+    public int getAvailable() {
+        return permits.availablePermits();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled) {
+            return true;
+        }
+        final var path = request.getServletPath();
+        return ALWAYS_ADMITTED_PATHS.stream().anyMatch(prefix -> path.equals(prefix) || path.startsWith(prefix + "/"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        try {
+            if (!permits.tryAcquire(waitMillis, TimeUnit.MILLISECONDS)) {
+                LOGGER.debug("{} {} not admitted, {} requests in progress", request.getMethod(),
+                    request.getRequestURI(), maxConcurrent);
+                writeUnavailable(response);
+                return;
+            }
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+            writeUnavailable(response);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void writeUnavailable(HttpServletResponse response) throws IOException {
+        final var errorResponse = new ErrorResponse();
+        errorResponse.setResponseCode(Response.Status.SERVICE_UNAVAILABLE);
+        errorResponse.setErrorMessage("too many requests in progress, retry later");
+        response.setStatus(Response.Status.SERVICE_UNAVAILABLE.getStatusCode());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try {
+            response.getOutputStream().write(coder.encode(errorResponse).getBytes(StandardCharsets.UTF_8));
+        } catch (CoderException exc) {
+            throw new IOException(exc);
+        }
+    }
+}
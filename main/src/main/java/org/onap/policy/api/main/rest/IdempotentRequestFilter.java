@@ -0,0 +1,435 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.rest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.ws.rs.core.Response;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.models.errors.concepts.ErrorResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Makes retried write requests idempotent. The successful response to a POST, PUT or DELETE request that carries an
+ * X-ONAP-RequestID header is retained for a limited time, keyed by the request ID and a hash of the request. A repeated
+ * request is answered with the retained response without being executed again, and a request repeated while the
+ * original is still being executed waits for the outcome of the original. Only successful responses are retained, so
+ * that a failed request can be retried. The number and total size of the retained responses are bounded. The body of
+ * a request is read up to a bounded size, whether or not its length is declared, and a request whose body is larger is
+ * executed without being cached. Streamed NDJSON imports are not cached, since their bodies are not read up front.
+ * Responses are only buffered for requests that are cached, so that other responses are still streamed.
+ */
+@Component
+@Order(RequestFilterOrder.IDEMPOTENCY)
+public class IdempotentRequestFilter extends OncePerRequestFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IdempotentRequestFilter.class);
+
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("POST", "PUT", "DELETE");
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final long maxBytes;
+    private final long maxRequestBytes;
+    private final long inFlightWaitMillis;
+
+    private final Map<String, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final Queue<CacheEntry> storedEntries = new ConcurrentLinkedQueue<>();
+    private final AtomicLong storedBytes = new AtomicLong();
+    private final StandardCoder coder = new StandardCoder();
+
+    /**
+     * A response that is retained for replay.
+     */
+    private record StoredResponse(int status, String contentType, Map<String, List<String>> headers, byte[] body) {
+    }
+
+    /**
+     * An entry of the cache, whose response is available once the original request completes. The response is null if
+     * the original request did not succeed.
+     */
+    private static final class CacheEntry {
+        private final String key;
+        private final CompletableFuture<StoredResponse> response = new CompletableFuture<>();
+        private volatile long storedAt;
+
+        CacheEntry(String key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * Constructs the filter.
+     *
+     * @param enabled            whether retried requests are answered from the cache
+     * @param ttlSeconds         how long a response is retained
+     * @param maxEntries         the maximum number of retained responses
+     * @param maxBytes           the maximum total size of the retained response bodies
+     * @param maxRequestBytes    the maximum size of the body of a request that carries a request ID
+     * @param inFlightWaitMillis how long a repeated request waits for the original request to complete
+     */
+    public IdempotentRequestFilter(@Value("${policy-api.idempotency.enabled:true}") boolean enabled,
+        @Value("${policy-api.idempotency.ttl-seconds:600}") long ttlSeconds,
+        @Value("${policy-api.idempotency.max-entries:1000}") int maxEntries,
+        @Value("${policy-api.idempotency.max-bytes:67108864}") long maxBytes,
+        @Value("${policy-api.idempotency.max-request-bytes:10485760}") long maxRequestBytes,
+        @Value("${policy-api.idempotency.in-flight-wait-ms:60000}") long inFlightWaitMillis) {
+        this.enabled = enabled;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.maxRequestBytes = maxRequestBytes;
+        this.inFlightWaitMillis = inFlightWaitMillis;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !IDEMPOTENT_METHODS.contains(request.getMethod())
+            || request.getHeader(CommonRestController.REQUEST_ID_NAME) == null
+            || isNdjson(request.getContentType());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        if (request.getContentLengthLong() > maxRequestBytes) {
+            LOGGER.debug("request body is larger than {} bytes, request is not cached", maxRequestBytes);
+            chain.doFilter(request, response);
+            return;
+        }
+
+        // the body is read through a bounded read whether or not its length is declared, so that a request without a
+        // Content-Length cannot exceed the limit; a larger body is passed on with the part already read put back
+        final var body =
+            request.getInputStream().readNBytes((int) Math.min(maxRequestBytes + 1, Integer.MAX_VALUE - 8L));
+        if (body.length > maxRequestBytes) {
+            LOGGER.debug("request body is larger than {} bytes, request is not cached", maxRequestBytes);
+            chain.doFilter(new PartlyReadBodyRequest(request, body), response);
+            return;
+        }
+
+        final var cachedRequest = new CachedBodyRequest(request, body);
+        final var key = makeKey(cachedRequest);
+
+        final var entry = new CacheEntry(key);
+        var existing = entries.putIfAbsent(key, entry);
+        while (existing != null && isExpired(existing)) {
+            removeEntry(existing);
+            existing = entries.putIfAbsent(key, entry);
+        }
+
+        if (existing != null) {
+            replayOrExecute(existing, cachedRequest, response, chain);
+            return;
+        }
+
+        final var responseWrapper = new ContentCachingResponseWrapper(response);
+        StoredResponse storedResponse = null;
+        try {
+            chain.doFilter(cachedRequest, responseWrapper);
+            storedResponse = captureResponse(responseWrapper);
+        } finally {
+            completeEntry(entry, storedResponse);
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replayOrExecute(CacheEntry existing, HttpServletRequest request, HttpServletResponse response,
+        FilterChain chain) throws ServletException, IOException {
+        final StoredResponse storedResponse;
+        try {
+            storedResponse = existing.response.get(inFlightWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException exc) {
+            writeError(response, Response.Status.CONFLICT,
+                "a request with the same " + CommonRestController.REQUEST_ID_NAME + " is still in progress");
+            return;
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+            writeError(response, Response.Status.SERVICE_UNAVAILABLE, "interrupted waiting for the original request");
+            return;
+        } catch (ExecutionException exc) {
+            throw new ServletException(exc.getCause());
+        }
+
+        if (storedResponse == null) {
+            // the original request failed, so the retry is executed
+            chain.doFilter(request, response);
+            return;
+        }
+
+        LOGGER.debug("replaying response to request {}", existing.key);
+        response.setStatus(storedResponse.status());
+        storedResponse.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        if (storedResponse.contentType() != null) {
+            response.setContentType(storedResponse.contentType());
+        }
+        response.setContentLength(storedResponse.body().length);
+        response.getOutputStream().write(storedResponse.body());
+    }
+
+    private StoredResponse captureResponse(ContentCachingResponseWrapper responseWrapper) {
+        final var status = responseWrapper.getStatus();
+        if (status < HttpServletResponse.SC_OK || status >= HttpServletResponse.SC_MULTIPLE_CHOICES) {
+            return null;
+        }
+        final Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (final var name : responseWrapper.getHeaderNames()) {
+            if (!HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)
+                && !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                headers.put(name, List.copyOf(responseWrapper.getHeaders(name)));
+            }
+        }
+        return new StoredResponse(status, responseWrapper.getContentType(), headers,
+            responseWrapper.getContentAsByteArray());
+    }
+
+    private void completeEntry(CacheEntry entry, StoredResponse storedResponse) {
+        if (storedResponse == null || storedResponse.body().length > maxBytes) {
+            entries.remove(entry.key, entry);
+            entry.response.complete(null);
+            return;
+        }
+
+        entry.storedAt = System.currentTimeMillis();
+        entry.response.complete(storedResponse);
+        storedBytes.addAndGet(storedResponse.body().length);
+        storedEntries.add(entry);
+
+        // entries are stored in the order in which they expire, so the oldest are evicted first
+        CacheEntry oldest;
+        while ((oldest = storedEntries.peek()) != null
+            && (storedEntries.size() > maxEntries || storedBytes.get() > maxBytes || isExpired(oldest))) {
+            if (storedEntries.remove(oldest)) {
+                removeEntry(oldest);
+            }
+        }
+    }
+
+    private static boolean isNdjson(String contentType) {
+        try {
+            return contentType != null && APPLICATION_NDJSON.includes(MediaType.parseMediaType(contentType));
+        } catch (InvalidMediaTypeException exc) {
+            return false;
+        }
+    }
+
+    private boolean isExpired(CacheEntry entry) {
+        final var storedAt = entry.storedAt;
+        return storedAt > 0 && System.currentTimeMillis() - storedAt > ttlMillis;
+    }
+
+    private void removeEntry(CacheEntry entry) {
+        if (entries.remove(entry.key, entry)) {
+            final var storedResponse = entry.response.getNow(null);
+            if (storedResponse != null) {
+                storedBytes.addAndGet(-storedResponse.body().length);
+            }
+        }
+    }
+
+    private String makeKey(CachedBodyRequest request) throws ServletException {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256");
+            for (final var part : new String[] {request.getMethod(), request.getRequestURI(), request.getQueryString(),
+                request.getRemoteUser(), request.getContentType()}) {
+                digest.update(Objects.toString(part, "").getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            digest.update(request.body);
+            return request.getHeader(CommonRestController.REQUEST_ID_NAME) + ':'
+                + HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException exc) {
+            throw new ServletException(exc);
+        }
+    }
+
+    private void writeError(HttpServletResponse response, Response.Status status, String message)
+        throws IOException {
+        final var errorResponse = new ErrorResponse();
+        errorResponse.setResponseCode(status);
+        errorResponse.setErrorMessage(message);
+        response.setStatus(status.getStatusCode());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try {
+            response.getOutputStream().write(coder.encode(errorResponse).getBytes(StandardCharsets.UTF_8));
+        } catch (CoderException exc) {
+            throw new IOException(exc);
+        }
+    }
+
+    /**
+     * Request whose body is read up front, so that it can be hashed and then read again by the controller.
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            final var inputStream = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return inputStream.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    // the whole body is already available
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        readListener.onAllDataRead();
+                    } catch (IOException exc) {
+                        readListener.onError(exc);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return inputStream.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return inputStream.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            final var charset = getCharacterEncoding() == null ? StandardCharsets.UTF_8.name() : getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), Charset.forName(charset)));
+        }
+    }
+
+    /**
+     * Request whose body was partly read up front, which reads the part already read and then the rest of the body.
+     */
+    private static class PartlyReadBodyRequest extends HttpServletRequestWrapper {
+        private final ServletInputStream inputStream;
+        private BufferedReader reader;
+
+        PartlyReadBodyRequest(HttpServletRequest request, byte[] readPart) throws IOException {
+            super(request);
+            final var readPartStream = new ByteArrayInputStream(readPart);
+            final var remainder = request.getInputStream();
+            this.inputStream = new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return readPartStream.available() == 0 && remainder.isFinished();
+                }
+
+                @Override
+                public boolean isReady() {
+                    return readPartStream.available() > 0 || remainder.isReady();
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    // the container notifies the listener about the rest of the body, which is read after the part
+                    // already read
+                    remainder.setReadListener(readListener);
+                }
+
+                @Override
+                public int read() throws IOException {
+                    return readPartStream.available() > 0 ? readPartStream.read() : remainder.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    if (length == 0) {
+                        return 0;
+                    }
+                    return readPartStream.available() > 0 ? readPartStream.read(buffer, offset, length)
+                        : remainder.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            if (reader == null) {
+                final var charset =
+                    getCharacterEncoding() == null ? StandardCharsets.UTF_8.name() : getCharacterEncoding();
+                reader = new BufferedReader(new InputStreamReader(inputStream, Charset.forName(charset)));
+            }
+            return reader;
+        }
+    }
+}
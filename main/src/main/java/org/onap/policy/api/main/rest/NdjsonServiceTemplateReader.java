@@ -0,0 +1,92 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.rest;
+
+import jakarta.ws.rs.core.Response;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.onap.policy.common.utils.coder.Coder;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.models.base.PfModelRuntimeException;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+
+/**
+ * Reads a stream of newline delimited JSON TOSCA service templates, one per line. A line is only read and decoded when
+ * the next service template is requested, so the stream is never held in memory as a whole. Blank lines are skipped.
+ */
+class NdjsonServiceTemplateReader implements Iterator<ToscaServiceTemplate> {
+
+    private final Coder coder = new StandardCoder();
+    private final BufferedReader reader;
+    private int lineNumber;
+    private String nextLine;
+
+    /**
+     * Constructs the reader.
+     *
+     * @param stream the stream to read, which is left open
+     */
+    NdjsonServiceTemplateReader(final InputStream stream) {
+        this.reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (nextLine == null) {
+                final var line = reader.readLine();
+                if (line == null) {
+                    return false;
+                }
+                lineNumber++;
+                if (!line.isBlank()) {
+                    nextLine = line;
+                }
+            }
+            return true;
+        } catch (IOException exc) {
+            throw new PfModelRuntimeException(Response.Status.BAD_REQUEST,
+                "cannot read the TOSCA service template on line " + (lineNumber + 1), exc);
+        }
+    }
+
+    @Override
+    public ToscaServiceTemplate next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final var line = nextLine;
+        nextLine = null;
+        try {
+            return coder.decode(line, ToscaServiceTemplate.class);
+        } catch (CoderException exc) {
+            throw new PfModelRuntimeException(Response.Status.BAD_REQUEST,
+                "invalid TOSCA service template on line " + lineNumber, exc);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.rest;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
+import org.onap.policy.common.message.bus.utils.NetLoggerUtil;
+import org.onap.policy.common.message.bus.utils.NetLoggerUtil.EventType;
+import org.onap.policy.common.utils.coder.Coder;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * Logs the bodies of incoming requests on the network logger without holding up the requests. While the network logger
+ * is enabled, the bodies of mutating requests are captured, up to a maximum size, as they are read, so that the
+ * received bytes are logged rather than the decoded body being encoded again. Log entries are written by a background
+ * thread from a bounded queue; entries are dropped, and the number dropped reported, when the queue is full.
+ */
+@Component
+@Order(RequestFilterOrder.NETWORK_LOGGER)
+public class NetworkRequestLogger extends OncePerRequestFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NetworkRequestLogger.class);
+
+    private static final Set<String> LOGGED_METHODS = Set.of("POST", "PUT");
+
+    private final Coder coder = new StandardCoder();
+    private final int maxPayloadBytes;
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong droppedEntries = new AtomicLong();
+
+    /**
+     * Constructs the logger.
+     *
+     * @param maxPayloadBytes the maximum number of bytes of a request body to log, longer bodies are truncated
+     * @param maxQueued       the maximum number of log entries waiting to be written
+     */
+    public NetworkRequestLogger(@Value("${policy-api.network-log.max-payload-bytes:65536}") int maxPayloadBytes,
+        @Value("${policy-api.network-log.max-queued:1000}") int maxQueued) {
+        this.maxPayloadBytes = maxPayloadBytes;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(maxQueued),
+            runnable -> {
+                final var thread = new Thread(runnable, "policy-api-network-log");
+                thread.setDaemon(true);
+                return thread;
+            }, (runnable, pool) -> droppedEntries.incrementAndGet());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !LOGGED_METHODS.contains(request.getMethod()) || !NetLoggerUtil.getNetworkLogger().isInfoEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        filterChain.doFilter(new ContentCachingRequestWrapper(request, maxPayloadBytes), response);
+    }
+
+    /**
+     * Logs the body of the current request on the network logger, if it is enabled.
+     *
+     * @param path the path of the request
+     * @param body the decoded body, encoded only if the received body was not captured
+     */
+    public void logRequest(String path, Object body) {
+        if (!NetLoggerUtil.getNetworkLogger().isInfoEnabled()) {
+            return;
+        }
+
+        final var cachingRequest = getCachingRequest();
+        if (cachingRequest == null) {
+            // the body may be changed once the request proceeds, so it is encoded now
+            final var payload = truncate(toJson(body));
+            executor.execute(() -> write(path, payload));
+            return;
+        }
+
+        final var content = cachingRequest.getContentAsByteArray();
+        final var contentLength = cachingRequest.getContentLengthLong();
+        final var charset = getCharset(cachingRequest);
+        executor.execute(() -> write(path, toPayload(content, contentLength, charset)));
+    }
+
+    /**
+     * Shuts the logger down, writing the entries that are waiting.
+     *
+     * @throws InterruptedException if interrupted while waiting for the entries to be written
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            LOGGER.warn("network log entries still waiting at shutdown were discarded");
+        }
+    }
+
+    /**
+     * Builds the payload to log from the captured bytes of a request body.
+     *
+     * @param content       the captured bytes
+     * @param contentLength the length of the whole body, or -1 if it is not known
+     * @param charset       the character set of the body
+     * @return the payload to log
+     */
+    String toPayload(byte[] content, long contentLength, Charset charset) {
+        final var length = Math.min(content.length, maxPayloadBytes);
+        final var payload = new String(content, 0, length, charset);
+        if (contentLength >= 0 ? length < contentLength : length == maxPayloadBytes) {
+            return payload + "... [truncated, " + (contentLength < 0 ? "at least " + length : contentLength)
+                + " bytes]";
+        }
+        return payload;
+    }
+
+    private String truncate(String payload) {
+        if (payload == null || payload.length() <= maxPayloadBytes) {
+            return payload;
+        }
+        return payload.substring(0, maxPayloadBytes) + "... [truncated, " + payload.length() + " characters]";
+    }
+
+    private void write(String path, String payload) {
+        final var dropped = droppedEntries.getAndSet(0);
+        if (dropped > 0) {
+            LOGGER.warn("{} network log entries were dropped because the log queue was full", dropped);
+        }
+        NetLoggerUtil.log(EventType.IN, CommInfrastructure.REST, path, payload);
+    }
+
+    private ContentCachingRequestWrapper getCachingRequest() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return WebUtils.getNativeRequest(attributes.getRequest(), ContentCachingRequestWrapper.class);
+        }
+        return null;
+    }
+
+    private Charset getCharset(HttpServletRequest request) {
+        try {
+            return request.getCharacterEncoding() == null ? StandardCharsets.UTF_8
+                : Charset.forName(request.getCharacterEncoding());
+        } catch (IllegalArgumentException exc) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+
+    private String toJson(Object object) {
+        if (object == null) {
+            return null;
+        }
+
+        try {
+            return coder.encode(object);
+        } catch (CoderException e) {
+            LOGGER.warn("cannot convert {} to JSON", object.getClass().getName(), e);
+            return null;
+        }
+    }
+}
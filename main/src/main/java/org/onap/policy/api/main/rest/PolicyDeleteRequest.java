@@ -0,0 +1,56 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.api.main.rest;
+
+import java.util.List;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
+
+/**
+ * Identifies the policies to delete in a bulk deletion, either as an explicit list of policies or as the versions of a
+ * policy that lie in a version range.
+ */
+@Data
+@NoArgsConstructor
+public class PolicyDeleteRequest {
+
+    /**
+     * The policies to delete, each with a name and a version.
+     */
+    private List<ToscaConceptIdentifier> policies;
+
+    /**
+     * The name of the policy whose versions are to be deleted.
+     */
+    private String name;
+
+    /**
+     * The lowest version to delete (inclusive), all versions below the maximum version are deleted if not set.
+     */
+    private String minVersion;
+
+    /**
+     * The version above the highest version to delete (exclusive), all versions from the minimum version are deleted
+     * if not set.
+     */
+    private String maxVersion;
+}
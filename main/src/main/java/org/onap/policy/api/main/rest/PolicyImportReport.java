@@ -0,0 +1,73 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.api.main.rest;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a bulk policy import, reported chunk by chunk.
+ */
+@Data
+@NoArgsConstructor
+public class PolicyImportReport {
+
+    private int chunkSize;
+    private int totalPolicies;
+    private int importedPolicies;
+    private int unchangedPolicies;
+    private int failedPolicies;
+    private List<ChunkResult> chunks = new ArrayList<>();
+
+    /**
+     * Outcome of the import of a single chunk of policies.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ChunkResult {
+        private int index;
+        private int firstPolicy;
+        private int policyCount;
+        private int importedPolicies;
+        private int unchangedPolicies;
+        private boolean successful;
+        private String message;
+    }
+
+    /**
+     * Records the outcome of a chunk and updates the totals.
+     *
+     * @param chunkResult the outcome of the chunk
+     */
+    public void addChunk(final ChunkResult chunkResult) {
+        chunks.add(chunkResult);
+        totalPolicies += chunkResult.getPolicyCount();
+        importedPolicies += chunkResult.getImportedPolicies();
+        unchangedPolicies += chunkResult.getUnchangedPolicies();
+        if (!chunkResult.isSuccessful()) {
+            failedPolicies += chunkResult.getPolicyCount();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.rest;
+
+import com.google.gson.annotations.JsonAdapter;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.onap.policy.api.main.config.converter.PolicyReadResultTypeAdapterFactory;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaServiceTemplate;
+
+/**
+ * The policies found by a policy read, as the JPA service template they were read into. Any Gson instance writes it
+ * as the authorative service template it maps to, through {@link PolicyReadResultTypeAdapterFactory}, without
+ * decoding the stored property values of the policies. The JPA service template must not be changed. It is the
+ * internal form of the service template returned by the policy read operations, whose documented response body is
+ * the authorative service template.
+ */
+@Getter
+@RequiredArgsConstructor
+@JsonAdapter(PolicyReadResultTypeAdapterFactory.class)
+public class PolicyReadResult {
+
+    @NonNull
+    private final JpaToscaServiceTemplate serviceTemplate;
+}
@@ -0,0 +1,53 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.rest;
+
+import java.util.UUID;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.onap.policy.models.errors.concepts.ErrorResponse;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+
+/**
+ * Status of a write that was queued for asynchronous execution. The job is updated by the thread that executes it
+ * while it is read by the threads that report its status, hence its fields are volatile.
+ */
+@Data
+@NoArgsConstructor
+public class PolicyWriteJob {
+
+    /**
+     * Lifecycle states of a write job.
+     */
+    public enum JobStatus {
+        QUEUED, RUNNING, SUCCEEDED, FAILED
+    }
+
+    private volatile UUID id;
+    private volatile String operation;
+    private volatile JobStatus status;
+    private volatile String submittedAt;
+    private volatile String startedAt;
+    private volatile String finishedAt;
+    private volatile ToscaServiceTemplate result;
+    private volatile ErrorResponse error;
+}
@@ -0,0 +1,103 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.rest;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Reports the number of bytes allocated by the thread that handles each request, including the encoding of its
+ * response, in the {@value #METRIC_NAME} distribution summary, tagged with the method, URI pattern and status of the
+ * request, and at debug level in the log. Allocation rate is what drives garbage collection pauses under load, so
+ * this is what shows the effect of changes to the request and response paths.
+ */
+@Component
+@Order(RequestFilterOrder.ALLOCATION_RECORDER)
+public class RequestAllocationRecorder extends OncePerRequestFilter {
+
+    public static final String METRIC_NAME = "policy.api.request.allocation";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RequestAllocationRecorder.class);
+
+    private final com.sun.management.ThreadMXBean threadBean;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final boolean enabled;
+
+    /**
+     * Constructs the recorder.
+     *
+     * @param meterRegistry the registry the allocations are reported in, if there is one
+     * @param enabled       whether allocations are reported
+     */
+    public RequestAllocationRecorder(ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${policy-api.allocation-reporting.enabled:true}") boolean enabled) {
+        this.meterRegistry = meterRegistry;
+        this.threadBean = getThreadBean();
+        this.enabled = enabled && threadBean != null;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        final var before = threadBean.getCurrentThreadAllocatedBytes();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            final var allocated = threadBean.getCurrentThreadAllocatedBytes() - before;
+            final var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            final var uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            LOGGER.debug("{} {} allocated {} bytes", request.getMethod(), request.getRequestURI(), allocated);
+            meterRegistry.ifAvailable(registry -> DistributionSummary.builder(METRIC_NAME)
+                .description("Bytes allocated by the thread handling a request").baseUnit("bytes")
+                .tag("method", request.getMethod()).tag("uri", uri).tag("status", String.valueOf(response.getStatus()))
+                .register(registry).record(allocated));
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+            && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean;
+        }
+        LOGGER.info("allocated memory is not measured by this JVM, request allocations are not reported");
+        return null;
+    }
+}
@@ -0,0 +1,154 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.rest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.ws.rs.core.Response;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.models.errors.concepts.ErrorResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Executes the requests of the policy and node template controllers in two separate lanes, one for reads and one for
+ * changes, so that a burst of large writes cannot take every request thread and starve the reads the PDPs depend on.
+ * A request that finds the waiting queue of its lane full is answered at once with 429, and one that waits longer
+ * than the lane allows is answered with 503, both with a Retry-After header.
+ */
+@Component
+public class RequestBulkheadInterceptor implements HandlerInterceptor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RequestBulkheadInterceptor.class);
+
+    private static final String LANE_ATTRIBUTE = RequestBulkheadInterceptor.class.getName() + ".lane";
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    private static final List<Class<?>> CONTROLLERS = List.of(ApiRestController.class, NodeTemplateController.class);
+
+    private final boolean enabled;
+    private final Bulkhead readLane;
+    private final Bulkhead writeLane;
+    private final String retryAfterSeconds;
+    private final StandardCoder coder = new StandardCoder();
+
+    /**
+     * Constructs the interceptor.
+     *
+     * @param meterRegistry       the registry the activity of the lanes is reported in, if there is one
+     * @param enabled             whether the requests are executed in lanes
+     * @param readMaxConcurrent   the maximum number of reads executing at the same time
+     * @param readMaxQueued       the maximum number of reads waiting to execute
+     * @param readMaxWaitMillis   the maximum time a read waits to execute
+     * @param writeMaxConcurrent  the maximum number of changes executing at the same time
+     * @param writeMaxQueued      the maximum number of changes waiting to execute
+     * @param writeMaxWaitMillis  the maximum time a change waits to execute
+     * @param retryAfterSecs      the delay after which a rejected request may be retried
+     */
+    public RequestBulkheadInterceptor(ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${policy-api.bulkheads.enabled:true}") boolean enabled,
+        @Value("${policy-api.bulkheads.read.max-concurrent:100}") int readMaxConcurrent,
+        @Value("${policy-api.bulkheads.read.max-queued:50}") int readMaxQueued,
+        @Value("${policy-api.bulkheads.read.max-wait-ms:1000}") long readMaxWaitMillis,
+        @Value("${policy-api.bulkheads.write.max-concurrent:20}") int writeMaxConcurrent,
+        @Value("${policy-api.bulkheads.write.max-queued:20}") int writeMaxQueued,
+        @Value("${policy-api.bulkheads.write.max-wait-ms:5000}") long writeMaxWaitMillis,
+        @Value("${policy-api.bulkheads.retry-after-seconds:1}") int retryAfterSecs) {
+        final var registry = meterRegistry.getIfAvailable();
+        this.enabled = enabled;
+        this.readLane = new Bulkhead("read", readMaxConcurrent, readMaxQueued, readMaxWaitMillis, registry);
+        this.writeLane = new Bulkhead("write", writeMaxConcurrent, writeMaxQueued, writeMaxWaitMillis, registry);
+        this.retryAfterSeconds = String.valueOf(retryAfterSecs);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+        throws IOException {
+        if (!enabled || !(handler instanceof HandlerMethod handlerMethod) || CONTROLLERS.stream()
+            .noneMatch(controller -> controller.isAssignableFrom(handlerMethod.getBeanType()))) {
+            return true;
+        }
+
+        final var lane = READ_METHODS.contains(request.getMethod()) ? readLane : writeLane;
+        switch (lane.enter()) {
+            case ADMITTED:
+                request.setAttribute(LANE_ATTRIBUTE, lane);
+                return true;
+            case QUEUE_FULL:
+                LOGGER.debug("{} {} rejected, the {} lane is full", request.getMethod(), request.getRequestURI(),
+                    lane.getName());
+                writeRejected(response, Response.Status.TOO_MANY_REQUESTS, "the " + lane.getName()
+                    + " lane is full, retry later");
+                return false;
+            default:
+                LOGGER.debug("{} {} rejected, timed out in the {} lane", request.getMethod(), request.getRequestURI(),
+                    lane.getName());
+                writeRejected(response, Response.Status.SERVICE_UNAVAILABLE, "timed out waiting in the "
+                    + lane.getName() + " lane, retry later");
+                return false;
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+        Exception ex) {
+        if (request.getAttribute(LANE_ATTRIBUTE) instanceof Bulkhead lane) {
+            request.removeAttribute(LANE_ATTRIBUTE);
+            lane.leave();
+        }
+    }
+
+    Bulkhead getReadLane() {
+        return readLane;
+    }
+
+    Bulkhead getWriteLane() {
+        return writeLane;
+    }
+
+    private void writeRejected(HttpServletResponse response, Response.Status status, String message)
+        throws IOException {
+        final var errorResponse = new ErrorResponse();
+        errorResponse.setResponseCode(status);
+        errorResponse.setErrorMessage(message);
+        response.setStatus(status.getStatusCode());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try {
+            response.getOutputStream().write(coder.encode(errorResponse).getBytes(StandardCharsets.UTF_8));
+        } catch (CoderException exc) {
+            throw new IOException(exc);
+        }
+    }
+}
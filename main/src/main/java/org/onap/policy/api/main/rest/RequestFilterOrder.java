@@ -0,0 +1,42 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.rest;
+
+/**
+ * The order of the request filters, from the outermost to the innermost. All of them run after the security filter
+ * chain, so that the user is known. The allocation recorder is outermost, so that it measures the whole request, and
+ * the network logger logs every request, including those that are replayed or rejected. Replayed requests are
+ * answered by the idempotency filter without being admitted, and a retry waiting for the original request does not
+ * hold an admission permit that the original request may be waiting for. Admission is innermost, so that a permit is
+ * only held while the request is executed.
+ */
+public final class RequestFilterOrder {
+
+    public static final int ALLOCATION_RECORDER = 0;
+    public static final int NETWORK_LOGGER = 10;
+    public static final int IDEMPOTENCY = 20;
+    public static final int DATABASE_ADMISSION = 30;
+
+    private RequestFilterOrder() {
+        // only holds constants
+    }
+}
@@ -26,7 +26,10 @@ import jakarta.validation.Valid;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.onap.policy.api.main.rest.CommonRestController;
+import org.onap.policy.api.main.rest.PolicyDeleteRequest;
 import org.onap.policy.api.main.rest.PolicyFetchMode;
+import org.onap.policy.api.main.rest.PolicyImportReport;
+import org.onap.policy.api.main.rest.PolicyWriteJob;
 import org.onap.policy.api.main.rest.genapi.PolicyDesignApi;
 import org.onap.policy.common.utils.report.HealthCheckReport;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
@@ -43,7 +46,7 @@ public class ApiRestControllerStub extends CommonRestController implements Polic
 
     @Override
     public ResponseEntity<ToscaServiceTemplate> createPolicies(
-        @Valid ToscaServiceTemplate body, UUID requestID) {
+        @Valid ToscaServiceTemplate body, @Valid Boolean async, UUID requestID) {
         return stubUtils.getCreateStubbedResponse(ToscaServiceTemplate.class);
     }
 
@@ -58,10 +61,17 @@ public class ApiRestControllerStub extends CommonRestController implements Polic
 
     @Override
     public ResponseEntity<ToscaServiceTemplate> createPolicyType(
-        @Valid ToscaServiceTemplate body, UUID requestID) {
+        @Valid ToscaServiceTemplate body, @Valid Boolean async, UUID requestID) {
         return stubUtils.getCreateStubbedResponse(ToscaServiceTemplate.class);
     }
 
+    @Override
+    public ResponseEntity<ToscaServiceTemplate> deletePolicies(
+        @Valid PolicyDeleteRequest body,
+        UUID requestID) {
+        return stubUtils.getOkStubbedResponse(ToscaServiceTemplate.class);
+    }
+
     @Override
     public ResponseEntity<ToscaServiceTemplate> deleteSpecificPolicy(
         String policyId,
@@ -177,4 +187,19 @@ public class ApiRestControllerStub extends CommonRestController implements Polic
         return stubUtils.getOkStubbedResponse(ToscaServiceTemplate.class);
     }
 
+    @Override
+    public ResponseEntity<PolicyWriteJob> getWriteJob(
+        UUID jobId,
+        UUID requestID) {
+        return stubUtils.getOkStubbedResponse(PolicyWriteJob.class);
+    }
+
+    @Override
+    public ResponseEntity<PolicyImportReport> importPolicies(
+        @Valid ToscaServiceTemplate body,
+        Integer chunkSize,
+        UUID requestID) {
+        return stubUtils.getOkStubbedResponse(PolicyImportReport.class);
+    }
+
 }
@@ -0,0 +1,80 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.service;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Canonicalizes the identifiers that repeat across the entries of long-lived read models and caches, such as the
+ * names and versions of the groups, PDP types and policies in the PDP deployment read model, or the type names,
+ * versions and property names in the cached policy type closures, so that each distinct identifier is held once in
+ * memory rather than once per entry that refers to it.
+ *
+ * <p>The canonical strings are only weakly referenced, so that an identifier is dropped once no read model refers to
+ * it any more, and the canonicalizer does not grow as identifiers come and go. Strings longer than the maximum length
+ * are never canonicalized, since identifiers are short. Transient objects, such as request bodies, are not worth
+ * canonicalizing, as they are discarded soon after they are decoded.
+ */
+public class IdentifierCanonicalizer {
+
+    private final Map<String, WeakReference<String>> canonicalStrings = new WeakHashMap<>();
+    private final int maxLength;
+
+    /**
+     * Constructs the canonicalizer.
+     *
+     * @param maxLength the maximum length of a string that is canonicalized
+     */
+    public IdentifierCanonicalizer(int maxLength) {
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Gets the canonical instance of a string.
+     *
+     * @param value the string
+     * @return the canonical instance of the string, or the string itself if it has none
+     */
+    public synchronized String canonicalize(String value) {
+        if (value == null || value.length() > maxLength) {
+            return value;
+        }
+        final var reference = canonicalStrings.get(value);
+        final var canonical = reference != null ? reference.get() : null;
+        if (canonical != null) {
+            return canonical;
+        }
+        canonicalStrings.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    /**
+     * Gets the number of canonical strings kept.
+     *
+     * @return the number of canonical strings
+     */
+    public synchronized int size() {
+        return canonicalStrings.size();
+    }
+}
@@ -0,0 +1,217 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import org.onap.policy.common.parameters.BeanValidationResult;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaTopologyTemplate;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaPolicies;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaServiceTemplate;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaTopologyTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Converts and validates large numbers of incoming policies in parallel. Policies are independent of one another once
+ * their types are resolved, so the policies of a large request are split into chunks that are converted and validated
+ * on a bounded fork-join pool. Chunks are combined in the order of the request, and when several chunks fail the error
+ * of the first one is reported, so the outcome does not depend on thread scheduling. Requests with fewer policies than
+ * the threshold are processed on the calling thread.
+ */
+@Service
+public class ParallelPolicyProcessor {
+
+    private final int minPolicies;
+    private final int parallelism;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs the processor.
+     *
+     * @param parallelism the number of threads of the pool, defaults to the number of processors if not positive
+     * @param minPolicies the minimum number of policies for a request to be processed in parallel
+     */
+    public ParallelPolicyProcessor(@Value("${policy-api.parallel-processing.parallelism:0}") int parallelism,
+        @Value("${policy-api.parallel-processing.min-policies:64}") int minPolicies) {
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.minPolicies = minPolicies;
+        this.pool = new ForkJoinPool(this.parallelism);
+    }
+
+    /**
+     * Converts an incoming service template to its JPA form, converting the policies of large requests in parallel.
+     *
+     * @param body the incoming service template, which is left unchanged
+     * @return the JPA service template
+     * @throws org.onap.policy.models.base.PfModelRuntimeException if the service template cannot be converted
+     */
+    public JpaToscaServiceTemplate convert(final ToscaServiceTemplate body) {
+        final var topologyTemplate = body.getToscaTopologyTemplate();
+        if (topologyTemplate == null || topologyTemplate.getPolicies() == null) {
+            return new JpaToscaServiceTemplate(body);
+        }
+
+        final List<Map<String, ToscaPolicy>> policies = new ArrayList<>();
+        topologyTemplate.getPolicies().forEach(policyMap -> policyMap.entrySet()
+            .forEach(entry -> policies.add(Map.of(entry.getKey(), entry.getValue()))));
+        if (policies.size() < minPolicies) {
+            return new JpaToscaServiceTemplate(body);
+        }
+
+        final var chunks = partition(policies);
+        final List<CompletableFuture<JpaToscaPolicies>> chunkConversions = new ArrayList<>();
+        for (final var chunk : chunks.subList(1, chunks.size())) {
+            chunkConversions.add(CompletableFuture.supplyAsync(() -> {
+                final var jpaPolicies = new JpaToscaPolicies();
+                jpaPolicies.fromAuthorative(chunk);
+                return jpaPolicies;
+            }, pool));
+        }
+
+        // the rest of the service template is converted with the first chunk on the calling thread
+        final JpaToscaServiceTemplate serviceTemplate;
+        try {
+            serviceTemplate = new JpaToscaServiceTemplate(withPolicies(body, chunks.get(0)));
+        } catch (RuntimeException exc) {
+            chunkConversions.forEach(conversion -> conversion.cancel(false));
+            throw exc;
+        }
+
+        final var conceptMap = serviceTemplate.getTopologyTemplate().getPolicies().getConceptMap();
+        for (final var conversion : chunkConversions) {
+            conceptMap.putAll(join(conversion).getConceptMap());
+        }
+        return serviceTemplate;
+    }
+
+    /**
+     * Validates a service template that contains policies and the types they need, validating the policies of large
+     * templates in parallel.
+     *
+     * @param validationTemplate the service template to validate
+     * @param fieldName          the name under which the result is reported
+     * @return the result of the validation
+     */
+    public BeanValidationResult validate(final JpaToscaServiceTemplate validationTemplate, final String fieldName) {
+        final var topologyTemplate = validationTemplate.getTopologyTemplate();
+        if (topologyTemplate == null || topologyTemplate.getPolicies() == null
+            || topologyTemplate.getPolicies().getConceptMap().size() < minPolicies) {
+            return validationTemplate.validate(fieldName);
+        }
+
+        final var policies = new ArrayList<>(topologyTemplate.getPolicies().getConceptMap().values());
+        final List<CompletableFuture<BeanValidationResult>> chunkValidations = new ArrayList<>();
+        for (final var chunk : partition(policies)) {
+            final var chunkTemplate = new JpaToscaServiceTemplate();
+            chunkTemplate.setKey(validationTemplate.getKey());
+            chunkTemplate.setToscaDefinitionsVersion(validationTemplate.getToscaDefinitionsVersion());
+            chunkTemplate.setDataTypes(validationTemplate.getDataTypes());
+            chunkTemplate.setPolicyTypes(validationTemplate.getPolicyTypes());
+            chunkTemplate.setTopologyTemplate(new JpaToscaTopologyTemplate());
+            chunkTemplate.getTopologyTemplate().setPolicies(new JpaToscaPolicies());
+            chunk.forEach(policy -> chunkTemplate.getTopologyTemplate().getPolicies().getConceptMap()
+                .put(policy.getKey(), policy));
+            chunkValidations.add(CompletableFuture.supplyAsync(() -> chunkTemplate.validate(fieldName), pool));
+        }
+
+        final var results = chunkValidations.stream().map(this::join).toList();
+        final var invalidResults = results.stream().filter(result -> !result.isValid()).toList();
+        if (invalidResults.isEmpty()) {
+            return results.get(0);
+        } else if (invalidResults.size() == 1) {
+            return invalidResults.get(0);
+        }
+
+        final var result = new BeanValidationResult(fieldName, validationTemplate);
+        invalidResults.forEach(result::addResult);
+        return result;
+    }
+
+    /**
+     * Shuts the pool down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Makes a shallow copy of a service template with other policies, leaving the service template unchanged.
+     *
+     * @param body     the service template
+     * @param policies the policies of the copy
+     * @return the copy
+     */
+    private static ToscaServiceTemplate withPolicies(final ToscaServiceTemplate body,
+        final List<Map<String, ToscaPolicy>> policies) {
+        final var topologyTemplate = body.getToscaTopologyTemplate();
+        final var topologyTemplateCopy = new ToscaTopologyTemplate();
+        topologyTemplateCopy.setDescription(topologyTemplate.getDescription());
+        topologyTemplateCopy.setInputs(topologyTemplate.getInputs());
+        topologyTemplateCopy.setNodeTemplates(topologyTemplate.getNodeTemplates());
+        topologyTemplateCopy.setPolicies(policies);
+
+        final var bodyCopy = new ToscaServiceTemplate();
+        bodyCopy.setName(body.getName());
+        bodyCopy.setVersion(body.getVersion());
+        bodyCopy.setDerivedFrom(body.getDerivedFrom());
+        bodyCopy.setMetadata(body.getMetadata());
+        bodyCopy.setDescription(body.getDescription());
+        bodyCopy.setToscaDefinitionsVersion(body.getToscaDefinitionsVersion());
+        bodyCopy.setDataTypes(body.getDataTypes());
+        bodyCopy.setCapabilityTypes(body.getCapabilityTypes());
+        bodyCopy.setNodeTypes(body.getNodeTypes());
+        bodyCopy.setRelationshipTypes(body.getRelationshipTypes());
+        bodyCopy.setPolicyTypes(body.getPolicyTypes());
+        bodyCopy.setToscaTopologyTemplate(topologyTemplateCopy);
+        return bodyCopy;
+    }
+
+    private <T> List<List<T>> partition(final List<T> items) {
+        // a few chunks per thread, so that a slow chunk does not hold up the others
+        final var chunkSize = Math.max(1, (items.size() + parallelism * 4 - 1) / (parallelism * 4));
+        final List<List<T>> chunks = new ArrayList<>();
+        for (var first = 0; first < items.size(); first += chunkSize) {
+            chunks.add(items.subList(first, Math.min(first + chunkSize, items.size())));
+        }
+        return chunks;
+    }
+
+    private <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exc) {
+            if (exc.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw exc;
+        }
+    }
+}
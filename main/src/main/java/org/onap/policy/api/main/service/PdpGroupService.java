@@ -2,6 +2,7 @@
  *  ============LICENSE_START=======================================================
  *  Copyright (C) 2022 Bell Canada. All rights reserved.
  *  Modifications Copyright (C) 2023-2024 Nordix Foundation.
+ *  Modifications Copyright (C) 2026 Deutsche Telekom AG.
  *  ================================================================================
  *  Licensed under the Apache License, Version 2.0 (the "License");
  *  you may not use this file except in compliance with the License.
@@ -21,32 +22,205 @@
 
 package org.onap.policy.api.main.service;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.ws.rs.core.Response;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import org.onap.policy.api.main.repository.PdpGroupRepository;
+import org.onap.policy.api.main.repository.PdpSubGroupReference;
 import org.onap.policy.models.base.PfModelRuntimeException;
-import org.onap.policy.models.pdp.concepts.PdpGroup;
-import org.onap.policy.models.pdp.concepts.PdpSubGroup;
-import org.onap.policy.models.pdp.persistence.concepts.JpaPdpGroup;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Checks whether policies are deployed in, and policy types are supported by, PDP groups. The PDP groups are owned by
+ * policy-pap, so besides the authoritative checks, which query the PDP subgroups in the transaction of a delete, an
+ * in-memory read model of the deployed policies and supported policy types is kept for early rejection of deletes.
+ * The read model is refreshed by a background thread, outside the transactions of the requests, which never wait for
+ * it: the row counts of the PDP subgroup references are probed every probe interval, and the read model is reloaded
+ * when they change, when an authoritative check finds a reference the read model missed, and at least every maximum
+ * age, since a probe of row counts does not see a policy being replaced by another one. Until the read model is first
+ * loaded, the early checks accept everything and only the authoritative checks apply.
+ */
 @Service
 @Transactional(readOnly = true)
-@RequiredArgsConstructor
 public class PdpGroupService {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(PdpGroupService.class);
+
+    private static final String DEPLOYED_IN = " is in use, it is deployed in PDP group ";
+
+    private static final ReadModel EMPTY_READ_MODEL = new ReadModel(-1, -1, 0, Map.of(), Map.of());
+
     private final PdpGroupRepository pdpGroupRepository;
+    private final IdentifierCanonicalizer canonicalizer;
+    private final long probeIntervalMs;
+    private final long maxAgeMs;
+
+    private ScheduledExecutorService refresher;
+    private volatile ReadModel readModel = EMPTY_READ_MODEL;
+    private volatile boolean reloadRequested;
+
+    private record ReadModel(long deploymentCount, long supportCount, long loadedAt,
+        Map<ToscaConceptIdentifier, PdpSubGroupReference> deployments,
+        Map<ToscaConceptIdentifier, PdpSubGroupReference> supportedPolicyTypes) {
+    }
 
     /**
-     * Fetch all the PDP groups from the DB.
+     * Constructs the service.
      *
-     * @return a list of {@link PdpGroup}
+     * @param pdpGroupRepository the PDP group repository
+     * @param canonicalizer      the canonicalizer of the identifiers held in the read model
+     * @param probeIntervalMs    the interval between probes for changes of the PDP subgroups
+     * @param maxAgeMs           the maximum age of the read model before it is reloaded
+     */
+    public PdpGroupService(PdpGroupRepository pdpGroupRepository, IdentifierCanonicalizer canonicalizer,
+        @Value("${policy-api.pdp-read-model.probe-interval-ms:5000}") long probeIntervalMs,
+        @Value("${policy-api.pdp-read-model.max-age-ms:60000}") long maxAgeMs) {
+        this.pdpGroupRepository = pdpGroupRepository;
+        this.canonicalizer = canonicalizer;
+        this.probeIntervalMs = probeIntervalMs;
+        this.maxAgeMs = maxAgeMs;
+    }
+
+    /**
+     * Starts the background refresh of the read model.
      */
-    private List<PdpGroup> getAllPdpGroups() {
-        return pdpGroupRepository.findAll().stream().map(JpaPdpGroup::toAuthorative).toList();
+    @PostConstruct
+    public void startRefresher() {
+        refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "policy-api-pdp-read-model");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refresher.scheduleWithFixedDelay(this::refresh, 0, Math.max(probeIntervalMs, 1), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the background refresh of the read model.
+     */
+    @PreDestroy
+    public void stopRefresher() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    /**
+     * Assert that the policy type is not known to be supported in any PDP group, according to the read model. This
+     * check does not replace {@link #assertPolicyTypeNotSupportedInPdpGroup(String, String)}.
+     *
+     * @param policyTypeName    the policy type name
+     * @param policyTypeVersion the policy type version
+     * @throws PfModelRuntimeException if the policy type is supported in a PDP group
+     */
+    public void assertPolicyTypeNotKnownSupported(final String policyTypeName, final String policyTypeVersion)
+        throws PfModelRuntimeException {
+        final var reference = readModel.supportedPolicyTypes()
+            .get(new ToscaConceptIdentifier(policyTypeName, policyTypeVersion));
+        if (reference != null) {
+            throw new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE,
+                "policy type is in use, it is referenced in PDP group " + reference.pdpGroupName() + " subgroup "
+                    + reference.pdpType());
+        }
+    }
+
+    /**
+     * Assert that the policy is not known to be deployed in a PDP group, according to the read model. This check does
+     * not replace {@link #assertPolicyNotDeployedInPdpGroup(String, String)}, and reports a deployment with the same
+     * message.
+     *
+     * @param policyName    the policy name
+     * @param policyVersion the policy version
+     * @throws PfModelRuntimeException thrown if the policy is deployed in a PDP group
+     */
+    public void assertPolicyNotKnownDeployed(final String policyName, final String policyVersion)
+        throws PfModelRuntimeException {
+        final var reference = readModel.deployments().get(new ToscaConceptIdentifier(policyName, policyVersion));
+        if (reference != null) {
+            throw new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE, "policy" + deployedIn(reference));
+        }
+    }
+
+    /**
+     * Assert that none of the policies is known to be deployed in a PDP group, according to the read model. This check
+     * does not replace {@link #assertPoliciesNotDeployedInPdpGroup(Collection)}.
+     *
+     * @param policyIdentifiers the identifiers of the policies
+     * @throws PfModelRuntimeException thrown if any of the policies is deployed in a PDP group
+     */
+    public void assertPoliciesNotKnownDeployed(final Collection<ToscaConceptIdentifier> policyIdentifiers)
+        throws PfModelRuntimeException {
+        final var deployments = readModel.deployments();
+        for (final var policyIdentifier : policyIdentifiers) {
+            final var reference = deployments.get(policyIdentifier);
+            if (reference != null) {
+                throw new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE,
+                    "policy " + reference.name() + ":" + reference.version() + deployedIn(reference));
+            }
+        }
+    }
+
+    private static String deployedIn(final PdpSubGroupReference reference) {
+        return DEPLOYED_IN + reference.pdpGroupName() + " subgroup " + reference.pdpType();
+    }
+
+    /**
+     * Probe the PDP subgroups for changes, and reload the read model if they changed, if a reload was requested, or if
+     * the read model is older than the maximum age. Called by the background refresher only.
+     */
+    void refresh() {
+        try {
+            final var now = System.currentTimeMillis();
+            final var current = readModel;
+            // the request is cleared before the queries, so that a request made during the reload is not lost
+            final var reload = reloadRequested;
+            reloadRequested = false;
+            final var deploymentCount = pdpGroupRepository.countPolicyDeployments();
+            final var supportCount = pdpGroupRepository.countPolicyTypeSupport();
+            if (reload || current.deploymentCount() != deploymentCount || current.supportCount() != supportCount
+                || now - current.loadedAt() >= maxAgeMs) {
+                readModel = new ReadModel(deploymentCount, supportCount, now,
+                    indexReferences(pdpGroupRepository.findAllPolicyDeployments()),
+                    indexReferences(pdpGroupRepository.findAllPolicyTypeSupport()));
+            }
+        } catch (RuntimeException exc) {
+            LOGGER.warn("failed to refresh the read model of the PDP groups", exc);
+            reloadRequested = true;
+        }
+    }
+
+    private Map<ToscaConceptIdentifier, PdpSubGroupReference> indexReferences(
+        final List<PdpSubGroupReference> references) {
+        final Map<ToscaConceptIdentifier, PdpSubGroupReference> index = new HashMap<>();
+        for (final var reference : references) {
+            // the same group, PDP type and version strings are repeated in many references
+            final var canonicalReference = new PdpSubGroupReference(
+                canonicalizer.canonicalize(reference.pdpGroupName()), canonicalizer.canonicalize(reference.pdpType()),
+                canonicalizer.canonicalize(reference.name()), canonicalizer.canonicalize(reference.version()));
+            index.putIfAbsent(new ToscaConceptIdentifier(canonicalReference.name(), canonicalReference.version()),
+                canonicalReference);
+        }
+        return index;
+    }
+
+    /**
+     * Request a reload of the read model on the next refresh.
+     */
+    private void invalidateReadModel() {
+        reloadRequested = true;
     }
 
     /**
@@ -58,15 +232,13 @@ public class PdpGroupService {
      */
     public void assertPolicyTypeNotSupportedInPdpGroup(final String policyTypeName, final String policyTypeVersion)
         throws PfModelRuntimeException {
-        final var policyTypeIdentifier = new ToscaConceptIdentifier(policyTypeName, policyTypeVersion);
-        for (PdpGroup pdpGroup : getAllPdpGroups()) {
-            for (PdpSubGroup pdpSubGroup : pdpGroup.getPdpSubgroups()) {
-                if (pdpSubGroup.getSupportedPolicyTypes().contains(policyTypeIdentifier)) {
-                    throw new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE,
-                        "policy type is in use, it is referenced in PDP group " + pdpGroup.getName() + " subgroup "
-                            + pdpSubGroup.getPdpType());
-                }
-            }
+        final var references = pdpGroupRepository.findPolicyTypeSupport(policyTypeName, policyTypeVersion);
+        if (!references.isEmpty()) {
+            final var reference = references.get(0);
+            invalidateReadModel();
+            throw new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE,
+                "policy type is in use, it is referenced in PDP group " + reference.pdpGroupName() + " subgroup "
+                    + reference.pdpType());
         }
     }
 
@@ -79,15 +251,33 @@ public class PdpGroupService {
      */
     public void assertPolicyNotDeployedInPdpGroup(final String policyName, final String policyVersion)
         throws PfModelRuntimeException {
-        final var policyIdentifier = new ToscaConceptIdentifier(policyName, policyVersion);
-        for (PdpGroup pdpGroup : getAllPdpGroups()) {
-            for (PdpSubGroup pdpSubGroup : pdpGroup.getPdpSubgroups()) {
-                if (pdpSubGroup.getPolicies().contains(policyIdentifier)) {
-                    throw new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE,
-                        "policy is in use, it is deployed in PDP group " + pdpGroup.getName() + " subgroup "
-                            + pdpSubGroup.getPdpType());
-                }
+        for (final var reference : pdpGroupRepository.findPolicyDeployments(List.of(policyName))) {
+            if (policyVersion.equals(reference.version())) {
+                invalidateReadModel();
+                throw new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE, "policy" + deployedIn(reference));
+            }
+        }
+    }
+
+    /**
+     * Assert that none of the policies is deployed in a PDP group, querying the deployments of the policies at once.
+     *
+     * @param policyIdentifiers the identifiers of the policies
+     * @throws PfModelRuntimeException thrown if any of the policies is deployed in a PDP group
+     */
+    public void assertPoliciesNotDeployedInPdpGroup(final Collection<ToscaConceptIdentifier> policyIdentifiers)
+        throws PfModelRuntimeException {
+        if (policyIdentifiers.isEmpty()) {
+            return;
+        }
+        final var identifiers = new HashSet<>(policyIdentifiers);
+        final var names = identifiers.stream().map(ToscaConceptIdentifier::getName).collect(Collectors.toSet());
+        for (final var reference : pdpGroupRepository.findPolicyDeployments(names)) {
+            if (identifiers.contains(new ToscaConceptIdentifier(reference.name(), reference.version()))) {
+                invalidateReadModel();
+                throw new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE,
+                    "policy " + reference.name() + ":" + reference.version() + deployedIn(reference));
             }
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,166 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.service;
+
+import jakarta.ws.rs.core.Response;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import org.onap.policy.models.base.PfModelRuntimeException;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Combines concurrent policy create requests into group commits. Each request is queued, and the first caller to find
+ * no commit in progress becomes the leader: if other requests are queued, it waits for a short window so that more
+ * concurrent requests can join, then applies all the queued requests in one transaction and completes each of them
+ * with its own result or error. The other callers wait for the leader, so that under burst load the service template
+ * is loaded, validated and saved once per batch rather than once per request, while a request on its own is applied
+ * at once. A leader interrupted while waiting fails its own request only, leaving the others to the next leader.
+ */
+@Service
+public class PolicyCreateCombiner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PolicyCreateCombiner.class);
+
+    private final ToscaServiceTemplateService toscaServiceTemplateService;
+    private final long windowMillis;
+    private final int maxBatchSize;
+
+    private final Queue<PendingCreate> pendingCreates = new ConcurrentLinkedQueue<>();
+    // the number of pending creates, counted before they are queued, as the size of the queue is not constant time
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final ReentrantLock commitLock = new ReentrantLock();
+
+    private record PendingCreate(ToscaServiceTemplate body, CompletableFuture<ToscaServiceTemplate> outcome) {
+    }
+
+    /**
+     * Constructs the combiner.
+     *
+     * @param toscaServiceTemplateService the service that applies the batches
+     * @param windowMillis                the time a leader waits for concurrent requests before committing
+     * @param maxBatchSize                the maximum number of requests applied in one transaction
+     */
+    public PolicyCreateCombiner(final ToscaServiceTemplateService toscaServiceTemplateService,
+        @Value("${policy-api.group-commit.window-ms:5}") final long windowMillis,
+        @Value("${policy-api.group-commit.max-batch-size:50}") final int maxBatchSize) {
+        this.toscaServiceTemplateService = toscaServiceTemplateService;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+    }
+
+    /**
+     * Creates one or more new policies, possibly in the same transaction as concurrent requests.
+     *
+     * @param body the entity body of policy
+     * @return the ToscaServiceTemplate object containing the policies that were created
+     * @throws PfModelRuntimeException on errors creating the policy
+     */
+    public ToscaServiceTemplate createPolicies(final ToscaServiceTemplate body) throws PfModelRuntimeException {
+        final var request = new PendingCreate(body, new CompletableFuture<>());
+        pendingCount.incrementAndGet();
+        pendingCreates.add(request);
+
+        while (!request.outcome().isDone()) {
+            commitLock.lock();
+            try {
+                if (!request.outcome().isDone()) {
+                    awaitWindow(request);
+                    commitBatch(drainBatch());
+                }
+            } finally {
+                commitLock.unlock();
+            }
+        }
+
+        try {
+            return request.outcome().join();
+        } catch (CompletionException exc) {
+            if (exc.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw exc;
+        }
+    }
+
+    /**
+     * Waits for concurrent requests to join the batch of the leader, unless the leader is on its own or the batch is
+     * already full.
+     *
+     * @param request the request of the leader
+     * @throws PfModelRuntimeException if the leader is interrupted, after withdrawing its request
+     */
+    private void awaitWindow(final PendingCreate request) {
+        final var pending = pendingCount.get();
+        if (windowMillis <= 0 || pending <= 1 || pending >= maxBatchSize) {
+            return;
+        }
+        try {
+            Thread.sleep(windowMillis);
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+            // the requests of the other callers are committed by the next leader
+            if (pendingCreates.remove(request)) {
+                pendingCount.decrementAndGet();
+            }
+            throw new PfModelRuntimeException(Response.Status.SERVICE_UNAVAILABLE,
+                "interrupted waiting for concurrent policy create requests", exc);
+        }
+    }
+
+    private List<PendingCreate> drainBatch() {
+        final List<PendingCreate> batch = new ArrayList<>();
+        PendingCreate request;
+        while (batch.size() < maxBatchSize && (request = pendingCreates.poll()) != null) {
+            pendingCount.decrementAndGet();
+            batch.add(request);
+        }
+        return batch;
+    }
+
+    private void commitBatch(final List<PendingCreate> batch) {
+        LOGGER.debug("committing {} policy create requests together", batch.size());
+        try {
+            final var errors = toscaServiceTemplateService
+                .createPoliciesInBatch(batch.stream().map(PendingCreate::body).toList());
+            for (var i = 0; i < batch.size(); i++) {
+                final var outcome = batch.get(i).outcome();
+                if (errors.get(i) == null) {
+                    outcome.complete(batch.get(i).body());
+                } else {
+                    outcome.completeExceptionally(errors.get(i));
+                }
+            }
+        } catch (RuntimeException exc) {
+            batch.forEach(request -> request.outcome().completeExceptionally(exc));
+        }
+    }
+}
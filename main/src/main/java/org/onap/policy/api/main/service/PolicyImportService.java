@@ -0,0 +1,210 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.service;
+
+import jakarta.ws.rs.core.Response;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.collections4.MapUtils;
+import org.onap.policy.api.main.rest.PolicyImportReport;
+import org.onap.policy.models.base.PfModelRuntimeException;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaServiceTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+
+/**
+ * Imports large numbers of policies. The documents to import are read one at a time, and their policies are imported
+ * in chunks as soon as a chunk is complete, so that neither the documents nor the policies are all held in memory.
+ * Every chunk is imported in its own transaction, so a chunk that fails is skipped without undoing the chunks before
+ * it, and the outcome of every chunk is reported. An import in which every chunk fails is itself a failure.
+ */
+@Service
+@RequiredArgsConstructor
+public class PolicyImportService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PolicyImportService.class);
+
+    public static final int DEFAULT_IMPORT_CHUNK_SIZE = 500;
+
+    private final ToscaServiceTemplateService toscaServiceTemplateService;
+
+    /**
+     * Imports the policies of a TOSCA document. Any policy types and data types in the document are created first.
+     *
+     * @param body the entity body of the policies to import
+     * @param chunkSize the number of policies to validate and persist together
+     * @return the outcome of the import of each chunk
+     * @throws PfModelRuntimeException on errors importing the types, if the document contains nothing to import, or if
+     *         every chunk fails
+     */
+    public PolicyImportReport importPolicies(@NonNull final ToscaServiceTemplate body, final int chunkSize)
+        throws PfModelRuntimeException {
+        return importPolicies(List.of(body).iterator(), chunkSize);
+    }
+
+    /**
+     * Imports the policies of a sequence of TOSCA documents. The policy types and data types of a document are created
+     * before its policies, and after the policies of the documents before it.
+     *
+     * @param documents the documents to import, read as the import progresses
+     * @param chunkSize the number of policies to validate and persist together
+     * @return the outcome of the import of each chunk
+     * @throws PfModelRuntimeException on errors reading a document or importing its types, if the documents contain
+     *         nothing to import, or if every chunk fails; the chunks imported before the error stay imported
+     */
+    public PolicyImportReport importPolicies(@NonNull final Iterator<ToscaServiceTemplate> documents,
+        final int chunkSize) throws PfModelRuntimeException {
+        final var policyImport = new PolicyImport(chunkSize > 0 ? chunkSize : DEFAULT_IMPORT_CHUNK_SIZE);
+        final var report = policyImport.report;
+        LOGGER.debug("->importPolicies: chunkSize={}", report.getChunkSize());
+
+        try {
+            while (documents.hasNext()) {
+                policyImport.add(documents.next());
+            }
+            policyImport.flush();
+        } catch (PfModelRuntimeException exc) {
+            if (report.getChunks().isEmpty()) {
+                throw exc;
+            }
+            throw new PfModelRuntimeException(exc.getErrorResponse().getResponseCode(), exc.getMessage()
+                + ", after " + report.getImportedPolicies() + " policies were imported", exc);
+        }
+
+        if (report.getChunks().isEmpty() && !policyImport.typesCreated) {
+            throw new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE, "no policies found to import");
+        }
+
+        if (!report.getChunks().isEmpty() && report.getFailedPolicies() == report.getTotalPolicies()) {
+            throw new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE, "none of the "
+                + report.getTotalPolicies() + " policies were imported, " + report.getChunks().get(0).getMessage());
+        }
+
+        LOGGER.debug("<-importPolicies: report={}", report);
+        return report;
+    }
+
+    /**
+     * Node types and node templates are not imported, and are rejected rather than ignored.
+     *
+     * @param document the document to import
+     * @throws PfModelRuntimeException if the document contains node types or node templates
+     */
+    private static void assertImportable(final ToscaServiceTemplate document) {
+        if (!MapUtils.isEmpty(document.getNodeTypes()) || (document.getToscaTopologyTemplate() != null
+            && !MapUtils.isEmpty(document.getToscaTopologyTemplate().getNodeTemplates()))) {
+            throw new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE,
+                "node types and node templates cannot be imported");
+        }
+    }
+
+    /**
+     * The state of an import in progress.
+     */
+    private class PolicyImport {
+        private final PolicyImportReport report = new PolicyImportReport();
+        private final List<Map<String, ToscaPolicy>> pending = new ArrayList<>();
+        private String toscaDefinitionsVersion;
+        private JpaToscaServiceTemplate typesServiceTemplate;
+        private boolean typesCreated;
+
+        PolicyImport(final int chunkSize) {
+            report.setChunkSize(chunkSize);
+        }
+
+        /**
+         * Adds the contents of a document to the import, creating its types and importing every complete chunk.
+         *
+         * @param document the document
+         */
+        void add(final ToscaServiceTemplate document) {
+            assertImportable(document);
+            if (toscaDefinitionsVersion == null) {
+                toscaDefinitionsVersion = document.getToscaDefinitionsVersion();
+            }
+
+            if (!MapUtils.isEmpty(document.getPolicyTypes()) || !MapUtils.isEmpty(document.getDataTypes())) {
+                // policies read before the types are imported before them, as in the document
+                flush();
+                final var typesFragment = new ToscaServiceTemplate();
+                typesFragment.setToscaDefinitionsVersion(document.getToscaDefinitionsVersion());
+                typesFragment.setDataTypes(document.getDataTypes());
+                typesFragment.setPolicyTypes(document.getPolicyTypes());
+                toscaServiceTemplateService.createPolicyType(typesFragment);
+                typesServiceTemplate = null;
+                typesCreated = true;
+            }
+
+            if (document.getToscaTopologyTemplate() == null
+                || document.getToscaTopologyTemplate().getPolicies() == null) {
+                return;
+            }
+            for (final var policyMap : document.getToscaTopologyTemplate().getPolicies()) {
+                for (final var entry : policyMap.entrySet()) {
+                    pending.add(Map.of(entry.getKey(), entry.getValue()));
+                    if (pending.size() >= report.getChunkSize()) {
+                        flush();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Imports the policies read since the last chunk, if any.
+         */
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            if (typesServiceTemplate == null) {
+                typesServiceTemplate = toscaServiceTemplateService.getPolicyTypesServiceTemplate();
+            }
+
+            final var chunk = List.copyOf(pending);
+            pending.clear();
+            final var index = report.getChunks().size();
+            final var first = report.getTotalPolicies();
+            PolicyImportReport.ChunkResult chunkResult;
+            try {
+                chunkResult = toscaServiceTemplateService.importPolicyChunk(typesServiceTemplate,
+                    toscaDefinitionsVersion, index, first, chunk);
+            } catch (PfModelRuntimeException | DataAccessException | TransactionException exc) {
+                LOGGER.warn("policy import chunk {} failed", index, exc);
+                chunkResult = new PolicyImportReport.ChunkResult(index, first, chunk.size(), 0, 0, false,
+                    exc.getMessage());
+            }
+
+            report.addChunk(chunkResult);
+            LOGGER.info("policy import chunk {}: {} policies processed, {} failed", index, report.getTotalPolicies(),
+                report.getFailedPolicies());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 /*
  *  ============LICENSE_START=======================================================
  *   Copyright (C) 2022 Bell Canada. All rights reserved.
+ *   Modifications Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
  *  ================================================================================
  *  Licensed under the Apache License, Version 2.0 (the "License");
  *  you may not use this file except in compliance with the License.
@@ -20,9 +21,13 @@
 
 package org.onap.policy.api.main.service;
 
+import jakarta.persistence.EntityManager;
+import java.util.Collection;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.onap.policy.api.main.repository.PolicyRepository;
 import org.onap.policy.models.base.PfConceptKey;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaPolicy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,13 +37,41 @@ import org.springframework.transaction.annotation.Transactional;
 public class PolicyService {
 
     private final PolicyRepository policyRepository;
+    private final EntityManager entityManager;
 
     /**
-     * Delete the specified policy.
+     * Delete the specified policy, removing both its reference in the service template and its entry in the policy
+     * table.
      *
      * @param policyKey the policy key containing name and version
      */
     public void deletePolicy(final PfConceptKey policyKey) {
+        policyRepository.deletePolicyReference(policyKey.getName(), policyKey.getVersion());
         policyRepository.deleteById(policyKey);
     }
-}
\ No newline at end of file
+
+    /**
+     * Delete the specified policies, removing both their references in the service template and their entries in the
+     * policy table.
+     *
+     * @param policies the policies to delete
+     */
+    public void deletePolicies(final List<JpaToscaPolicy> policies) {
+        policies.forEach(policy -> policyRepository.deletePolicyReference(policy.getName(), policy.getVersion()));
+        policyRepository.deleteAll(policies);
+    }
+
+    /**
+     * Add new policies to the policy table and reference them in a policies container of the service template, without
+     * loading the container or the service template. The policies are inserted with batched statements.
+     *
+     * @param containerKey the key of the policies container
+     * @param policies the policies to add, none of which may exist yet
+     */
+    public void addPolicies(final PfConceptKey containerKey, final Collection<JpaToscaPolicy> policies) {
+        policies.forEach(entityManager::persist);
+        entityManager.flush();
+        policies.forEach(policy -> policyRepository.insertPolicyReference(containerKey.getName(),
+            containerKey.getVersion(), policy.getName(), policy.getVersion()));
+    }
+}
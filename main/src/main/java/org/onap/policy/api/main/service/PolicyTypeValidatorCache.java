@@ -0,0 +1,277 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.service;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.onap.policy.models.base.PfConceptContainer;
+import org.onap.policy.models.base.PfConceptKey;
+import org.onap.policy.models.base.PfReferenceKey;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaDataType;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaDataTypes;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaPolicyType;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaPolicyTypes;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaProperty;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaServiceTemplate;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaTopologyTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Caches, for each policy type, the policy types and data types needed to validate a policy of that type: the policy
+ * type itself, the policy types it is derived from, and the data types its properties refer to, directly, through
+ * entry schemas or through the properties and derivation of other data types. The closure of a policy type is
+ * resolved once, so incoming policies are validated against their types only rather than against the whole service
+ * template.
+ *
+ * <p>The cache is cleared when policy types are created or deleted on this instance. Because a policy type may be
+ * deleted and re-created with different content through another instance sharing the database, a cached closure is
+ * only used if every policy type and data type it contains is still present and equal in the service template being
+ * written, and if the data types it found missing are still missing; otherwise the closure is resolved again.
+ *
+ * <p>Each closure is resolved from a service template decoded for a single request, so the closures of different
+ * policy types hold their own copies of the names and versions of the types, property names and type references they
+ * share, such as 1.0.0, string or the common parent types. These identifiers are canonicalized, so that the cache
+ * holds each of them once however many closures refer to it.
+ */
+@Service
+public class PolicyTypeValidatorCache {
+
+    private final Map<PfConceptKey, PolicyTypeClosure> closures = new ConcurrentHashMap<>();
+    private final IdentifierCanonicalizer canonicalizer;
+
+    private record PolicyTypeClosure(Map<PfConceptKey, JpaToscaPolicyType> policyTypes,
+        Map<PfConceptKey, JpaToscaDataType> dataTypes, Set<PfConceptKey> missingDataTypes) {
+
+        boolean isCurrentIn(final JpaToscaServiceTemplate serviceTemplate) {
+            for (final var entry : policyTypes.entrySet()) {
+                if (!entry.getValue().equals(serviceTemplate.getPolicyTypes().get(entry.getKey()))) {
+                    return false;
+                }
+            }
+            for (final var entry : dataTypes.entrySet()) {
+                if (!entry.getValue().equals(getDataType(serviceTemplate, entry.getKey()))) {
+                    return false;
+                }
+            }
+            for (final var dataTypeKey : missingDataTypes) {
+                if (getDataType(serviceTemplate, dataTypeKey) != null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Constructs the cache.
+     *
+     * @param canonicalizer the canonicalizer of the identifiers held in the cached closures
+     */
+    public PolicyTypeValidatorCache(IdentifierCanonicalizer canonicalizer) {
+        this.canonicalizer = canonicalizer;
+    }
+
+    /**
+     * Builds the service template against which the policies of an incoming fragment are validated, containing the
+     * policies of the fragment and the closures of their policy types.
+     *
+     * @param serviceTemplate the service template the fragment is written to
+     * @param fragment        the incoming fragment
+     * @return the service template to validate, or null if the fragment contains more than policies, in which case the
+     *         whole service template must be validated
+     */
+    public JpaToscaServiceTemplate getValidationTemplate(final JpaToscaServiceTemplate serviceTemplate,
+        final JpaToscaServiceTemplate fragment) {
+        if (!containsOnlyPolicies(fragment)) {
+            return null;
+        }
+
+        final Map<PfConceptKey, JpaToscaPolicyType> policyTypes = new LinkedHashMap<>();
+        final Map<PfConceptKey, JpaToscaDataType> dataTypes = new LinkedHashMap<>();
+        for (final var policy : fragment.getTopologyTemplate().getPolicies().getConceptMap().values()) {
+            final var policyTypeKey = policy.getType();
+            // policies of unknown types are reported by the validation of the service template
+            if (serviceTemplate != null && policyTypeKey != null && !policyTypeKey.isNullKey()
+                && serviceTemplate.getPolicyTypes() != null
+                && serviceTemplate.getPolicyTypes().get(policyTypeKey) != null) {
+                final var closure = getClosure(serviceTemplate, policyTypeKey);
+                policyTypes.putAll(closure.policyTypes());
+                dataTypes.putAll(closure.dataTypes());
+            }
+        }
+
+        final var validationTemplate = new JpaToscaServiceTemplate();
+        validationTemplate.setToscaDefinitionsVersion(serviceTemplate != null
+            && serviceTemplate.getToscaDefinitionsVersion() != null
+            ? serviceTemplate.getToscaDefinitionsVersion() : fragment.getToscaDefinitionsVersion());
+        if (!policyTypes.isEmpty()) {
+            validationTemplate.setPolicyTypes(new JpaToscaPolicyTypes());
+            validationTemplate.getPolicyTypes().getConceptMap().putAll(policyTypes);
+        }
+        if (!dataTypes.isEmpty()) {
+            validationTemplate.setDataTypes(new JpaToscaDataTypes());
+            validationTemplate.getDataTypes().getConceptMap().putAll(dataTypes);
+        }
+        validationTemplate.setTopologyTemplate(new JpaToscaTopologyTemplate());
+        validationTemplate.getTopologyTemplate().setPolicies(fragment.getTopologyTemplate().getPolicies());
+        return validationTemplate;
+    }
+
+    /**
+     * Discards all the cached closures, called when policy types or data types change.
+     */
+    public void invalidate() {
+        closures.clear();
+    }
+
+    private PolicyTypeClosure getClosure(final JpaToscaServiceTemplate serviceTemplate,
+        final PfConceptKey policyTypeKey) {
+        final var cachedClosure = closures.get(policyTypeKey);
+        if (cachedClosure != null && cachedClosure.isCurrentIn(serviceTemplate)) {
+            return cachedClosure;
+        }
+        final var closure = resolve(serviceTemplate, policyTypeKey);
+        closures.put(canonicalize(new PfConceptKey(policyTypeKey)), closure);
+        return closure;
+    }
+
+    private static JpaToscaDataType getDataType(final JpaToscaServiceTemplate serviceTemplate,
+        final PfConceptKey dataTypeKey) {
+        return serviceTemplate.getDataTypes() == null ? null : serviceTemplate.getDataTypes().get(dataTypeKey);
+    }
+
+    private boolean containsOnlyPolicies(final JpaToscaServiceTemplate fragment) {
+        return isEmpty(fragment.getPolicyTypes()) && isEmpty(fragment.getDataTypes())
+            && isEmpty(fragment.getNodeTypes()) && fragment.getTopologyTemplate() != null
+            && isEmpty(fragment.getTopologyTemplate().getNodeTemplates())
+            && !isEmpty(fragment.getTopologyTemplate().getPolicies());
+    }
+
+    private static boolean isEmpty(final PfConceptContainer<?, ?> container) {
+        return container == null || container.getConceptMap() == null || container.getConceptMap().isEmpty();
+    }
+
+    private PolicyTypeClosure resolve(final JpaToscaServiceTemplate serviceTemplate, final PfConceptKey policyTypeKey) {
+        final Map<PfConceptKey, JpaToscaPolicyType> policyTypes = new LinkedHashMap<>();
+        final Deque<PfConceptKey> dataTypeKeys = new ArrayDeque<>();
+
+        var currentKey = policyTypeKey;
+        while (currentKey != null && !currentKey.isNullKey() && !policyTypes.containsKey(currentKey)) {
+            final var policyType = serviceTemplate.getPolicyTypes().get(currentKey);
+            if (policyType == null) {
+                break;
+            }
+            final var policyTypeCopy = new JpaToscaPolicyType(policyType);
+            canonicalize(policyTypeCopy.getKey());
+            canonicalize(policyTypeCopy.getDerivedFrom());
+            policyTypeCopy.setProperties(canonicalize(policyTypeCopy.getProperties()));
+            policyTypes.put(policyTypeCopy.getKey(), policyTypeCopy);
+            addPropertyTypes(policyType.getProperties(), dataTypeKeys);
+            currentKey = policyType.getDerivedFrom();
+        }
+
+        final Map<PfConceptKey, JpaToscaDataType> dataTypes = new LinkedHashMap<>();
+        final Set<PfConceptKey> missingDataTypes = new LinkedHashSet<>();
+        while (!dataTypeKeys.isEmpty()) {
+            final var dataTypeKey = dataTypeKeys.pop();
+            final var dataType = getDataType(serviceTemplate, dataTypeKey);
+            // primitive types are not stored as data types
+            if (dataType == null) {
+                missingDataTypes.add(canonicalize(new PfConceptKey(dataTypeKey)));
+            } else if (!dataTypes.containsKey(dataTypeKey)) {
+                final var dataTypeCopy = new JpaToscaDataType(dataType);
+                canonicalize(dataTypeCopy.getKey());
+                canonicalize(dataTypeCopy.getDerivedFrom());
+                dataTypeCopy.setProperties(canonicalize(dataTypeCopy.getProperties()));
+                dataTypes.put(dataTypeCopy.getKey(), dataTypeCopy);
+                addPropertyTypes(dataType.getProperties(), dataTypeKeys);
+                if (dataType.getDerivedFrom() != null && !dataType.getDerivedFrom().isNullKey()) {
+                    dataTypeKeys.push(dataType.getDerivedFrom());
+                }
+            }
+        }
+
+        return new PolicyTypeClosure(Collections.unmodifiableMap(policyTypes), Collections.unmodifiableMap(dataTypes),
+            Collections.unmodifiableSet(missingDataTypes));
+    }
+
+    /**
+     * Canonicalizes the names and keys of the properties of a copied type.
+     *
+     * @param properties the properties of the copy
+     * @return the properties keyed by their canonical names
+     */
+    private Map<String, JpaToscaProperty> canonicalize(final Map<String, JpaToscaProperty> properties) {
+        if (properties == null) {
+            return null;
+        }
+        final Map<String, JpaToscaProperty> canonicalProperties = new LinkedHashMap<>();
+        for (final var entry : properties.entrySet()) {
+            final var property = entry.getValue();
+            canonicalize(property.getKey());
+            canonicalize(property.getType());
+            if (property.getEntrySchema() != null) {
+                canonicalize(property.getEntrySchema().getType());
+            }
+            canonicalProperties.put(canonicalizer.canonicalize(entry.getKey()), property);
+        }
+        return canonicalProperties;
+    }
+
+    private PfConceptKey canonicalize(final PfConceptKey key) {
+        if (key != null) {
+            key.setName(canonicalizer.canonicalize(key.getName()));
+            key.setVersion(canonicalizer.canonicalize(key.getVersion()));
+        }
+        return key;
+    }
+
+    private void canonicalize(final PfReferenceKey key) {
+        if (key != null) {
+            key.setParentKeyName(canonicalizer.canonicalize(key.getParentKeyName()));
+            key.setParentKeyVersion(canonicalizer.canonicalize(key.getParentKeyVersion()));
+            key.setParentLocalName(canonicalizer.canonicalize(key.getParentLocalName()));
+            key.setLocalName(canonicalizer.canonicalize(key.getLocalName()));
+        }
+    }
+
+    private void addPropertyTypes(final Map<String, JpaToscaProperty> properties,
+        final Deque<PfConceptKey> dataTypeKeys) {
+        if (properties == null) {
+            return;
+        }
+        for (final var property : properties.values()) {
+            if (property.getType() != null) {
+                dataTypeKeys.push(property.getType());
+            }
+            if (property.getEntrySchema() != null && property.getEntrySchema().getType() != null) {
+                dataTypeKeys.push(property.getEntrySchema().getType());
+            }
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.ws.rs.core.Response;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.onap.policy.api.main.rest.PolicyWriteJob;
+import org.onap.policy.api.main.rest.PolicyWriteJob.JobStatus;
+import org.onap.policy.models.base.PfModelRuntimeException;
+import org.onap.policy.models.errors.concepts.ErrorResponse;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Executes writes asynchronously. Jobs are applied one at a time, in the order in which they were submitted, by a
+ * single background thread, so that the request threads are released as soon as a job is queued. The status of the
+ * most recently finished jobs is retained so that clients can retrieve their results.
+ */
+@Service
+public class PolicyWriteJobService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PolicyWriteJobService.class);
+
+    private static final long SHUTDOWN_WAIT_SECONDS = 30;
+
+    private final Map<UUID, PolicyWriteJob> jobs = new ConcurrentHashMap<>();
+    private final Queue<UUID> finishedJobs = new ConcurrentLinkedQueue<>();
+    private final int maxRetainedJobs;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Constructs the service.
+     *
+     * @param maxQueuedJobs   the maximum number of jobs waiting to be executed
+     * @param maxRetainedJobs the maximum number of finished jobs whose status is retained
+     */
+    public PolicyWriteJobService(@Value("${policy-api.write-jobs.max-queued:100}") int maxQueuedJobs,
+        @Value("${policy-api.write-jobs.max-retained:1000}") int maxRetainedJobs) {
+        this.maxRetainedJobs = maxRetainedJobs;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(maxQueuedJobs), runnable -> {
+                var thread = new Thread(runnable, "policy-api-write-jobs");
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    /**
+     * Queues a write for asynchronous execution.
+     *
+     * @param operation a description of the operation, reported in the status of the job
+     * @param write     the write to execute
+     * @return the job that was queued
+     * @throws PfModelRuntimeException if the job queue is full
+     */
+    public PolicyWriteJob submit(final String operation, final Supplier<ToscaServiceTemplate> write) {
+        final var job = new PolicyWriteJob();
+        job.setId(UUID.randomUUID());
+        job.setOperation(operation);
+        job.setStatus(JobStatus.QUEUED);
+        job.setSubmittedAt(Instant.now().toString());
+        jobs.put(job.getId(), job);
+
+        try {
+            executor.execute(() -> execute(job, write));
+        } catch (RejectedExecutionException exc) {
+            jobs.remove(job.getId());
+            throw new PfModelRuntimeException(Response.Status.SERVICE_UNAVAILABLE,
+                "write job queue is full, retry the request later", exc);
+        }
+
+        LOGGER.debug("queued write job {} for {}", job.getId(), operation);
+        return job;
+    }
+
+    /**
+     * Retrieves the status of a job.
+     *
+     * @param jobId the ID of the job
+     * @return the job
+     * @throws PfModelRuntimeException if the job is not found
+     */
+    public PolicyWriteJob getJob(final UUID jobId) {
+        final var job = jobs.get(jobId);
+        if (job == null) {
+            throw new PfModelRuntimeException(Response.Status.NOT_FOUND, "job " + jobId + " not found");
+        }
+        return job;
+    }
+
+    /**
+     * Stops accepting jobs, and waits for the queued jobs to complete.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                LOGGER.warn("{} write jobs were not executed before shutdown", executor.shutdownNow().size());
+            }
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+
+    private void execute(final PolicyWriteJob job, final Supplier<ToscaServiceTemplate> write) {
+        job.setStartedAt(Instant.now().toString());
+        job.setStatus(JobStatus.RUNNING);
+        try {
+            job.setResult(write.get());
+            finish(job, JobStatus.SUCCEEDED);
+        } catch (PfModelRuntimeException pfme) {
+            LOGGER.debug("write job {} failed", job.getId(), pfme);
+            job.setError(pfme.getErrorResponse());
+            finish(job, JobStatus.FAILED);
+        } catch (RuntimeException exc) {
+            LOGGER.warn("write job {} failed", job.getId(), exc);
+            final var errorResponse = new ErrorResponse();
+            errorResponse.setResponseCode(Response.Status.INTERNAL_SERVER_ERROR);
+            errorResponse.setErrorMessage(exc.getMessage());
+            job.setError(errorResponse);
+            finish(job, JobStatus.FAILED);
+        }
+    }
+
+    private void finish(final PolicyWriteJob job, final JobStatus status) {
+        job.setFinishedAt(Instant.now().toString());
+        job.setStatus(status);
+        retire(job);
+    }
+
+    private void retire(final PolicyWriteJob job) {
+        finishedJobs.add(job.getId());
+        while (finishedJobs.size() > maxRetainedJobs) {
+            final var expiredJob = finishedJobs.poll();
+            if (expiredJob != null) {
+                jobs.remove(expiredJob);
+            }
+        }
+    }
+}
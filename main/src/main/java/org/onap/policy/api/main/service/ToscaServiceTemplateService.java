@@ -24,8 +24,13 @@ package org.onap.policy.api.main.service;
 
 import jakarta.ws.rs.core.Response;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.CollectionUtils;
@@ -35,22 +40,27 @@ import org.onap.policy.api.main.repository.NodeTypeRepository;
 import org.onap.policy.api.main.repository.PolicyRepository;
 import org.onap.policy.api.main.repository.PolicyTypeRepository;
 import org.onap.policy.api.main.repository.ToscaServiceTemplateRepository;
+import org.onap.policy.api.main.rest.PolicyDeleteRequest;
 import org.onap.policy.api.main.rest.PolicyFetchMode;
-import org.onap.policy.common.parameters.BeanValidationResult;
+import org.onap.policy.api.main.rest.PolicyImportReport;
 import org.onap.policy.models.base.PfConceptKey;
+import org.onap.policy.models.base.PfKey;
 import org.onap.policy.models.base.PfModelException;
 import org.onap.policy.models.base.PfModelRuntimeException;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaEntityFilter;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaNodeTemplate;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicyType;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaTopologyTemplate;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaTypedEntityFilter;
 import org.onap.policy.models.tosca.simple.concepts.JpaToscaDataTypes;
 import org.onap.policy.models.tosca.simple.concepts.JpaToscaNodeTemplate;
 import org.onap.policy.models.tosca.simple.concepts.JpaToscaNodeTemplates;
 import org.onap.policy.models.tosca.simple.concepts.JpaToscaNodeTypes;
 import org.onap.policy.models.tosca.simple.concepts.JpaToscaPolicies;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaPolicy;
 import org.onap.policy.models.tosca.simple.concepts.JpaToscaPolicyTypes;
 import org.onap.policy.models.tosca.simple.concepts.JpaToscaServiceTemplate;
 import org.onap.policy.models.tosca.simple.concepts.JpaToscaTopologyTemplate;
@@ -60,6 +70,7 @@ import org.onap.policy.models.tosca.utils.ToscaUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -74,6 +85,8 @@ public class ToscaServiceTemplateService {
     private static final String NOT_FOUND = " not found";
     public static final String SERVICE_TEMPLATE_NOT_FOUND_MSG = "service template not found in database";
     public static final String DO_NOT_EXIST_MSG = " do not exist";
+    public static final String PRELOAD_FINGERPRINT_METADATA = "policy-api.preload.fingerprint";
+    public static final PfConceptKey PRELOAD_STATE_KEY = new PfConceptKey("policy-api.preload", "1.0.0");
 
     private final ToscaServiceTemplateRepository toscaServiceTemplateRepository;
     private final PolicyRepository policyRepository;
@@ -85,6 +98,8 @@ public class ToscaServiceTemplateService {
     private final PdpGroupService pdpGroupService;
     private final PolicyTypeService policyTypeService;
     private final PolicyService policyService;
+    private final PolicyTypeValidatorCache policyTypeValidatorCache;
+    private final ParallelPolicyProcessor parallelPolicyProcessor;
 
     /**
      * Retrieves a list of policy types matching specified policy type name and version.
@@ -137,6 +152,7 @@ public class ToscaServiceTemplateService {
         final var result = serviceTemplateToWrite.validate("service template");
         if (result.isValid()) {
             toscaServiceTemplateRepository.save(serviceTemplateToWrite);
+            policyTypeValidatorCache.invalidate();
             LOGGER.debug("<-createPolicyType: writtenServiceTemplate={}", serviceTemplateToWrite);
         } else {
             throw new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE, result.getResult());
@@ -158,8 +174,8 @@ public class ToscaServiceTemplateService {
         final var policyTypeKey = new PfConceptKey(policyTypeName, policyTypeVersion);
         LOGGER.debug("->deletePolicyType: name={}, version={}", policyTypeName, policyTypeVersion);
 
-        // terminate deletion if supported in a PdpGroup
-        pdpGroupService.assertPolicyTypeNotSupportedInPdpGroup(policyTypeName, policyTypeVersion);
+        // terminate deletion early if known to be supported in a PdpGroup
+        pdpGroupService.assertPolicyTypeNotKnownSupported(policyTypeName, policyTypeVersion);
 
         final var serviceTemplate = getDefaultJpaToscaServiceTemplate();
 
@@ -174,33 +190,35 @@ public class ToscaServiceTemplateService {
                 POLICY_TYPE + policyTypeKey.getId() + NOT_FOUND);
         }
 
-        final var result = new BeanValidationResult("policy types", serviceTemplate);
-
-        for (final var policyType : serviceTemplate.getPolicyTypes().getAll(null)) {
-            final var ancestorList = ToscaUtils
-                .getEntityTypeAncestors(serviceTemplate.getPolicyTypes(), policyType, result);
-            // terminate deletion if referenced by another via derived_from property
-            if (ancestorList.contains(policyTypeForDeletion)) {
-                throw new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE, POLICY_TYPE + policyTypeKey.getId()
-                    + " is in use, it is referenced in policy type " + policyType.getId());
-            }
+        // terminate deletion if referenced by another via derived_from property, a derived_from without a version
+        // refers to the latest version of the policy type
+        final var latestPolicyType = serviceTemplate.getPolicyTypes().get(policyTypeKey.getName());
+        final var derivedFromVersions = policyTypeKey.equals(latestPolicyType.getKey())
+            ? List.of(policyTypeKey.getVersion(), PfKey.NULL_KEY_VERSION) : List.of(policyTypeKey.getVersion());
+        final var derivedPolicyTypeKeys =
+            policyTypeRepository.findKeysByDerivedFrom(policyTypeKey.getName(), derivedFromVersions);
+        if (!derivedPolicyTypeKeys.isEmpty()) {
+            throw new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE, POLICY_TYPE + policyTypeKey.getId()
+                + " is in use, it is referenced in policy type " + derivedPolicyTypeKeys.get(0).getId());
         }
-        if (ToscaUtils.doPoliciesExist(serviceTemplate)) {
-            for (final var policy : serviceTemplate.getTopologyTemplate().getPolicies().getAll(null)) {
-                // terminate deletion if referenced by a policy
-                if (policyTypeKey.equals(policy.getType())) {
-                    throw new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE, POLICY_TYPE
-                        + policyTypeKey.getId() + " is in use, it is referenced in policy " + policy.getId());
-                }
-            }
+
+        // terminate deletion if referenced by a policy
+        final var policyKeys = policyRepository.findKeysByType(policyTypeKey.getName(), policyTypeKey.getVersion());
+        if (!policyKeys.isEmpty()) {
+            throw new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE, POLICY_TYPE
+                + policyTypeKey.getId() + " is in use, it is referenced in policy " + policyKeys.get(0).getId());
         }
 
+        // recheck that the policy type is not supported in a PdpGroup as late as possible in the transaction
+        pdpGroupService.assertPolicyTypeNotSupportedInPdpGroup(policyTypeName, policyTypeVersion);
+
         // remove policyType from service template and write to DB
         serviceTemplate.getPolicyTypes().getConceptMap().remove(policyTypeKey);
         toscaServiceTemplateRepository.save(serviceTemplate);
 
         // remove the entry from the Policy table
         policyTypeService.deletePolicyType(policyTypeKey);
+        policyTypeValidatorCache.invalidate();
 
         // prepare return service template object
         var deletedServiceTemplate = new JpaToscaServiceTemplate();
@@ -246,6 +264,28 @@ public class ToscaServiceTemplateService {
                                               final String policyName, final String policyVersion,
                                               final PolicyFetchMode mode, final boolean skipMetadata)
         throws PfModelException {
+        return getFilteredPolicies(policyTypeName, policyTypeVersion, policyName, policyVersion, mode, skipMetadata)
+            .toAuthorative();
+    }
+
+    /**
+     * Retrieves a list of policies matching specified name and version of both policy type and policy, without
+     * converting them to authorative concepts. The result is for callers that encode it directly, such as
+     * {@link org.onap.policy.api.main.rest.PolicyReadResult}, and must not be changed.
+     *
+     * @param policyTypeName    the name of policy type
+     * @param policyTypeVersion the version of policy type
+     * @param policyName        the name of policy
+     * @param policyVersion     the version of policy, or {@link ToscaTypedEntityFilter#LATEST_VERSION}
+     * @param mode              the fetch mode for policies
+     * @param skipMetadata      see {@link #fetchPolicies(String, String, String, String, PolicyFetchMode, boolean)}
+     * @return the JPA service template with the policies found
+     * @throws PfModelException on errors getting the policy
+     */
+    public JpaToscaServiceTemplate fetchJpaPolicies(final String policyTypeName, final String policyTypeVersion,
+                                                    final String policyName, final String policyVersion,
+                                                    final PolicyFetchMode mode, final boolean skipMetadata)
+        throws PfModelException {
         return getFilteredPolicies(policyTypeName, policyTypeVersion, policyName, policyVersion, mode, skipMetadata);
     }
 
@@ -263,7 +303,7 @@ public class ToscaServiceTemplateService {
                                                     final String policyName, final PolicyFetchMode mode)
         throws PfModelException {
         return getFilteredPolicies(policyTypeName, policyTypeVersion, policyName, ToscaTypedEntityFilter.LATEST_VERSION,
-            mode, false);
+            mode, false).toAuthorative();
     }
 
     /**
@@ -285,27 +325,191 @@ public class ToscaServiceTemplateService {
      * @throws PfModelRuntimeException on errors creating the policy
      */
     public ToscaServiceTemplate createPolicies(final ToscaServiceTemplate body) throws PfModelRuntimeException {
-        final var incomingServiceTemplate = new JpaToscaServiceTemplate(body);
+        final var incomingServiceTemplate = parallelPolicyProcessor.convert(body);
 
         // assert incoming body contains policies
         ToscaUtils.assertPoliciesExist(incomingServiceTemplate);
 
         // append the incoming fragment to the DB TOSCA service template
-        var dbServiceTemplateOpt = getDefaultJpaToscaServiceTemplateOpt();
-        JpaToscaServiceTemplate serviceTemplateToWrite;
-        serviceTemplateToWrite = dbServiceTemplateOpt.map(
-            jpaToscaServiceTemplate -> ToscaServiceTemplateUtils.addFragment(jpaToscaServiceTemplate,
-                incomingServiceTemplate)).orElse(incomingServiceTemplate);
+        final var serviceTemplateToWrite =
+            mergeAndValidate(getDefaultJpaToscaServiceTemplateOpt().orElse(null), incomingServiceTemplate);
 
-        final var result = serviceTemplateToWrite.validate("Policies CRUD service template.");
+        toscaServiceTemplateRepository.save(serviceTemplateToWrite);
+
+        LOGGER.debug("<-appendServiceTemplateFragment: returnServiceTemplate={}", serviceTemplateToWrite);
+        return body;
+    }
+
+    /**
+     * Creates the policies of several requests in one transaction. The fragments of all the requests are first merged
+     * together, and the result is merged into the database service template and validated once. If that fails, the
+     * fragments are merged and validated one by one, so that a request that is invalid, or that conflicts with an
+     * earlier request of the batch, does not prevent the other requests from being applied. The resulting service
+     * template is saved once.
+     *
+     * @param bodies the entity bodies of the requests
+     * @return the error of each request, in the order of the requests, or null for requests that succeeded
+     */
+    public List<PfModelRuntimeException> createPoliciesInBatch(@NonNull final List<ToscaServiceTemplate> bodies) {
+        LOGGER.debug("->createPoliciesInBatch: requests={}", bodies.size());
+        final List<PfModelRuntimeException> errors = new ArrayList<>(Collections.nCopies(bodies.size(), null));
+        final List<JpaToscaServiceTemplate> fragments = new ArrayList<>(bodies.size());
+        for (var i = 0; i < bodies.size(); i++) {
+            try {
+                final var incomingServiceTemplate = parallelPolicyProcessor.convert(bodies.get(i));
+                ToscaUtils.assertPoliciesExist(incomingServiceTemplate);
+                fragments.add(incomingServiceTemplate);
+            } catch (PfModelRuntimeException pfme) {
+                errors.set(i, pfme);
+                fragments.add(null);
+            }
+        }
+
+        final var dbServiceTemplate = getDefaultJpaToscaServiceTemplateOpt().orElse(null);
+        var serviceTemplateToWrite = mergeBatchFragments(dbServiceTemplate, fragments);
+        if (serviceTemplateToWrite == null) {
+            serviceTemplateToWrite = dbServiceTemplate;
+            for (var i = 0; i < fragments.size(); i++) {
+                if (fragments.get(i) != null) {
+                    try {
+                        serviceTemplateToWrite = mergeAndValidate(serviceTemplateToWrite, fragments.get(i));
+                    } catch (PfModelRuntimeException pfme) {
+                        errors.set(i, pfme);
+                    }
+                }
+            }
+        }
+
+        if (serviceTemplateToWrite != dbServiceTemplate) {
+            toscaServiceTemplateRepository.save(serviceTemplateToWrite);
+        }
+
+        LOGGER.debug("<-createPoliciesInBatch: errors={}", errors);
+        return errors;
+    }
+
+    /**
+     * Merges all the fragments of a batch together, then merges the result into the database service template and
+     * validates it, so that the database service template is copied and validated once for the whole batch.
+     *
+     * @param dbServiceTemplate the database service template, or null if there is none
+     * @param fragments the fragments of the batch, with null entries for requests that were rejected
+     * @return the merged service template, or null if the fragments could not be applied together
+     */
+    private JpaToscaServiceTemplate mergeBatchFragments(final JpaToscaServiceTemplate dbServiceTemplate,
+        final List<JpaToscaServiceTemplate> fragments) {
+        JpaToscaServiceTemplate batchFragment = null;
+        try {
+            for (final var fragment : fragments) {
+                if (fragment != null) {
+                    batchFragment = batchFragment == null ? fragment
+                        : ToscaServiceTemplateUtils.addFragment(batchFragment, fragment);
+                }
+            }
+            return batchFragment == null ? dbServiceTemplate : mergeAndValidate(dbServiceTemplate, batchFragment);
+        } catch (PfModelRuntimeException pfme) {
+            LOGGER.debug("fragments of the batch cannot be applied together", pfme);
+            return null;
+        }
+    }
+
+    /**
+     * Merges a fragment into a service template and validates the result. A fragment that only contains policies is
+     * validated against the cached closures of the policy types of its policies, because the rest of the service
+     * template is already valid, and large numbers of policies are validated in parallel; other fragments are validated
+     * as part of the whole service template.
+     *
+     * @param serviceTemplate the service template, or null if there is none
+     * @param fragment the fragment to merge
+     * @return the merged service template
+     * @throws PfModelRuntimeException if the fragment cannot be merged or the result is not valid
+     */
+    private JpaToscaServiceTemplate mergeAndValidate(final JpaToscaServiceTemplate serviceTemplate,
+        final JpaToscaServiceTemplate fragment) {
+        final var serviceTemplateToWrite = serviceTemplate == null ? fragment
+            : ToscaServiceTemplateUtils.addFragment(serviceTemplate, fragment);
+
+        final var validationTemplate = policyTypeValidatorCache.getValidationTemplate(serviceTemplate, fragment);
+        final var result = validationTemplate == null
+            ? serviceTemplateToWrite.validate("Policies CRUD service template.")
+            : parallelPolicyProcessor.validate(validationTemplate, "Policies CRUD service template.");
         if (!result.isValid()) {
             throw new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE, result.getResult());
         }
+        return serviceTemplateToWrite;
+    }
 
-        toscaServiceTemplateRepository.save(serviceTemplateToWrite);
+    /**
+     * Imports a chunk of policies in its own transaction, so that the chunks imported before it stay imported whatever
+     * happens to it. The chunk is validated against the types of its policies only, and only its new policies are
+     * written, without loading or rewriting the service template once the service template has a policies container.
+     * Policies identical to stored policies are left unchanged.
+     *
+     * @param typesServiceTemplate the stored types, see {@link #getPolicyTypesServiceTemplate()}
+     * @param toscaDefinitionsVersion the TOSCA definitions version of the imported document
+     * @param index the index of the chunk
+     * @param first the position of the first policy of the chunk in the imported document
+     * @param chunk the policies of the chunk
+     * @return the outcome of the import of the chunk
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public PolicyImportReport.ChunkResult importPolicyChunk(final JpaToscaServiceTemplate typesServiceTemplate,
+        final String toscaDefinitionsVersion, final int index, final int first,
+        final List<Map<String, ToscaPolicy>> chunk) {
+
+        final var fragment = new ToscaServiceTemplate();
+        fragment.setToscaDefinitionsVersion(toscaDefinitionsVersion);
+        fragment.setToscaTopologyTemplate(new ToscaTopologyTemplate());
+        fragment.getToscaTopologyTemplate().setPolicies(chunk);
+
+        final JpaToscaServiceTemplate incomingServiceTemplate;
+        try {
+            incomingServiceTemplate = parallelPolicyProcessor.convert(fragment);
+        } catch (PfModelRuntimeException exc) {
+            return new PolicyImportReport.ChunkResult(index, first, chunk.size(), 0, 0, false, exc.getMessage());
+        }
+        final var chunkPolicies = incomingServiceTemplate.getTopologyTemplate().getPolicies();
+        if (chunkPolicies.getConceptMap().size() != chunk.size()) {
+            return new PolicyImportReport.ChunkResult(index, first, chunk.size(), 0, 0, false,
+                "the chunk contains several policies with the same name and version");
+        }
 
-        LOGGER.debug("<-appendServiceTemplateFragment: returnServiceTemplate={}", serviceTemplateToWrite);
-        return body;
+        // validate the chunk against the types of its policies only, rather than against every stored policy
+        final var validationTemplate =
+            policyTypeValidatorCache.getValidationTemplate(typesServiceTemplate, incomingServiceTemplate);
+        final var result = parallelPolicyProcessor.validate(validationTemplate, "policy import chunk " + index);
+        if (!result.isValid()) {
+            return new PolicyImportReport.ChunkResult(index, first, chunk.size(), 0, 0, false, result.getResult());
+        }
+
+        final Map<PfConceptKey, JpaToscaPolicy> newPolicies = new LinkedHashMap<>(chunkPolicies.getConceptMap());
+        for (final var existingPolicy : policyRepository.findAllById(newPolicies.keySet())) {
+            if (existingPolicy.compareTo(newPolicies.remove(existingPolicy.getKey())) != 0) {
+                return new PolicyImportReport.ChunkResult(index, first, chunk.size(), 0, 0, false,
+                    "policy " + existingPolicy.getId() + " does not equal existing entity");
+            }
+        }
+
+        if (!newPolicies.isEmpty()) {
+            final var policiesKey = toscaServiceTemplateRepository.findPoliciesKey(JpaToscaServiceTemplate.DEFAULT_NAME,
+                JpaToscaServiceTemplate.DEFAULT_VERSION);
+            if (policiesKey.isPresent()) {
+                policyService.addPolicies(policiesKey.get(), newPolicies.values());
+            } else {
+                // the first policies create the policies container, through the service template
+                final var dbServiceTemplate = getDefaultJpaToscaServiceTemplate();
+                chunkPolicies.getConceptMap().keySet().retainAll(newPolicies.keySet());
+                if (dbServiceTemplate.getTopologyTemplate() == null) {
+                    dbServiceTemplate.setTopologyTemplate(incomingServiceTemplate.getTopologyTemplate());
+                } else {
+                    dbServiceTemplate.getTopologyTemplate().setPolicies(chunkPolicies);
+                }
+                toscaServiceTemplateRepository.save(dbServiceTemplate);
+            }
+        }
+
+        return new PolicyImportReport.ChunkResult(index, first, chunk.size(), newPolicies.size(),
+            chunk.size() - newPolicies.size(), true, null);
     }
 
     /**
@@ -321,36 +525,115 @@ public class ToscaServiceTemplateService {
         final var policyKey = new PfConceptKey(policyName, policyVersion);
         LOGGER.debug("->deletePolicy: name={}, version={}", policyName, policyVersion);
 
-        // terminate if deployed in a PdpGroup
+        // terminate deletion if not found
+        final var policyForDeletion = policyRepository.findById(policyKey).orElseThrow(
+            () -> new PfModelRuntimeException(Response.Status.NOT_FOUND, "policy " + policyKey.getId() + NOT_FOUND));
+
+        // terminate early if known to be deployed in a PdpGroup
+        pdpGroupService.assertPolicyNotKnownDeployed(policyName, policyVersion);
+
+        // prepare return service template object before the policy is removed from the persistence context
+        var deletedServiceTemplate = new JpaToscaServiceTemplate();
+        deletedServiceTemplate.setTopologyTemplate(new JpaToscaTopologyTemplate());
+        deletedServiceTemplate.getTopologyTemplate().setPolicies(new JpaToscaPolicies());
+        deletedServiceTemplate.getTopologyTemplate().getPolicies().getConceptMap().put(policyKey, policyForDeletion);
+        final var deletedToscaServiceTemplate = deletedServiceTemplate.toAuthorative();
+
+        // recheck that the policy is not deployed in a PdpGroup as late as possible in the transaction
         pdpGroupService.assertPolicyNotDeployedInPdpGroup(policyName, policyVersion);
 
-        final var serviceTemplate = getDefaultJpaToscaServiceTemplate();
+        // remove the policy from the service template and the Policy table by key, without rewriting the template
+        policyService.deletePolicy(policyKey);
 
-        // terminate deletion if not found
-        if (!ToscaUtils.doPoliciesExist(serviceTemplate)) {
-            throw new PfModelRuntimeException(Response.Status.NOT_FOUND, "no policies found");
-        }
+        LOGGER.debug("<-deletePolicy: key={}, serviceTemplate={}", policyKey, deletedServiceTemplate);
+        return deletedToscaServiceTemplate;
+    }
 
-        final var policyForDeletion = serviceTemplate.getTopologyTemplate().getPolicies().get(policyKey);
-        if (policyForDeletion == null) {
-            throw new PfModelRuntimeException(Response.Status.NOT_FOUND, "policy " + policyKey.getId() + NOT_FOUND);
+    /**
+     * Deletes several policies, either an explicit list of policies or the versions of a policy in a version range. The
+     * policies are checked for deployment in PDP groups together, and are all deleted in the same transaction.
+     *
+     * @param deleteRequest the policies to delete
+     * @return the ToscaServiceTemplate object containing the policies that were deleted
+     * @throws PfModelRuntimeException on errors deleting the policies, in which case no policy is deleted
+     */
+    public ToscaServiceTemplate deletePolicies(@NonNull final PolicyDeleteRequest deleteRequest)
+        throws PfModelRuntimeException {
+        LOGGER.debug("->deletePolicies: request={}", deleteRequest);
+        final var policyKeys = getPolicyKeysForDeletion(deleteRequest);
+
+        // terminate deletion if any of the policies is not found
+        final var policiesForDeletion = policyRepository.findAllById(policyKeys);
+        if (policiesForDeletion.size() != policyKeys.size()) {
+            policiesForDeletion.forEach(policy -> policyKeys.remove(policy.getKey()));
+            throw new PfModelRuntimeException(Response.Status.NOT_FOUND, "policies "
+                + policyKeys.stream().map(PfConceptKey::getId).toList() + NOT_FOUND);
         }
 
-        // remove policy from service template and write to DB
-        serviceTemplate.getTopologyTemplate().getPolicies().getConceptMap().remove(policyKey);
-        toscaServiceTemplateRepository.save(serviceTemplate);
-
-        // remove the entry from the Policy table
-        policyService.deletePolicy(policyKey);
+        // terminate early if any of the policies is known to be deployed in a PdpGroup
+        final var policyIdentifiers = policyKeys.stream()
+            .map(key -> new ToscaConceptIdentifier(key.getName(), key.getVersion())).toList();
+        pdpGroupService.assertPoliciesNotKnownDeployed(policyIdentifiers);
 
-        // prepare return service template object
+        // prepare return service template object before the policies are removed from the persistence context
         var deletedServiceTemplate = new JpaToscaServiceTemplate();
         deletedServiceTemplate.setTopologyTemplate(new JpaToscaTopologyTemplate());
         deletedServiceTemplate.getTopologyTemplate().setPolicies(new JpaToscaPolicies());
-        deletedServiceTemplate.getTopologyTemplate().getPolicies().getConceptMap().put(policyKey, policyForDeletion);
+        policiesForDeletion.forEach(policy ->
+            deletedServiceTemplate.getTopologyTemplate().getPolicies().getConceptMap().put(policy.getKey(), policy));
+        final var deletedToscaServiceTemplate = deletedServiceTemplate.toAuthorative();
 
-        LOGGER.debug("<-deletePolicy: key={}, serviceTemplate={}", policyKey, deletedServiceTemplate);
-        return deletedServiceTemplate.toAuthorative();
+        // recheck that none of the policies is deployed in a PdpGroup as late as possible in the transaction
+        pdpGroupService.assertPoliciesNotDeployedInPdpGroup(policyIdentifiers);
+
+        policyService.deletePolicies(policiesForDeletion);
+
+        LOGGER.debug("<-deletePolicies: keys={}", policyKeys);
+        return deletedToscaServiceTemplate;
+    }
+
+    /**
+     * Resolves the keys of the policies identified in a bulk delete request.
+     *
+     * @param deleteRequest the policies to delete
+     * @return the keys of the policies to delete
+     * @throws PfModelRuntimeException if the request does not identify any policy
+     */
+    private Set<PfConceptKey> getPolicyKeysForDeletion(final PolicyDeleteRequest deleteRequest) {
+        final var hasPolicyList = !CollectionUtils.isEmpty(deleteRequest.getPolicies());
+        if (hasPolicyList == (deleteRequest.getName() != null)) {
+            throw new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE,
+                "either a list of policies or a policy name must be specified");
+        }
+
+        final Set<PfConceptKey> policyKeys = new LinkedHashSet<>();
+        if (hasPolicyList) {
+            for (final var policy : deleteRequest.getPolicies()) {
+                if (policy == null || policy.getName() == null || policy.getVersion() == null) {
+                    throw new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE,
+                        "the name and version of each policy must be specified");
+                }
+                policyKeys.add(new PfConceptKey(policy.getName(), policy.getVersion()));
+            }
+            return policyKeys;
+        }
+
+        final var minKey = deleteRequest.getMinVersion() == null ? null
+            : new PfConceptKey(deleteRequest.getName(), deleteRequest.getMinVersion());
+        final var maxKey = deleteRequest.getMaxVersion() == null ? null
+            : new PfConceptKey(deleteRequest.getName(), deleteRequest.getMaxVersion());
+        for (final var policyKey : policyRepository.findKeysByName(deleteRequest.getName())) {
+            if ((minKey == null || !minKey.isNewerThan(policyKey))
+                && (maxKey == null || maxKey.isNewerThan(policyKey))) {
+                policyKeys.add(policyKey);
+            }
+        }
+
+        if (policyKeys.isEmpty()) {
+            throw new PfModelRuntimeException(Response.Status.NOT_FOUND,
+                "no versions of policy " + deleteRequest.getName() + " found in the requested version range");
+        }
+        return policyKeys;
     }
 
     /**
@@ -416,9 +699,9 @@ public class ToscaServiceTemplateService {
      * @return the TOSCA service template containing the specified version of the policy
      * @throws PfModelException on errors getting the policy
      */
-    private ToscaServiceTemplate getFilteredPolicies(final String policyTypeName, final String policyTypeVersion,
-                                                     final String policyName, final String policyVersion,
-                                                     final PolicyFetchMode mode, final boolean skipMetadata)
+    private JpaToscaServiceTemplate getFilteredPolicies(final String policyTypeName, final String policyTypeVersion,
+                                                        final String policyName, final String policyVersion,
+                                                        final PolicyFetchMode mode, final boolean skipMetadata)
         throws PfModelException {
         final var policyFilter = ToscaTypedEntityFilter.<ToscaPolicy>builder()
             .name(policyName).version(policyVersion).type(policyTypeName).typeVersion(policyTypeVersion).build();
@@ -443,14 +726,13 @@ public class ToscaServiceTemplateService {
         final var version =
             ToscaTypedEntityFilter.LATEST_VERSION.equals(policyFilter.getVersion()) ? null : policyFilter.getVersion();
 
-        // fetch all polices and filter by policyType, policy name and version
+        // fetch all polices and filter by policyType, policy name and version, without converting their properties
         final var simpleToscaProvider = new SimpleToscaProvider();
         final var serviceTemplate =
             simpleToscaProvider.getCascadedPolicies(dbServiceTemplate, policyFilter.getName(), version);
 
-        var filteredPolicies = serviceTemplate.getTopologyTemplate()
-            .getPolicies().toAuthorativeList();
-        filteredPolicies = policyFilter.filter(filteredPolicies);
+        final var filteredPolicies = policyFilter.filter(serviceTemplate.getTopologyTemplate().getPolicies()
+            .getConceptMap().values().stream().map(ToscaServiceTemplateService::toFilterablePolicy).toList());
 
         // validate that filtered policies exist
         if (CollectionUtils.isEmpty(filteredPolicies)) {
@@ -472,7 +754,23 @@ public class ToscaServiceTemplateService {
             returnServiceTemplate.setDataTypes(null);
         }
         LOGGER.debug("<-getFilteredPolicies: filter={}, , serviceTemplate={}", policyFilter, returnServiceTemplate);
-        return returnServiceTemplate.toAuthorative();
+        return returnServiceTemplate;
+    }
+
+    /**
+     * Get an authorative policy holding only the fields that policies are filtered on, so that policies can be filtered
+     * before their properties are converted.
+     *
+     * @param policy the policy
+     * @return the authorative policy, without properties
+     */
+    private static ToscaPolicy toFilterablePolicy(final JpaToscaPolicy policy) {
+        final var filterablePolicy = new ToscaPolicy();
+        filterablePolicy.setName(policy.getKey().getName());
+        filterablePolicy.setVersion(policy.getKey().getVersion());
+        filterablePolicy.setType(policy.getType().getName());
+        filterablePolicy.setTypeVersion(policy.getType().getVersion());
+        return filterablePolicy;
     }
 
     /**
@@ -505,19 +803,7 @@ public class ToscaServiceTemplateService {
             throw new PfModelRuntimeException(Response.Status.NOT_FOUND, SERVICE_TEMPLATE_NOT_FOUND_MSG);
         }
 
-        final var serviceTemplate = new JpaToscaServiceTemplate();
-
-        final var policyTypes = policyTypeRepository.findAll();
-        if (!policyTypes.isEmpty()) {
-            serviceTemplate.setPolicyTypes(new JpaToscaPolicyTypes());
-            policyTypes.forEach(pt -> serviceTemplate.getPolicyTypes().getConceptMap().put(pt.getKey(), pt));
-        }
-
-        final var dataTypes = dataTypeRepository.findAll();
-        if (!dataTypes.isEmpty()) {
-            serviceTemplate.setDataTypes(new JpaToscaDataTypes());
-            dataTypes.forEach(dt -> serviceTemplate.getDataTypes().getConceptMap().put(dt.getKey(), dt));
-        }
+        final var serviceTemplate = getPolicyTypesServiceTemplate();
 
         final var nodeTypes = nodeTypeRepository.findAll();
         if (!nodeTypes.isEmpty()) {
@@ -540,6 +826,28 @@ public class ToscaServiceTemplateService {
         return serviceTemplate;
     }
 
+    /**
+     * Get a service template holding all the stored policy types and data types, without loading the policies.
+     *
+     * @return the service template with the stored types
+     */
+    public JpaToscaServiceTemplate getPolicyTypesServiceTemplate() {
+        final var serviceTemplate = new JpaToscaServiceTemplate();
+
+        final var policyTypes = policyTypeRepository.findAll();
+        if (!policyTypes.isEmpty()) {
+            serviceTemplate.setPolicyTypes(new JpaToscaPolicyTypes());
+            policyTypes.forEach(pt -> serviceTemplate.getPolicyTypes().getConceptMap().put(pt.getKey(), pt));
+        }
+
+        final var dataTypes = dataTypeRepository.findAll();
+        if (!dataTypes.isEmpty()) {
+            serviceTemplate.setDataTypes(new JpaToscaDataTypes());
+            dataTypes.forEach(dt -> serviceTemplate.getDataTypes().getConceptMap().put(dt.getKey(), dt));
+        }
+        return serviceTemplate;
+    }
+
     /**
      * Write a node template to the database.
      *
@@ -690,6 +998,107 @@ public class ToscaServiceTemplateService {
         return defaultServiceTemplateOpt.get();
     }
 
+    /**
+     * Checks whether any policy type is stored, without loading the service template.
+     *
+     * @return {@code true} if the database contains policy types
+     */
+    public boolean hasPolicyTypes() {
+        return policyTypeRepository.count() > 0;
+    }
+
+    /**
+     * Get the keys of all the data types, without loading them.
+     *
+     * @return the keys of the stored data types
+     */
+    public Set<PfConceptKey> getDataTypeKeys() {
+        return new LinkedHashSet<>(dataTypeRepository.findAllKeys());
+    }
+
+    /**
+     * Get the keys of all the policy types, without loading them.
+     *
+     * @return the keys of the stored policy types
+     */
+    public Set<PfConceptKey> getPolicyTypeKeys() {
+        return new LinkedHashSet<>(policyTypeRepository.findAllKeys());
+    }
+
+    /**
+     * Get the keys of all the policies, without loading them.
+     *
+     * @return the keys of the stored policies
+     */
+    public Set<PfConceptKey> getPolicyKeys() {
+        return new LinkedHashSet<>(policyRepository.findAllKeys());
+    }
+
+    /**
+     * Creates policy types and policies in a single transaction, either all of them are created or none. All the
+     * service templates are merged into one fragment, which is merged into the database service template, validated
+     * and saved once, rather than once per service template.
+     *
+     * @param policyTypes the service templates of the policy types
+     * @param policies the service templates of the policies
+     * @throws PfModelRuntimeException on errors creating the policy types or policies
+     */
+    public void createPolicyTypesAndPolicies(@NonNull final List<ToscaServiceTemplate> policyTypes,
+        @NonNull final List<ToscaServiceTemplate> policies) throws PfModelRuntimeException {
+        JpaToscaServiceTemplate fragment = null;
+        for (var policyTypeServiceTemplate : policyTypes) {
+            final var incomingServiceTemplate = new JpaToscaServiceTemplate(policyTypeServiceTemplate);
+            ToscaUtils.assertPolicyTypesExist(incomingServiceTemplate);
+            fragment = fragment == null ? incomingServiceTemplate
+                : ToscaServiceTemplateUtils.addFragment(fragment, incomingServiceTemplate);
+        }
+        for (var policyServiceTemplate : policies) {
+            final var incomingServiceTemplate = new JpaToscaServiceTemplate(policyServiceTemplate);
+            ToscaUtils.assertPoliciesExist(incomingServiceTemplate);
+            fragment = fragment == null ? incomingServiceTemplate
+                : ToscaServiceTemplateUtils.addFragment(fragment, incomingServiceTemplate);
+        }
+        if (fragment == null) {
+            return;
+        }
+
+        final var dbServiceTemplateOpt = getDefaultJpaToscaServiceTemplateOpt();
+        final var serviceTemplateToWrite = dbServiceTemplateOpt.isPresent()
+            ? ToscaServiceTemplateUtils.addFragment(dbServiceTemplateOpt.get(), fragment) : fragment;
+
+        final var result = serviceTemplateToWrite.validate("service template");
+        if (!result.isValid()) {
+            throw new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE, result.getResult());
+        }
+        toscaServiceTemplateRepository.save(serviceTemplateToWrite);
+        policyTypeValidatorCache.invalidate();
+        LOGGER.debug("<-createPolicyTypesAndPolicies: writtenServiceTemplate={}", serviceTemplateToWrite);
+    }
+
+    /**
+     * Get the fingerprint of the preloaded policy types and policies.
+     *
+     * @return the fingerprint recorded by {@link #savePreloadFingerprint(String)}, or {@code null} if there is none
+     */
+    public String getPreloadFingerprint() {
+        return toscaServiceTemplateRepository.findMetadataValue(PRELOAD_STATE_KEY.getName(),
+            PRELOAD_STATE_KEY.getVersion(), PRELOAD_FINGERPRINT_METADATA).orElse(null);
+    }
+
+    /**
+     * Records the fingerprint of the preloaded policy types and policies. The fingerprint is kept in the metadata of a
+     * service template row of its own, which holds no concepts, so that it is neither returned with the policies nor
+     * compared with the fragments merged into the default service template, and recording it does not load or rewrite
+     * the default service template.
+     *
+     * @param fingerprint the fingerprint
+     */
+    public void savePreloadFingerprint(@NonNull final String fingerprint) {
+        final var preloadState = new JpaToscaServiceTemplate(PRELOAD_STATE_KEY, "tosca_simple_yaml_1_1_0");
+        preloadState.setMetadata(new LinkedHashMap<>(Map.of(PRELOAD_FINGERPRINT_METADATA, fingerprint)));
+        toscaServiceTemplateRepository.save(preloadState);
+    }
+
     /**
      * Get Service Template Optional object.
      *
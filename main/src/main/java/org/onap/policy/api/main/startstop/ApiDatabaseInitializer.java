@@ -5,6 +5,7 @@
  * Copyright (C) 2019-2022 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2019-2026 OpenInfra Foundation Europe. All rights reserved.
  * Modifications Copyright (C) 2022 Bell Canada. All rights reserved.
+ * Modifications Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,12 +26,23 @@
 package org.onap.policy.api.main.startstop;
 
 import jakarta.annotation.PostConstruct;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import lombok.RequiredArgsConstructor;
 import org.onap.policy.api.main.config.PolicyPreloadConfig;
 import org.onap.policy.api.main.exception.PolicyApiException;
@@ -38,11 +50,11 @@ import org.onap.policy.api.main.service.ToscaServiceTemplateService;
 import org.onap.policy.common.utils.coder.CoderException;
 import org.onap.policy.common.utils.coder.StandardYamlCoder;
 import org.onap.policy.common.utils.resources.ResourceUtils;
+import org.onap.policy.models.base.PfConceptKey;
 import org.onap.policy.models.base.PfModelException;
 import org.onap.policy.models.base.PfModelRuntimeException;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaEntity;
-import org.onap.policy.models.tosca.authorative.concepts.ToscaEntityFilter;
-import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicyType;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaTopologyTemplate;
 import org.slf4j.Logger;
@@ -61,7 +73,7 @@ import org.springframework.stereotype.Component;
 public class ApiDatabaseInitializer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ApiDatabaseInitializer.class);
-    private static final StandardYamlCoder coder = new StandardYamlCoder();
+    private static final ThreadLocal<StandardYamlCoder> coder = ThreadLocal.withInitial(StandardYamlCoder::new);
 
     private final ToscaServiceTemplateService toscaServiceTemplateService;
     private final PolicyPreloadConfig policyPreloadConfig;
@@ -80,71 +92,205 @@ public class ApiDatabaseInitializer {
      */
     public void initializeApiDatabase(final List<String> policyTypes, final List<String> policies)
         throws PolicyApiException {
+        ExecutorService executor = null;
         try {
-            if (alreadyExists()) {
+            var fingerprint = fingerprint(policyTypes, policies);
+            if (fingerprint.equals(toscaServiceTemplateService.getPreloadFingerprint())) {
+                LOGGER.info("DB already preloaded with {} - skipping preload", fingerprint);
+                return;
+            }
+
+            if (toscaServiceTemplateService.hasPolicyTypes()) {
+                if (policyPreloadConfig.isIncremental()) {
+                    preloadMissing(policyTypes, policies, fingerprint);
+                    return;
+                }
                 LOGGER.warn("DB already contains policy data - skipping preload");
+                toscaServiceTemplateService.savePreloadFingerprint(fingerprint);
+                return;
+            }
+
+            var bundle = loadBundle(fingerprint);
+            if (bundle != null) {
+                // The policy types were decoded and merged at build time, the policies are merged with what the DB
+                // returns for the policy types, as when preloading from the resources
+                ToscaServiceTemplate createdPolicyTypes = createPreloaded(bundle.getPolicyTypes(),
+                    bundle.getMultiVersionPolicyTypes(), toscaServiceTemplateService::createPolicyType);
+                preloadServiceTemplate(createdPolicyTypes, policies,
+                    bundle.getPolicies().stream().map(CompletableFuture::completedFuture).toList(),
+                    toscaServiceTemplateService::createPolicies);
+                toscaServiceTemplateService.savePreloadFingerprint(fingerprint);
                 return;
             }
 
-            var serviceTemplate = new ToscaServiceTemplate();
-            serviceTemplate.setDataTypes(new LinkedHashMap<>());
-            serviceTemplate.setPolicyTypes(new LinkedHashMap<>());
-            serviceTemplate.setToscaDefinitionsVersion("tosca_simple_yaml_1_1_0");
+            // All resources are decoded in parallel up front, and merged in the configured order as before
+            executor = createDecoderPool(policyTypes.size() + policies.size());
+            var decodedPolicyTypes = decodeAll(policyTypes, executor);
+            var decodedPolicies = decodeAll(policies, executor);
 
-            ToscaServiceTemplate createdPolicyTypes =
-                preloadServiceTemplate(serviceTemplate, policyTypes, toscaServiceTemplateService::createPolicyType);
-            preloadServiceTemplate(createdPolicyTypes, policies, toscaServiceTemplateService::createPolicies);
+            ToscaServiceTemplate createdPolicyTypes = preloadServiceTemplate(newServiceTemplate(), policyTypes,
+                decodedPolicyTypes, toscaServiceTemplateService::createPolicyType);
+            preloadServiceTemplate(createdPolicyTypes, policies, decodedPolicies,
+                toscaServiceTemplateService::createPolicies);
+            toscaServiceTemplateService.savePreloadFingerprint(fingerprint);
         } catch (final PolicyApiException | PfModelException | CoderException exp) {
             throw new PolicyApiException(exp);
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
         }
     }
 
-    private boolean alreadyExists() throws PfModelException {
-        try {
-            ToscaServiceTemplate serviceTemplate = toscaServiceTemplateService
-                .getFilteredPolicyTypes(ToscaEntityFilter.<ToscaPolicyType>builder().build());
-            if (!serviceTemplate.getPolicyTypes().isEmpty()) {
-                return true;
+    /**
+     * Preloads the configured policy types and policies that are not in the database yet, in one transaction. The
+     * stored entities are found by key, without loading them.
+     *
+     * @param policyTypes the policy types to preload
+     * @param policies the policies to preload
+     * @param fingerprint the fingerprint recorded once the missing entities are created
+     */
+    private void preloadMissing(List<String> policyTypes, List<String> policies, String fingerprint)
+            throws PolicyApiException, CoderException {
+        var policyTypeTemplates = new ArrayList<ToscaServiceTemplate>();
+        List<ToscaServiceTemplate> policyTemplates;
+        var bundle = loadBundle(fingerprint);
+        if (bundle != null) {
+            policyTypeTemplates.add(bundle.getPolicyTypes());
+            policyTypeTemplates.addAll(bundle.getMultiVersionPolicyTypes());
+            policyTemplates = bundle.getPolicies();
+        } else {
+            var executor = createDecoderPool(policyTypes.size() + policies.size());
+            try {
+                var decodedPolicyTypes = decodeAll(policyTypes, executor);
+                var decodedPolicies = decodeAll(policies, executor);
+                for (var decodedPolicyType : decodedPolicyTypes) {
+                    policyTypeTemplates.add(awaitDecoded(decodedPolicyType));
+                }
+                policyTemplates = new ArrayList<>(decodedPolicies.size());
+                for (var decodedPolicy : decodedPolicies) {
+                    policyTemplates.add(awaitDecoded(decodedPolicy));
+                }
+            } finally {
+                executor.shutdownNow();
             }
-        } catch (PfModelRuntimeException e) {
-            LOGGER.trace("DB does not yet contain policy types", e);
         }
-        return false;
-    }
 
-    private ToscaServiceTemplate preloadServiceTemplate(ToscaServiceTemplate serviceTemplate, List<String> entities,
-            FunctionWithEx<ToscaServiceTemplate, ToscaServiceTemplate> getter)
-            throws PolicyApiException, CoderException, PfModelException {
+        var dataTypeKeys = toscaServiceTemplateService.getDataTypeKeys();
+        var policyTypeKeys = toscaServiceTemplateService.getPolicyTypeKeys();
+        var policyKeys = toscaServiceTemplateService.getPolicyKeys();
 
-        var multiVersionTemplates = new ArrayList<ToscaServiceTemplate>();
+        var missingPolicyTypes = newServiceTemplate();
+        var multiVersionPolicyTypes = new ArrayList<ToscaServiceTemplate>();
+        for (var template : policyTypeTemplates) {
+            var missing = withoutStored(template, dataTypeKeys, policyTypeKeys, policyKeys);
+            consolidateEntity(missingPolicyTypes, String.valueOf(missing.getPolicyTypes().keySet()), missing,
+                multiVersionPolicyTypes);
+        }
 
-        for (String entity : entities) {
-            ToscaServiceTemplate singleEntity = deserializeServiceTemplate(entity);
+        var missingPolicies = newServiceTemplate();
+        var multiVersionPolicies = new ArrayList<ToscaServiceTemplate>();
+        for (var template : policyTemplates) {
+            var missing = withoutStored(template, dataTypeKeys, policyTypeKeys, policyKeys);
+            consolidateEntity(missingPolicies, String.valueOf(missing.getPolicyTypes().keySet()), missing,
+                multiVersionPolicies);
+        }
+
+        var policyTypesToCreate = new ArrayList<ToscaServiceTemplate>();
+        if (!missingPolicyTypes.getPolicyTypes().isEmpty()) {
+            policyTypesToCreate.add(missingPolicyTypes);
+        }
+        policyTypesToCreate.addAll(multiVersionPolicyTypes);
 
-            if (isMultiVersion(serviceTemplate.getPolicyTypes(), singleEntity.getPolicyTypes())) {
-                // if this entity introduces a new policy version of an existing policy type,
-                // process it on its own as continuing here will override the existing policy type
-                // in a different version
+        var policiesToCreate = new ArrayList<ToscaServiceTemplate>();
+        if (missingPolicies.getToscaTopologyTemplate() != null) {
+            policiesToCreate.add(missingPolicies);
+        }
+        policiesToCreate.addAll(multiVersionPolicies);
 
-                multiVersionTemplates.add(singleEntity);
-                LOGGER.warn("Detected multi-versioned type: {}", entity);
-                continue;
+        if (policyTypesToCreate.isEmpty() && policiesToCreate.isEmpty()) {
+            LOGGER.info("DB already contains the preloaded policy types and policies - skipping preload");
+        } else {
+            try {
+                LOGGER.info("Preloading missing policy types {} and policies {}",
+                    missingPolicyTypes.getPolicyTypes().keySet(), policyKeys(missingPolicies));
+                toscaServiceTemplateService.createPolicyTypesAndPolicies(policyTypesToCreate, policiesToCreate);
+            } catch (PfModelRuntimeException exp) {
+                LOGGER.warn("Missing policy types and policies cannot be preloaded", exp);
+                return;
             }
+        }
+        toscaServiceTemplateService.savePreloadFingerprint(fingerprint);
+    }
+
+    /**
+     * Copies the data types, policy types and policies of a service template that are not stored yet.
+     */
+    private static ToscaServiceTemplate withoutStored(ToscaServiceTemplate template, Set<PfConceptKey> dataTypeKeys,
+            Set<PfConceptKey> policyTypeKeys, Set<PfConceptKey> policyKeys) {
+        var missing = new ToscaServiceTemplate();
+        missing.setToscaDefinitionsVersion(template.getToscaDefinitionsVersion());
+        missing.setDataTypes(withoutStored(template.getDataTypes(), dataTypeKeys));
+        missing.setPolicyTypes(withoutStored(template.getPolicyTypes(), policyTypeKeys));
 
-            // Consolidate data types and policy types
-            if (singleEntity.getDataTypes() != null) {
-                serviceTemplate.getDataTypes().putAll(singleEntity.getDataTypes());
+        var topologyTemplate = template.getToscaTopologyTemplate();
+        if (topologyTemplate != null && topologyTemplate.getPolicies() != null) {
+            var policies = new ArrayList<Map<String, ToscaPolicy>>();
+            for (var policyMap : topologyTemplate.getPolicies()) {
+                var missingPolicies = withoutStored(policyMap, policyKeys);
+                if (!missingPolicies.isEmpty()) {
+                    policies.add(missingPolicies);
+                }
             }
-            if (singleEntity.getPolicyTypes() != null) {
-                serviceTemplate.getPolicyTypes().putAll(singleEntity.getPolicyTypes());
+            if (!policies.isEmpty()) {
+                missing.setToscaTopologyTemplate(new ToscaTopologyTemplate());
+                missing.getToscaTopologyTemplate().setPolicies(policies);
             }
+        }
+        return missing;
+    }
 
-            // Consolidate policies
-            var topologyTemplate = singleEntity.getToscaTopologyTemplate();
-            if (topologyTemplate != null && topologyTemplate.getPolicies() != null) {
-                consolidatePolicies(serviceTemplate, topologyTemplate);
-            }
+    private static <T extends ToscaEntity> Map<String, T> withoutStored(Map<String, T> entities,
+            Set<PfConceptKey> storedKeys) {
+        var missing = new LinkedHashMap<String, T>();
+        if (entities != null) {
+            entities.forEach((name, entity) -> {
+                var entityName = entity.getName() != null ? entity.getName() : name;
+                if (entity.getVersion() == null || !storedKeys.contains(new PfConceptKey(entityName,
+                        entity.getVersion()))) {
+                    missing.put(name, entity);
+                }
+            });
+        }
+        return missing;
+    }
+
+    private static List<String> policyKeys(ToscaServiceTemplate serviceTemplate) {
+        if (serviceTemplate.getToscaTopologyTemplate() == null) {
+            return List.of();
         }
+        return serviceTemplate.getToscaTopologyTemplate().getPolicies().stream()
+            .flatMap(policyMap -> policyMap.entrySet().stream())
+            .map(policy -> policy.getKey() + ":" + policy.getValue().getVersion()).toList();
+    }
+
+    private ToscaServiceTemplate preloadServiceTemplate(ToscaServiceTemplate serviceTemplate, List<String> entities,
+            List<Future<ToscaServiceTemplate>> decodedEntities,
+            FunctionWithEx<ToscaServiceTemplate, ToscaServiceTemplate> getter)
+            throws PolicyApiException, CoderException, PfModelException {
+
+        var multiVersionTemplates = new ArrayList<ToscaServiceTemplate>();
+
+        for (var index = 0; index < entities.size(); index++) {
+            consolidateEntity(serviceTemplate, entities.get(index), awaitDecoded(decodedEntities.get(index)),
+                multiVersionTemplates);
+        }
+        return createPreloaded(serviceTemplate, multiVersionTemplates, getter);
+    }
+
+    private ToscaServiceTemplate createPreloaded(ToscaServiceTemplate serviceTemplate,
+            List<ToscaServiceTemplate> multiVersionTemplates,
+            FunctionWithEx<ToscaServiceTemplate, ToscaServiceTemplate> getter) throws PfModelException {
         // Preload the specified entities
         ToscaServiceTemplate createdServiceTemplate = getter.apply(serviceTemplate);
         LOGGER.debug("Created initial tosca service template in DB - {}", createdServiceTemplate);
@@ -161,6 +307,54 @@ public class ApiDatabaseInitializer {
         return createdServiceTemplate;
     }
 
+    /**
+     * Creates the empty service template the preloaded policy types are merged into.
+     *
+     * @return the service template
+     */
+    static ToscaServiceTemplate newServiceTemplate() {
+        var serviceTemplate = new ToscaServiceTemplate();
+        serviceTemplate.setDataTypes(new LinkedHashMap<>());
+        serviceTemplate.setPolicyTypes(new LinkedHashMap<>());
+        serviceTemplate.setToscaDefinitionsVersion("tosca_simple_yaml_1_1_0");
+        return serviceTemplate;
+    }
+
+    /**
+     * Merges a preloaded entity into the service template, unless it is a new version of a type already in it.
+     *
+     * @param serviceTemplate the service template to be sent to database
+     * @param entity the name of the preloaded resource
+     * @param singleEntity the decoded resource
+     * @param multiVersionTemplates the resources to be created on their own
+     */
+    static void consolidateEntity(ToscaServiceTemplate serviceTemplate, String entity,
+            ToscaServiceTemplate singleEntity, List<ToscaServiceTemplate> multiVersionTemplates) {
+        if (isMultiVersion(serviceTemplate.getPolicyTypes(), singleEntity.getPolicyTypes())) {
+            // if this entity introduces a new policy version of an existing policy type,
+            // process it on its own as continuing here will override the existing policy type
+            // in a different version
+
+            multiVersionTemplates.add(singleEntity);
+            LOGGER.warn("Detected multi-versioned type: {}", entity);
+            return;
+        }
+
+        // Consolidate data types and policy types
+        if (singleEntity.getDataTypes() != null) {
+            serviceTemplate.getDataTypes().putAll(singleEntity.getDataTypes());
+        }
+        if (singleEntity.getPolicyTypes() != null) {
+            serviceTemplate.getPolicyTypes().putAll(singleEntity.getPolicyTypes());
+        }
+
+        // Consolidate policies
+        var topologyTemplate = singleEntity.getToscaTopologyTemplate();
+        if (topologyTemplate != null && topologyTemplate.getPolicies() != null) {
+            consolidatePolicies(serviceTemplate, topologyTemplate);
+        }
+    }
+
     /**
      * Validates the topology template to have policies and add them to the final service template.
      * @param serviceTemplate the service template to be sent to database
@@ -179,13 +373,115 @@ public class ApiDatabaseInitializer {
                 .addAll(topologyTemplate.getPolicies());
     }
 
-    private ToscaServiceTemplate deserializeServiceTemplate(String entity) throws PolicyApiException, CoderException {
+    private ExecutorService createDecoderPool(int resourceCount) {
+        var parallelism = policyPreloadConfig.getParallelism() > 0 ? policyPreloadConfig.getParallelism()
+            : Runtime.getRuntime().availableProcessors();
+        return Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, resourceCount)), runnable -> {
+            var thread = new Thread(runnable, "policy-api-preload");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private List<Future<ToscaServiceTemplate>> decodeAll(List<String> entities, ExecutorService executor) {
+        var decodedEntities = new ArrayList<Future<ToscaServiceTemplate>>(entities.size());
+        for (String entity : entities) {
+            decodedEntities.add(executor.submit(() -> deserializeServiceTemplate(entity)));
+        }
+        return decodedEntities;
+    }
+
+    private ToscaServiceTemplate awaitDecoded(Future<ToscaServiceTemplate> decodedEntity)
+            throws PolicyApiException, CoderException {
+        try {
+            return decodedEntity.get();
+        } catch (InterruptedException exp) {
+            Thread.currentThread().interrupt();
+            throw new PolicyApiException("Interrupted while decoding preloaded entities", exp);
+        } catch (ExecutionException exp) {
+            var cause = exp.getCause();
+            if (cause instanceof PolicyApiException policyApiException) {
+                throw policyApiException;
+            }
+            if (cause instanceof CoderException coderException) {
+                throw coderException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new PolicyApiException("Error decoding preloaded entity", exp);
+        }
+    }
+
+    /**
+     * Loads the preload bundle generated at build time, if it was generated for the resources to preload.
+     *
+     * @param fingerprint the fingerprint of the resources to preload
+     * @return the bundle, or {@code null} if the resources must be decoded
+     */
+    private PreloadBundle loadBundle(String fingerprint) {
+        var bundleResource = policyPreloadConfig.getBundle();
+        if (bundleResource == null || bundleResource.isBlank()) {
+            return null;
+        }
+
+        var bundle = PreloadBundle.read(bundleResource);
+        if (bundle == null) {
+            LOGGER.info("Preload bundle {} not available - decoding preloaded entities", bundleResource);
+            return null;
+        }
+        if (!bundle.isFor(fingerprint)) {
+            LOGGER.info("Preload bundle {} was built for other entities - decoding preloaded entities",
+                bundleResource);
+            return null;
+        }
+
+        LOGGER.info("Preloading entities from bundle {}", bundleResource);
+        return bundle;
+    }
+
+    /**
+     * Computes the fingerprint of the content of the preloaded resources, in the configured order.
+     *
+     * @param policyTypes the policy types to preload
+     * @param policies the policies to preload
+     * @return the fingerprint, a missing resource is part of it so that it is reported when decoding it
+     * @throws PolicyApiException if the fingerprint cannot be computed
+     */
+    static String fingerprint(List<String> policyTypes, List<String> policies) throws PolicyApiException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exp) {
+            throw new PolicyApiException(exp);
+        }
+
+        for (List<String> entities : List.of(policyTypes, policies)) {
+            for (String entity : entities) {
+                var entityAsStringYaml = ResourceUtils.getResourceAsString(entity);
+                var content = entityAsStringYaml != null ? entityAsStringYaml.getBytes(StandardCharsets.UTF_8) : null;
+                digest.update(entity.getBytes(StandardCharsets.UTF_8));
+                digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(content != null ? content.length : -1).flip());
+                if (content != null) {
+                    digest.update(content);
+                }
+            }
+            // separates the policy types from the policies
+            digest.update((byte) 0);
+        }
+        return "sha256:" + HexFormat.of().formatHex(digest.digest());
+    }
+
+    static ToscaServiceTemplate deserializeServiceTemplate(String entity) throws PolicyApiException, CoderException {
         var entityAsStringYaml = ResourceUtils.getResourceAsString(entity);
         if (entityAsStringYaml == null) {
             throw new PolicyApiException("Preloaded entity cannot be found " + entity);
         }
 
-        ToscaServiceTemplate singleEntity = coder.decode(entityAsStringYaml, ToscaServiceTemplate.class);
+        ToscaServiceTemplate singleEntity = coder.get().decode(entityAsStringYaml, ToscaServiceTemplate.class);
         if (singleEntity == null) {
             throw new PolicyApiException("Error deserializing entity from file: " + entity);
         }
@@ -195,7 +491,7 @@ public class ApiDatabaseInitializer {
     // This method is templated, so it can be used with other derivations of ToscaEntity in the future,
     // if multi-version are desired.
 
-    protected <T extends ToscaEntity> boolean isMultiVersion(Map<String, T> aggEntity,
+    protected static <T extends ToscaEntity> boolean isMultiVersion(Map<String, T> aggEntity,
                                                              Map<String, T> singleEntity) {
         if (aggEntity == null || singleEntity == null) {
             return false;
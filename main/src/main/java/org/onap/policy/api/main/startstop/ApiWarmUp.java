@@ -0,0 +1,137 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.startstop;
+
+import com.google.gson.Gson;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import org.onap.policy.api.main.rest.PolicyFetchMode;
+import org.onap.policy.api.main.service.ToscaServiceTemplateService;
+import org.onap.policy.models.base.PfConceptKey;
+import org.onap.policy.models.base.PfModelException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Issues representative reads after the database is initialized, so that the first requests of a new replica do not
+ * pay for loading classes, compiling hot paths and filling caches. Application runners complete before the
+ * application is marked ready, so a replica only accepts traffic once its warm-up is over. The time taken is logged
+ * and reported in the {@value #METRIC_NAME} timer.
+ */
+@Component
+public class ApiWarmUp implements ApplicationRunner {
+
+    public static final String METRIC_NAME = "policy.api.warmup";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApiWarmUp.class);
+
+    private final ToscaServiceTemplateService toscaServiceTemplateService;
+    private final ObjectProvider<Gson> gson;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final boolean enabled;
+    private final int iterations;
+    private final int sampleSize;
+
+    /**
+     * Constructs the warm-up.
+     *
+     * @param toscaServiceTemplateService the service the reads are issued through
+     * @param gson          the mapper the results are encoded with, as in responses, if there is one
+     * @param meterRegistry the registry the warm-up time is reported in, if there is one
+     * @param enabled       whether the warm-up runs
+     * @param iterations    the number of times the reads are issued
+     * @param sampleSize    the maximum number of policies read one by one
+     */
+    public ApiWarmUp(ToscaServiceTemplateService toscaServiceTemplateService, ObjectProvider<Gson> gson,
+        ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${policy-api.warm-up.enabled:false}") boolean enabled,
+        @Value("${policy-api.warm-up.iterations:3}") int iterations,
+        @Value("${policy-api.warm-up.sample-size:20}") int sampleSize) {
+        this.toscaServiceTemplateService = toscaServiceTemplateService;
+        this.gson = gson;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.iterations = iterations;
+        this.sampleSize = sampleSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        final var start = System.nanoTime();
+        var reads = 0;
+        for (var iteration = 0; iteration < iterations; iteration++) {
+            reads += warmUp();
+        }
+        final var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        LOGGER.info("warm-up issued {} reads in {} ms", reads, elapsed.toMillis());
+        meterRegistry.ifAvailable(registry -> Timer.builder(METRIC_NAME)
+            .description("Time taken by the warm-up before the application is ready").register(registry)
+            .record(elapsed));
+    }
+
+    private int warmUp() {
+        var reads = 0;
+        reads += read("policy types", () -> toscaServiceTemplateService.fetchPolicyTypes(null, null));
+        reads += read("node templates", () -> toscaServiceTemplateService.fetchToscaNodeTemplates(null, null));
+
+        List<PfConceptKey> policyKeys;
+        try {
+            policyKeys = toscaServiceTemplateService.getPolicyKeys().stream().limit(sampleSize).toList();
+        } catch (RuntimeException exp) {
+            LOGGER.debug("warm-up read of policy keys failed", exp);
+            return reads;
+        }
+        for (var policyKey : policyKeys) {
+            reads += read("policy " + policyKey.getId(), () -> toscaServiceTemplateService.fetchPolicies(null, null,
+                policyKey.getName(), policyKey.getVersion(), PolicyFetchMode.BARE));
+        }
+        return reads;
+    }
+
+    private int read(String description, Read read) {
+        try {
+            var result = read.get();
+            gson.ifAvailable(mapper -> mapper.toJson(result));
+            return 1;
+        } catch (PfModelException | RuntimeException exp) {
+            LOGGER.debug("warm-up read of {} failed", description, exp);
+            return 0;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Read {
+        Object get() throws PfModelException;
+    }
+}
@@ -0,0 +1,130 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.startstop;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.common.utils.resources.ResourceUtils;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The preloaded policy types and policies, decoded, merged and validated at build time by
+ * {@link PreloadBundleGenerator}. The bundle is stored as gzipped JSON and records the fingerprint of the resources it
+ * was generated from, so that it is only used when the configured resources, and their content, match them.
+ */
+@Data
+@NoArgsConstructor
+public class PreloadBundle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PreloadBundle.class);
+    private static final StandardCoder CODER = new StandardCoder();
+
+    /**
+     * The fingerprint of the resources the bundle was generated from, see
+     * {@link ApiDatabaseInitializer#fingerprint(List, List)}.
+     */
+    private String fingerprint;
+
+    /**
+     * The policy types of all resources, merged in the configured order.
+     */
+    private ToscaServiceTemplate policyTypes;
+
+    /**
+     * The resources introducing another version of an already merged policy type, created on their own.
+     */
+    private List<ToscaServiceTemplate> multiVersionPolicyTypes;
+
+    /**
+     * The decoded policy resources, in the configured order. They are merged at startup into the policy types
+     * returned by the database.
+     */
+    private List<ToscaServiceTemplate> policies;
+
+    /**
+     * Checks if this bundle was generated from the resources with the given fingerprint.
+     *
+     * @param fingerprint the fingerprint of the resources to preload
+     * @return {@code true} if the bundle can be preloaded instead of the resources
+     */
+    public boolean isFor(String fingerprint) {
+        return Objects.equals(this.fingerprint, fingerprint);
+    }
+
+    /**
+     * Reads a bundle.
+     *
+     * @param resource the resource or file containing the bundle
+     * @return the bundle, or {@code null} if it does not exist or cannot be read
+     */
+    public static PreloadBundle read(String resource) {
+        var stream = ResourceUtils.getResourceAsStream(resource);
+        if (stream == null) {
+            return null;
+        }
+
+        try (stream; var reader = new InputStreamReader(new GZIPInputStream(stream), StandardCharsets.UTF_8)) {
+            var bundle = CODER.decode(reader, PreloadBundle.class);
+            if (bundle == null || bundle.getFingerprint() == null || bundle.getPolicyTypes() == null
+                    || bundle.getMultiVersionPolicyTypes() == null || bundle.getPolicies() == null) {
+                LOGGER.warn("Preload bundle {} is incomplete", resource);
+                return null;
+            }
+            return bundle;
+        } catch (IOException | CoderException | RuntimeException exp) {
+            LOGGER.warn("Preload bundle {} cannot be read", resource, exp);
+            return null;
+        }
+    }
+
+    /**
+     * Writes this bundle.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     * @throws CoderException if the bundle cannot be encoded
+     */
+    public void write(Path file) throws IOException, CoderException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+
+        try (var writer = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(file)),
+                StandardCharsets.UTF_8)) {
+            CODER.encode(writer, this);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.startstop;
+
+import com.google.gson.annotations.SerializedName;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.onap.policy.api.main.config.PolicyPreloadConfig;
+import org.onap.policy.common.utils.coder.StandardYamlCoder;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaServiceTemplate;
+import org.onap.policy.models.tosca.utils.ToscaServiceTemplateUtils;
+
+/**
+ * Generates the {@link PreloadBundle} for the policy-preload section of an application configuration. It runs
+ * during the build, so the decoding and merging of the bundled policy types is not repeated by every deployment, and
+ * fails the build if the preloaded policy types and policies are not valid together. They are still validated when
+ * they are created, against what the database already contains.
+ */
+public final class PreloadBundleGenerator {
+
+    private PreloadBundleGenerator() {
+        // only used from the build
+    }
+
+    /**
+     * Generates the bundle.
+     *
+     * @param args the application configuration file and the bundle file to write
+     * @throws Exception if the bundle cannot be generated
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("usage: PreloadBundleGenerator <application.yaml> <bundle>");
+        }
+
+        var configuration = new StandardYamlCoder().decode(Files.readString(Path.of(args[0])), Configuration.class);
+        if (configuration == null || configuration.getPolicyPreload() == null) {
+            throw new IllegalArgumentException("No policy-preload configuration in " + args[0]);
+        }
+
+        generate(configuration.getPolicyPreload()).write(Path.of(args[1]));
+    }
+
+    /**
+     * Decodes and merges the configured resources the same way as {@link ApiDatabaseInitializer}, and validates them.
+     *
+     * @param preloadConfig the preload configuration
+     * @return the bundle
+     * @throws Exception if a resource cannot be found or decoded, or the resources are not valid
+     */
+    public static PreloadBundle generate(PolicyPreloadConfig preloadConfig) throws Exception {
+        var policyTypeResources = nonNull(preloadConfig.getPolicyTypes());
+        var policyResources = nonNull(preloadConfig.getPolicies());
+
+        var policyTypes = ApiDatabaseInitializer.newServiceTemplate();
+        var multiVersionPolicyTypes = new ArrayList<ToscaServiceTemplate>();
+        for (var entity : policyTypeResources) {
+            ApiDatabaseInitializer.consolidateEntity(policyTypes, entity,
+                ApiDatabaseInitializer.deserializeServiceTemplate(entity), multiVersionPolicyTypes);
+        }
+
+        var policies = new ArrayList<ToscaServiceTemplate>(policyResources.size());
+        for (var entity : policyResources) {
+            policies.add(ApiDatabaseInitializer.deserializeServiceTemplate(entity));
+        }
+
+        var bundle = new PreloadBundle();
+        bundle.setFingerprint(ApiDatabaseInitializer.fingerprint(policyTypeResources, policyResources));
+        bundle.setPolicyTypes(policyTypes);
+        bundle.setMultiVersionPolicyTypes(multiVersionPolicyTypes);
+        bundle.setPolicies(policies);
+        validate(bundle);
+        return bundle;
+    }
+
+    /**
+     * Merges the policy types and policies of a bundle into one service template and validates it.
+     *
+     * @param bundle the bundle
+     * @throws IllegalArgumentException if the policy types and policies are not valid
+     */
+    static void validate(PreloadBundle bundle) {
+        var serviceTemplate = new JpaToscaServiceTemplate(bundle.getPolicyTypes());
+        for (var fragment : bundle.getMultiVersionPolicyTypes()) {
+            serviceTemplate =
+                ToscaServiceTemplateUtils.addFragment(serviceTemplate, new JpaToscaServiceTemplate(fragment));
+        }
+        for (var fragment : bundle.getPolicies()) {
+            serviceTemplate =
+                ToscaServiceTemplateUtils.addFragment(serviceTemplate, new JpaToscaServiceTemplate(fragment));
+        }
+
+        var result = serviceTemplate.validate("preloaded policy types and policies");
+        if (!result.isValid()) {
+            throw new IllegalArgumentException(result.getResult());
+        }
+    }
+
+    private static List<String> nonNull(List<String> resources) {
+        return resources != null ? resources : List.of();
+    }
+
+    @Getter
+    @Setter
+    private static class Configuration {
+        @SerializedName("policy-preload")
+        private PolicyPreloadConfig policyPreload;
+    }
+}
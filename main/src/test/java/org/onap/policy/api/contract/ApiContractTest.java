@@ -73,10 +73,13 @@ class ApiContractTest {
         checkStubJsonGet("/policytypes/380d5cb1-e43d-45b7-b10b-ebd15dfabd16/versions/1.0.0/policies/"
             + "9c65fa1f-2833-4076-a64d-5b62e35cd09b/versions/1.2.3");
         checkStubJsonGet("/healthcheck");
+        checkStubJsonGet("/jobs/4c2b7a6e-5d1f-4a8e-9b3c-2f6d8e1a7b90");
 
         checkStubJsonPost("/policies");
         checkStubJsonPost("/policytypes");
         checkStubJsonPost("/policytypes/380d5cb1-e43d-45b7-b10b-ebd15dfabd16/versions/1.2.3/policies");
+        checkStubJsonPostOk("/policies/import");
+        checkStubJsonPostOk("/policies/delete");
 
         checkStubJsonDelete("/policies/policyname/versions/1.0.2");
         checkStubJsonDelete("/policytypes/380d5cb1-e43d-45b7-b10b-ebd15dfabd16/versions/1.0.0");
@@ -116,6 +119,14 @@ class ApiContractTest {
             .exchange().expectStatus().isCreated();
     }
 
+    private void checkStubJsonPostOk(String url) {
+        var body = ResourceUtils.getResourceAsString(TOSCA_NODE_TEMPLATE_RESOURCE);
+        webClient.post().uri(url)
+            .contentType(MediaType.APPLICATION_JSON).bodyValue(body)
+            .accept(APPLICATION_JSON)
+            .exchange().expectStatus().isOk();
+    }
+
     private void checkStubJsonPut() {
         var body = ResourceUtils.getResourceAsString(TOSCA_NODE_TEMPLATE_RESOURCE);
         webClient.put().uri("/nodetemplates")
@@ -0,0 +1,198 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.config.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.api.main.rest.PolicyReadResult;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.common.utils.coder.StandardYamlCoder;
+import org.onap.policy.common.utils.resources.ResourceUtils;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaServiceTemplate;
+import org.onap.policy.models.tosca.utils.ToscaServiceTemplateUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+class TestGsonCborHttpMessageConverter {
+
+    private static final String POLICY_RESOURCE = "policies/vCPE.policy.monitoring.input.tosca.json";
+    private static final String POLICY_TYPE_RESOURCE = "policytypes/onap.policies.monitoring.tcagen2.yaml";
+
+    private final Gson gson = new Gson();
+    private final GsonCborHttpMessageConverter converter = new GsonCborHttpMessageConverter(gson);
+
+    @Test
+    void testServiceTemplateRoundTrip() throws Exception {
+        var policies = new StandardCoder().decode(ResourceUtils.getResourceAsString(POLICY_RESOURCE),
+            ToscaServiceTemplate.class);
+        var types = new StandardYamlCoder().decode(ResourceUtils.getResourceAsString(POLICY_TYPE_RESOURCE),
+            ToscaServiceTemplate.class);
+        var serviceTemplate = ToscaServiceTemplateUtils
+            .addFragment(new JpaToscaServiceTemplate(types), new JpaToscaServiceTemplate(policies)).toAuthorative();
+
+        var json = gson.toJson(serviceTemplate);
+        var cbor = write(serviceTemplate);
+        var decoded = (ToscaServiceTemplate) converter.read(ToscaServiceTemplate.class, null, input(cbor));
+
+        assertThat(decoded).isEqualTo(gson.fromJson(json, ToscaServiceTemplate.class));
+        assertThat(gson.toJson(decoded)).isEqualTo(json);
+        assertThat(cbor.length).isLessThan(json.length());
+    }
+
+    @Test
+    void testPolicyReadResult() throws Exception {
+        var jpaServiceTemplate = new JpaToscaServiceTemplate(new StandardCoder()
+            .decode(ResourceUtils.getResourceAsString(POLICY_RESOURCE), ToscaServiceTemplate.class));
+
+        var cbor = write(new PolicyReadResult(jpaServiceTemplate));
+        var decoded = (ToscaServiceTemplate) converter.read(ToscaServiceTemplate.class, null, input(cbor));
+        var json = gson.toJson(new PolicyReadResult(jpaServiceTemplate));
+        assertThat(gson.toJson(decoded)).isEqualTo(gson.toJson(gson.fromJson(json, ToscaServiceTemplate.class)));
+    }
+
+    @Test
+    void testValues() throws Exception {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("text", "a <= b, é, € and 😀");
+        values.put("long text", "x".repeat(70_000));
+        values.put("empty", "");
+        values.put("integers", List.of(0, 23, 24, 255, 256, 65535, 65536, -1, -24, -25, -256, -257, Long.MAX_VALUE,
+            Long.MIN_VALUE, Integer.MIN_VALUE));
+        values.put("doubles", List.of(1.5, -0.0, 1.1, 1.0e300, Double.MIN_VALUE, 10.0));
+        values.put("float", 1.1f);
+        values.put("big", List.of(new BigInteger("123456789012345678901234567890"),
+            new BigInteger("-123456789012345678901234567890"), BigInteger.ONE.shiftLeft(64),
+            new BigDecimal("3.14159265358979323846264338327950288"), new BigDecimal("1E+3"),
+            new BigDecimal("-0.001")));
+        values.put("booleans", List.of(true, false));
+        values.put("nested", Map.of("list", new ArrayList<>(Arrays.asList(null, Map.of(), List.of()))));
+        values.put("null", null);
+
+        var type = new TypeToken<Map<String, Object>>() {}.getType();
+        assertRoundTrip(gson, values, type);
+        assertRoundTrip(new GsonBuilder().serializeNulls().create(), values, type);
+    }
+
+    @Test
+    void testNonFiniteNumbers() throws Exception {
+        Map<String, Object> values = Map.of("nan", Double.NaN);
+        assertThatThrownBy(() -> write(values)).hasMessageContaining("NaN");
+
+        var lenientGson = new GsonBuilder().serializeSpecialFloatingPointValues().create();
+        var output = new MockHttpOutputMessage();
+        new GsonCborHttpMessageConverter(lenientGson).write(Map.of("infinity", Double.POSITIVE_INFINITY),
+            Map.class, MediaType.APPLICATION_CBOR, output);
+        assertThat(read(output.getBodyAsBytes()).getAsJsonObject().get("infinity").getAsDouble())
+            .isEqualTo(Double.POSITIVE_INFINITY);
+    }
+
+    @Test
+    void testForeignEncodings() throws Exception {
+        // {"a": [1.5 (half), -2, "bc" (indefinite text)], "d": 1.0 (half)}
+        var cbor = bytes(0xA2, 0x61, 'a', 0x83, 0xF9, 0x3E, 0x00, 0x21, 0x7F, 0x61, 'b', 0x61, 'c', 0xFF, 0x61, 'd',
+            0xF9, 0x3C, 0x00);
+        assertThat(read(cbor)).isEqualTo(JsonParser.parseString("{\"a\": [1.5, -2, \"bc\"], \"d\": 1.0}"));
+
+        // 2^64 - 1 and -2^64
+        assertThat(read(bytes(0x1B, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF)).getAsBigInteger())
+            .isEqualTo(BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE));
+        assertThat(read(bytes(0x3B, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF)).getAsBigInteger())
+            .isEqualTo(BigInteger.ONE.shiftLeft(64).negate());
+    }
+
+    @Test
+    void testInvalidInput() {
+        assertThatThrownBy(() -> read(bytes(0x42, 1, 2))).isInstanceOf(HttpMessageNotReadableException.class)
+            .hasMessageContaining("byte strings");
+        assertThatThrownBy(() -> read(bytes(0xA1, 0x61, 'a', 0x42, 1, 2)))
+            .isInstanceOf(HttpMessageNotReadableException.class).hasMessageContaining("byte strings");
+        assertThatThrownBy(() -> read(bytes(0x83, 1, 2))).isInstanceOf(HttpMessageNotReadableException.class);
+        assertThatThrownBy(() -> read(bytes(0x65, 'a', 'b'))).isInstanceOf(HttpMessageNotReadableException.class);
+
+        var deep = new byte[5000];
+        Arrays.fill(deep, (byte) 0x81);
+        assertThatThrownBy(() -> read(deep)).isInstanceOf(HttpMessageNotReadableException.class);
+
+        assertThatThrownBy(() -> converter.read(ToscaServiceTemplate.class, null, input(bytes(0x61, 'a'))))
+            .isInstanceOf(HttpMessageNotReadableException.class);
+    }
+
+    @Test
+    void testMediaTypes() {
+        assertThat(converter.canWrite(ToscaServiceTemplate.class, MediaType.APPLICATION_CBOR)).isTrue();
+        assertThat(converter.canRead(ToscaServiceTemplate.class, MediaType.APPLICATION_CBOR)).isTrue();
+        assertThat(converter.canWrite(ToscaServiceTemplate.class, MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    private void assertRoundTrip(Gson valueGson, Object value, Type type) throws Exception {
+        var cborConverter = new GsonCborHttpMessageConverter(valueGson);
+        var output = new MockHttpOutputMessage();
+        cborConverter.write(value, type, MediaType.APPLICATION_CBOR, output);
+
+        var json = valueGson.toJson(value, type);
+        assertThat(read(output.getBodyAsBytes())).isEqualTo(JsonParser.parseString(json));
+        Object decoded = cborConverter.read(type, null, input(output.getBodyAsBytes()));
+        assertThat(valueGson.toJson(decoded, type)).isEqualTo(valueGson.toJson(valueGson.fromJson(json, type), type));
+    }
+
+    private byte[] write(Object value) throws IOException {
+        var output = new MockHttpOutputMessage();
+        converter.write(value, null, MediaType.APPLICATION_CBOR, output);
+        return output.getBodyAsBytes();
+    }
+
+    private JsonElement read(byte[] cbor) throws IOException {
+        return (JsonElement) converter.read(JsonElement.class, null, input(cbor));
+    }
+
+    private MockHttpInputMessage input(byte[] cbor) {
+        return new MockHttpInputMessage(cbor);
+    }
+
+    private byte[] bytes(int... values) {
+        var bytes = new ByteArrayOutputStream();
+        for (var value : values) {
+            bytes.write(value);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,130 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.config.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.api.main.rest.PolicyReadResult;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.common.utils.coder.StandardYamlCoder;
+import org.onap.policy.common.utils.resources.ResourceUtils;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaServiceTemplate;
+import org.onap.policy.models.tosca.utils.ToscaServiceTemplateUtils;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+class TestPolicyReadResultTypeAdapterFactory {
+
+    private static final String POLICY_RESOURCE = "policies/vCPE.policy.monitoring.input.tosca.json";
+    private static final String POLICY_TYPE_RESOURCE = "policytypes/onap.policies.monitoring.tcagen2.yaml";
+    private static final Utf8BufferPool BUFFER_POOL = new Utf8BufferPool(1, 16);
+
+    @Test
+    void testOutputMatchesAuthorativeEncoding() throws CoderException {
+        var policies = new JpaToscaServiceTemplate(new StandardCoder()
+            .decode(ResourceUtils.getResourceAsString(POLICY_RESOURCE), ToscaServiceTemplate.class));
+        var types = new JpaToscaServiceTemplate(new StandardYamlCoder()
+            .decode(ResourceUtils.getResourceAsString(POLICY_TYPE_RESOURCE), ToscaServiceTemplate.class));
+
+        for (var gson : List.of(new Gson(), new GsonBuilder().disableHtmlEscaping().create())) {
+            assertSameOutput(gson, policies);
+            assertSameOutput(gson, ToscaServiceTemplateUtils.addFragment(types, policies));
+            assertSameOutput(gson, types);
+            assertSameOutput(gson, new JpaToscaServiceTemplate());
+        }
+    }
+
+    @Test
+    void testPropertyValues() throws CoderException {
+        var body = new StandardCoder().decode(ResourceUtils.getResourceAsString(POLICY_RESOURCE),
+            ToscaServiceTemplate.class);
+        var policy = body.getToscaTopologyTemplate().getPolicies().get(0).values().iterator().next();
+
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("integral", 10.0);
+        nested.put("large", 1.0e20);
+        nested.put("fraction", -2.5);
+        nested.put("missing", null);
+        nested.put("list", new ArrayList<>(Arrays.asList(1, "two", null, true, List.of())));
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("expression", "a <= b && c != 'd' é\n");
+        properties.put("number", 3);
+        properties.put("long", 12345678901L);
+        properties.put("flag", false);
+        properties.put("nested", nested);
+        properties.put("empty", Map.of());
+        policy.setProperties(properties);
+
+        var serviceTemplate = new JpaToscaServiceTemplate(body);
+        assertSameOutput(new Gson(), serviceTemplate);
+        assertSameOutput(new GsonBuilder().disableHtmlEscaping().serializeNulls().create(), serviceTemplate);
+    }
+
+    @Test
+    void testHttpMessage() throws Exception {
+        var serviceTemplate = new JpaToscaServiceTemplate(new StandardCoder()
+            .decode(ResourceUtils.getResourceAsString(POLICY_RESOURCE), ToscaServiceTemplate.class));
+        var policy = serviceTemplate.getTopologyTemplate().getPolicies().getConceptMap().values().iterator().next();
+        var storedProperties = policy.getProperties();
+
+        var outputMessage = new MockHttpOutputMessage();
+        new PooledGsonHttpMessageConverter(new Gson(), BUFFER_POOL).write(new PolicyReadResult(serviceTemplate),
+            MediaType.APPLICATION_JSON, outputMessage);
+        assertThat(outputMessage.getBodyAsString()).isEqualTo(new Gson().toJson(serviceTemplate.toAuthorative()));
+
+        // the JPA service template is not changed
+        assertThat(policy.getProperties()).isSameAs(storedProperties);
+        assertThat(serviceTemplate.getTopologyTemplate().getPolicies().getConceptMap().values())
+            .containsExactly(policy);
+
+    }
+
+    @Test
+    void testRead() throws CoderException {
+        var serviceTemplate = new JpaToscaServiceTemplate(new StandardCoder()
+            .decode(ResourceUtils.getResourceAsString(POLICY_RESOURCE), ToscaServiceTemplate.class));
+        var json = new Gson().toJson(new PolicyReadResult(serviceTemplate));
+
+        var readResult = new Gson().fromJson(json, PolicyReadResult.class);
+        assertThat(readResult.getServiceTemplate().getTopologyTemplate().getPolicies().getConceptMap().keySet())
+            .isEqualTo(serviceTemplate.getTopologyTemplate().getPolicies().getConceptMap().keySet());
+        assertThat(new Gson().toJson(readResult)).isEqualTo(json);
+        assertThat(new Gson().fromJson("null", PolicyReadResult.class)).isNull();
+        assertThat(new Gson().toJson(null, PolicyReadResult.class)).isEqualTo("null");
+    }
+
+    private void assertSameOutput(Gson gson, JpaToscaServiceTemplate serviceTemplate) {
+        // the adapter is declared on the type, so it applies to any Gson instance
+        assertThat(gson.toJson(new PolicyReadResult(serviceTemplate)))
+            .isEqualTo(gson.toJson(serviceTemplate.toAuthorative()));
+    }
+}
@@ -0,0 +1,142 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.config.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.common.utils.resources.ResourceUtils;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.GsonHttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+class TestPooledGsonHttpMessageConverter {
+
+    private static final String POLICY_RESOURCE = "policies/vCPE.policy.monitoring.input.tosca.json";
+    private static final MediaType JSON_LATIN1 = new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.ISO_8859_1);
+
+    private final Gson gson = new Gson();
+
+    @Test
+    void testWrite() throws Exception {
+        var serviceTemplate = getServiceTemplate();
+        var pool = new Utf8BufferPool(1, 64);
+        var converter = new PooledGsonHttpMessageConverter(gson, pool);
+
+        var output = new MockHttpOutputMessage();
+        converter.write(serviceTemplate, ToscaServiceTemplate.class, MediaType.APPLICATION_JSON, output);
+        assertThat(output.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo(gson.toJson(serviceTemplate));
+        assertThat(pool.getIdleCount()).isEqualTo(1);
+
+        var type = new TypeToken<List<Map<String, Object>>>() {}.getType();
+        var list = List.<Map<String, Object>>of(Map.of("key", "välue"));
+        output = new MockHttpOutputMessage();
+        converter.write(list, type, MediaType.APPLICATION_JSON, output);
+        assertThat(output.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo(gson.toJson(list, type));
+    }
+
+    @Test
+    void testSupportedMediaTypes() {
+        var converter = new PooledGsonHttpMessageConverter(gson, new Utf8BufferPool(1, 16));
+        assertThat(converter.canWrite(ToscaServiceTemplate.class, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(converter.canWrite(ToscaServiceTemplate.class, MediaType.APPLICATION_PROBLEM_JSON)).isTrue();
+        assertThat(converter.canWrite(ToscaServiceTemplate.class, null)).isTrue();
+        assertThat(converter.canWrite(ToscaServiceTemplate.class, JSON_LATIN1)).isFalse();
+        assertThat(converter.canWrite(ToscaServiceTemplate.class, MediaType.APPLICATION_XML)).isFalse();
+        assertThat(converter.canRead(ToscaServiceTemplate.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canRead(ToscaServiceTemplate.class, null, MediaType.APPLICATION_JSON)).isFalse();
+
+        var input = new MockHttpInputMessage(new byte[0]);
+        assertThatThrownBy(() -> converter.read(ToscaServiceTemplate.class, null, input))
+            .isInstanceOf(HttpMessageNotReadableException.class);
+    }
+
+    /**
+     * Checks that the bytes allocated to write a large response do not depend on its size, and are fewer than with
+     * the regular Gson converter.
+     */
+    @Test
+    void testAllocationIsBounded() throws Exception {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+            && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled());
+
+        // a response of about 1 MB
+        var response = Map.of("values", Collections.nCopies(100, "x".repeat(10_000)));
+        var regular = new GsonHttpMessageConverter(gson);
+        var pooled = new PooledGsonHttpMessageConverter(gson, new Utf8BufferPool(1, 16384));
+
+        var pooledBytes = measure(pooled, response);
+        assertThat(pooledBytes).isLessThan(64 * 1024);
+        assertThat(pooledBytes).isLessThan(measure(regular, response));
+    }
+
+    private long measure(GenericHttpMessageConverter<Object> converter, Object response) throws Exception {
+        var bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final var iterations = 20;
+        for (var i = 0; i < iterations; i++) {
+            converter.write(response, Map.class, MediaType.APPLICATION_JSON, discard());
+        }
+
+        var before = bean.getCurrentThreadAllocatedBytes();
+        for (var i = 0; i < iterations; i++) {
+            converter.write(response, Map.class, MediaType.APPLICATION_JSON, discard());
+        }
+        return (bean.getCurrentThreadAllocatedBytes() - before) / iterations;
+    }
+
+    private HttpOutputMessage discard() {
+        var headers = new HttpHeaders();
+        return new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return OutputStream.nullOutputStream();
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        };
+    }
+
+    private ToscaServiceTemplate getServiceTemplate() throws Exception {
+        return new StandardCoder().decode(ResourceUtils.getResourceAsString(POLICY_RESOURCE),
+            ToscaServiceTemplate.class);
+    }
+}
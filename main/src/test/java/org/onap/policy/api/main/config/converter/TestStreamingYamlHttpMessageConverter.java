@@ -0,0 +1,260 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.config.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.api.main.rest.PolicyReadResult;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.common.utils.coder.StandardYamlCoder;
+import org.onap.policy.common.utils.resources.ResourceUtils;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaServiceTemplate;
+import org.onap.policy.models.tosca.utils.ToscaServiceTemplateUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+class TestStreamingYamlHttpMessageConverter {
+
+    private static final String POLICY_RESOURCE = "policies/vCPE.policy.monitoring.input.tosca.json";
+    private static final String POLICY_TYPE_RESOURCE = "policytypes/onap.policies.monitoring.tcagen2.yaml";
+    private static final MediaType APPLICATION_YAML = StreamingYamlHttpMessageConverter.APPLICATION_YAML;
+
+    private final Gson gson = new Gson();
+    private final StreamingYamlHttpMessageConverter converter = new StreamingYamlHttpMessageConverter(gson);
+
+    @Test
+    void testFormat() throws Exception {
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("name", "onap.vcpe.tca");
+        value.put("version", "1.0.0");
+        value.put("list", List.of("a", List.of(1, 2), Map.of("x", true), List.of(), Map.of()));
+        value.put("map", Map.of("empty", List.of()));
+        value.put("quoted", "yes");
+
+        assertThat(write(value, Map.class)).isEqualTo("""
+            name: onap.vcpe.tca
+            version: 1.0.0
+            list:
+              - a
+              - - 1
+                - 2
+              - x: true
+              - []
+              - {}
+            map:
+              empty: []
+            quoted: "yes"
+            """);
+        assertThat(write(List.of(), List.class)).isEqualTo("[]\n");
+        assertThat(write("text", String.class)).isEqualTo("text\n");
+    }
+
+    @Test
+    void testServiceTemplate() throws Exception {
+        var policies = new StandardCoder().decode(ResourceUtils.getResourceAsString(POLICY_RESOURCE),
+            ToscaServiceTemplate.class);
+        var types = new StandardYamlCoder().decode(ResourceUtils.getResourceAsString(POLICY_TYPE_RESOURCE),
+            ToscaServiceTemplate.class);
+        var serviceTemplate = ToscaServiceTemplateUtils
+            .addFragment(new JpaToscaServiceTemplate(types), new JpaToscaServiceTemplate(policies)).toAuthorative();
+
+        var yaml = write(serviceTemplate, ToscaServiceTemplate.class);
+        assertThat(parseYaml(yaml)).isEqualTo(JsonParser.parseString(gson.toJson(serviceTemplate)));
+        assertThat(new StandardYamlCoder().decode(yaml, ToscaServiceTemplate.class))
+            .isEqualTo(new StandardYamlCoder().decode(new StandardYamlCoder().encode(serviceTemplate),
+                ToscaServiceTemplate.class));
+
+        var jpaServiceTemplate = new JpaToscaServiceTemplate(policies);
+        var jpaYaml = write(new PolicyReadResult(jpaServiceTemplate), PolicyReadResult.class);
+        assertThat(parseYaml(jpaYaml))
+            .isEqualTo(JsonParser.parseString(gson.toJson(jpaServiceTemplate.toAuthorative())));
+    }
+
+    @Test
+    void testStrings() throws Exception {
+        var strings = List.of("plain", "1.0.0", "1.0", "10", "-1", "0x1F", "1_000", "1:20", ".inf", ".NaN", "yes", "No",
+            "ON", "off", "y", "N", "true", "False", "null", "Null", "~", "", " leading", "trailing ", "a: b", "a #b",
+            "#x", "- x", "-", "?x", ":x", ",x", "[x]", "{x}", "&x", "*x", "!x", "|x", ">x", "'x", "\"x", "%x", "@x",
+            "`x", "2024-01-01", "2001-12-14t21:59:43.10-05:00", "multi\nline", "tab\tand\rreturn", "back\\slash",
+            "control \u0001 \u007f \u0085  ", "é ü € 😀", "<<", "=", "a.b-c_d/e$f", "/path", "_x");
+
+        Map<String, Object> value = new LinkedHashMap<>();
+        for (var string : strings) {
+            value.put(string, string);
+        }
+        value.put("list", strings);
+        assertRoundTrip(gson, value, new TypeToken<Map<String, Object>>() {}.getType());
+    }
+
+    @Test
+    void testValues() throws Exception {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("integers", List.of(0, -1, Long.MAX_VALUE, Long.MIN_VALUE));
+        values.put("doubles", List.of(1.5, -0.5, 1.0e20, 1.0e-20, 10.0, Double.MAX_VALUE));
+        values.put("floats", List.of(1.1f, -0.5f, 1.0e-20f, Float.MAX_VALUE));
+        values.put("booleans", List.of(true, false));
+        values.put("nested", List.of(List.of(List.of()), Map.of("a", Map.of("b", List.of(Map.of("c", 1))))));
+        values.put("nulls", new ArrayList<>(Arrays.asList(null, "x", null)));
+        values.put("null", null);
+
+        var type = new TypeToken<Map<String, Object>>() {}.getType();
+        assertRoundTrip(gson, values, type);
+        assertRoundTrip(new GsonBuilder().serializeNulls().create(), values, type);
+
+        var lenientGson = new GsonBuilder().serializeSpecialFloatingPointValues().create();
+        var special = new StreamingYamlHttpMessageConverter(lenientGson);
+        var output = new MockHttpOutputMessage();
+        special.write(List.of(Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY), List.class,
+            APPLICATION_YAML, output);
+        assertThat(output.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo("- .nan\n- .inf\n- -.inf\n");
+    }
+
+    @Test
+    void testJsonWriterMethods() throws Exception {
+        var out = new StringWriter();
+        var writer = new YamlJsonWriter(out);
+        writer.beginObject();
+        writer.name("string").value("text");
+        writer.name("json").jsonValue("{\"a\": [1, \"b\"]}");
+        writer.name("boolean").value(true);
+        writer.name("boxed").value(Boolean.FALSE);
+        writer.name("nullBoolean").value((Boolean) null);
+        writer.name("float").value(1.1f);
+        writer.name("double").value(1.0e-20);
+        writer.name("long").value(42L);
+        writer.name("number").value(new BigDecimal("1.10"));
+        writer.name("floatNumber").value((Number) 2.5f);
+        writer.name("null").nullValue();
+        writer.name("array").beginArray().value("x").endArray();
+        writer.endObject();
+        writer.flush();
+        writer.close();
+
+        assertThat(out).hasToString("""
+            string: text
+            json:
+              a:
+                - 1
+                - b
+            boolean: true
+            boxed: false
+            nullBoolean: null
+            float: 1.1
+            double: 1.0e-20
+            long: 42
+            number: 1.10
+            floatNumber: 2.5
+            null: null
+            array:
+              - x
+            """);
+
+        assertThatThrownBy(() -> new YamlJsonWriter(new StringWriter()).value(Float.NaN))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new YamlJsonWriter(new StringWriter()).value(Double.POSITIVE_INFINITY))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testMediaTypes() {
+        assertThat(converter.canWrite(ToscaServiceTemplate.class, APPLICATION_YAML)).isTrue();
+        assertThat(converter.canWrite(ToscaServiceTemplate.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canWrite(ToscaServiceTemplate.class,
+            new MediaType(APPLICATION_YAML, StandardCharsets.ISO_8859_1))).isFalse();
+        assertThat(converter.canRead(ToscaServiceTemplate.class, APPLICATION_YAML)).isFalse();
+        assertThat(converter.canRead(ToscaServiceTemplate.class, null, APPLICATION_YAML)).isFalse();
+    }
+
+    /**
+     * Checks that a large response is written to the response body in chunks as it is converted, rather than in one
+     * piece at the end.
+     */
+    @Test
+    void testStreaming() throws Exception {
+        var values = Collections.nCopies(100, "x".repeat(10_000));
+        var chunks = new ArrayList<Integer>();
+        var body = new ByteArrayOutputStream() {
+            @Override
+            public synchronized void write(byte[] bytes, int offset, int length) {
+                chunks.add(length);
+                super.write(bytes, offset, length);
+            }
+        };
+
+        converter.write(values, List.class, APPLICATION_YAML, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return new HttpHeaders();
+            }
+        });
+
+        assertThat(parseYaml(body.toString(StandardCharsets.UTF_8)))
+            .isEqualTo(JsonParser.parseString(gson.toJson(values)));
+        assertThat(chunks).hasSizeGreaterThan(1)
+            .allSatisfy(length -> assertThat(length).isLessThanOrEqualTo(64 * 1024));
+    }
+
+    private void assertRoundTrip(Gson valueGson, Object value, Type type) throws Exception {
+        var yamlConverter = new StreamingYamlHttpMessageConverter(valueGson);
+        var output = new MockHttpOutputMessage();
+        yamlConverter.write(value, type, APPLICATION_YAML, output);
+        assertThat(parseYaml(output.getBodyAsString(StandardCharsets.UTF_8)))
+            .isEqualTo(JsonParser.parseString(valueGson.toJson(value, type)));
+    }
+
+    private String write(Object value, Type type) throws Exception {
+        var output = new MockHttpOutputMessage();
+        converter.write(value, type, APPLICATION_YAML, output);
+        return output.getBodyAsString(StandardCharsets.UTF_8);
+    }
+
+    private JsonElement parseYaml(String yaml) throws Exception {
+        return new StandardYamlCoder().decode(yaml, JsonElement.class);
+    }
+}
@@ -0,0 +1,128 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.config.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TestUtf8BufferPool {
+
+    private static final String TEXT = "plain ascii, é ü ß, € ≤ ≠, 😀 𝄞 and \u0000 \u007f \u0080 ߿ ࠀ ￿";
+
+    @Test
+    void testEncoding() throws Exception {
+        var pool = new Utf8BufferPool(1, 16);
+        var output = new ChunkRecordingOutputStream();
+        var buffer = pool.acquire(output);
+        buffer.write(TEXT);
+        buffer.append(TEXT, 0, 5).append('!').append(null);
+        buffer.write(TEXT.toCharArray(), 6, 5);
+        buffer.write('x');
+        buffer.finish();
+
+        var expected = TEXT + TEXT.substring(0, 5) + "!null" + TEXT.substring(6, 11) + "x";
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(expected);
+
+        // the text is written in chunks of at most the buffer size, as it is encoded
+        assertThat(output.chunks).hasSizeGreaterThan(1).allMatch(size -> size <= 16);
+        assertThat(output.flushes).isEqualTo(1);
+    }
+
+    @Test
+    void testSurrogates() throws Exception {
+        var pool = new Utf8BufferPool(1, 16);
+
+        // pairs split over two writes, and over chunks
+        var output = new ChunkRecordingOutputStream();
+        var buffer = pool.acquire(output);
+        buffer.write("a\ud83d");
+        buffer.flush();
+        buffer.write("\ude00b");
+        buffer.write("😀".repeat(10));
+        buffer.finish();
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo("a😀b" + "😀".repeat(10));
+        pool.release(buffer);
+
+        // unpaired surrogates are replaced, as by the JDK encoder
+        var unpaired = "\ud83dx\ude00y\ud83d";
+        output = new ChunkRecordingOutputStream();
+        buffer = pool.acquire(output);
+        buffer.write(unpaired);
+        buffer.finish();
+        assertThat(output.toByteArray()).isEqualTo(unpaired.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testPooling() throws Exception {
+        var pool = new Utf8BufferPool(2, 16);
+        var first = pool.acquire(new ByteArrayOutputStream());
+        var second = pool.acquire(new ByteArrayOutputStream());
+        assertThat(first).isNotSameAs(second);
+
+        // what was not finished is discarded on release
+        first.write("some text");
+        pool.release(first);
+        assertThat(pool.getIdleCount()).isEqualTo(1);
+
+        var output = new ByteArrayOutputStream();
+        var reused = pool.acquire(output);
+        assertThat(reused).isSameAs(first);
+        reused.write("more text");
+        reused.finish();
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo("more text");
+
+        // buffers are kept whatever the size of what was written through them
+        second.write("x".repeat(100));
+        second.finish();
+        pool.release(second);
+        assertThat(pool.getIdleCount()).isEqualTo(1);
+
+        // idle buffers beyond the pool size are dropped
+        pool.release(reused);
+        pool.release(new Utf8BufferPool(1, 16).acquire(output));
+        assertThat(pool.getIdleCount()).isEqualTo(2);
+    }
+
+    private static final class ChunkRecordingOutputStream extends ByteArrayOutputStream {
+
+        private final List<Integer> chunks = new ArrayList<>();
+        private int flushes;
+
+        @Override
+        public synchronized void write(byte[] bytes, int off, int len) {
+            chunks.add(len);
+            super.write(bytes, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            flushes++;
+            super.flush();
+        }
+    }
+}
@@ -21,27 +21,43 @@
 
 package org.onap.policy.api.main.rest;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import jakarta.ws.rs.core.Response;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockitoAnnotations;
 import org.onap.policy.api.main.rest.provider.healthcheck.HealthCheckProvider;
+import org.onap.policy.api.main.service.PolicyCreateCombiner;
+import org.onap.policy.api.main.service.PolicyImportService;
+import org.onap.policy.api.main.service.PolicyWriteJobService;
 import org.onap.policy.api.main.service.ToscaServiceTemplateService;
 import org.onap.policy.common.utils.report.HealthCheckReport;
 import org.onap.policy.common.utils.resources.ResourceUtils;
 import org.onap.policy.models.base.PfModelException;
 import org.onap.policy.models.base.PfModelRuntimeException;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaTypedEntityFilter;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaServiceTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.http.MediaType;
@@ -66,6 +82,15 @@ class TestApiRestController {
     @MockitoBean
     private ToscaServiceTemplateService toscaServiceTemplateService;
 
+    @MockitoBean
+    private PolicyWriteJobService policyWriteJobService;
+
+    @MockitoBean
+    private PolicyCreateCombiner policyCreateCombiner;
+
+    @MockitoBean
+    private PolicyImportService policyImportService;
+
     AutoCloseable autoCloseable;
 
     private final PfModelRuntimeException pfException =
@@ -169,6 +194,48 @@ class TestApiRestController {
         this.mvc.perform(postRequest).andExpect(status().isCreated());
     }
 
+    @Test
+    void createPolicyType_async() throws Exception {
+        var job = new PolicyWriteJob();
+        job.setId(UUID.randomUUID());
+        job.setStatus(PolicyWriteJob.JobStatus.QUEUED);
+        when(policyWriteJobService.submit(eq("POST /policytypes"), any())).thenReturn(job);
+
+        var body = ResourceUtils.getResourceAsString("policytypes/onap.policies.Test.yaml");
+        var postRequest = post("/policytypes?async=true").content(body).contentType("application/yaml");
+        this.mvc.perform(postRequest).andExpect(status().isAccepted())
+            .andExpect(header().string("Location", "http://localhost/jobs/" + job.getId()));
+
+        // the queued write is executed through the service
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Supplier<ToscaServiceTemplate>> writeCaptor = ArgumentCaptor.forClass(Supplier.class);
+        verify(policyWriteJobService).submit(eq("POST /policytypes"), writeCaptor.capture());
+        writeCaptor.getValue().get();
+        verify(toscaServiceTemplateService).createPolicyType(any());
+
+        // job queue full
+        given(policyWriteJobService.submit(eq("POST /policytypes"), any())).willThrow(
+            new PfModelRuntimeException(Response.Status.SERVICE_UNAVAILABLE, "write job queue is full"));
+        var postExceptionReq = post("/policytypes?async=true").content(body).contentType("application/yaml");
+        this.mvc.perform(postExceptionReq).andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void getWriteJob() throws Exception {
+        var job = new PolicyWriteJob();
+        job.setId(UUID.randomUUID());
+        job.setStatus(PolicyWriteJob.JobStatus.SUCCEEDED);
+        when(policyWriteJobService.getJob(job.getId())).thenReturn(job);
+        this.mvc.perform(get("/jobs/" + job.getId()).accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("SUCCEEDED")));
+
+        var unknownJob = UUID.randomUUID();
+        given(policyWriteJobService.getJob(unknownJob))
+            .willThrow(new PfModelRuntimeException(Response.Status.NOT_FOUND, "job not found"));
+        this.mvc.perform(get("/jobs/" + unknownJob)).andExpect(status().isNotFound());
+    }
+
     @Test
     void createPolicyType_Exception() throws Exception {
         when(toscaServiceTemplateService.createPolicyType(any()))
@@ -199,15 +266,15 @@ class TestApiRestController {
 
     @Test
     void getAllPolicies() throws Exception {
-        when(toscaServiceTemplateService.fetchPolicies(
-            SOME_POLICY_TYPE, SOME_POLICY_TYPE_VERSION, null, null, PolicyFetchMode.BARE))
-            .thenReturn(new ToscaServiceTemplate());
+        when(toscaServiceTemplateService.fetchJpaPolicies(
+            SOME_POLICY_TYPE, SOME_POLICY_TYPE_VERSION, null, null, PolicyFetchMode.BARE, false))
+            .thenReturn(new JpaToscaServiceTemplate());
         var fetchPoliciesReq = get(URI_VALID_POLICY_TYPE_AND_VERSION_FOR_POLICIES)
             .accept(MediaType.APPLICATION_JSON);
         this.mvc.perform(fetchPoliciesReq).andExpect(status().isOk());
 
-        given(toscaServiceTemplateService.fetchPolicies(
-            WRONG_POLICY_EVERYTHING, WRONG_POLICY_EVERYTHING, null, null, PolicyFetchMode.REFERENCED))
+        given(toscaServiceTemplateService.fetchJpaPolicies(
+            WRONG_POLICY_EVERYTHING, WRONG_POLICY_EVERYTHING, null, null, PolicyFetchMode.REFERENCED, false))
             .willThrow(pfException);
         var fetchPoliciesExcReq = get("/policytypes/wrong/versions/wrong/policies?mode=REFERENCED")
             .accept(MediaType.APPLICATION_JSON);
@@ -216,9 +283,9 @@ class TestApiRestController {
 
     @Test
     void getAllVersionsOfPolicy() throws Exception {
-        when(toscaServiceTemplateService.fetchPolicies(
-            SOME_POLICY_TYPE, SOME_POLICY_TYPE_VERSION, SOME_POLICY_NAME, null, PolicyFetchMode.BARE))
-            .thenReturn(new ToscaServiceTemplate());
+        when(toscaServiceTemplateService.fetchJpaPolicies(
+            SOME_POLICY_TYPE, SOME_POLICY_TYPE_VERSION, SOME_POLICY_NAME, null, PolicyFetchMode.BARE, false))
+            .thenReturn(new JpaToscaServiceTemplate());
         var fetchPoliciesReq = get(URI_VALID_POLICY_TYPE_AND_VERSION_FOR_POLICIES + "/somePolicyName")
             .accept(MediaType.APPLICATION_JSON);
         this.mvc.perform(fetchPoliciesReq).andExpect(status().isOk());
@@ -226,9 +293,9 @@ class TestApiRestController {
 
     @Test
     void getAllVersionsOfPolicy_Exception() throws Exception {
-        given(toscaServiceTemplateService.fetchPolicies(
-            WRONG_POLICY_EVERYTHING, WRONG_POLICY_EVERYTHING, WRONG_POLICY_EVERYTHING,
-            null, PolicyFetchMode.REFERENCED)).willThrow(pfException);
+        given(toscaServiceTemplateService.fetchJpaPolicies(
+            WRONG_POLICY_EVERYTHING, WRONG_POLICY_EVERYTHING, WRONG_POLICY_EVERYTHING, null, PolicyFetchMode.REFERENCED,
+            false)).willThrow(pfException);
         var fetchPoliciesExcReq = get("/policytypes/wrong/versions/wrong/policies/wrong?mode=REFERENCED")
             .accept(MediaType.APPLICATION_JSON);
         this.mvc.perform(fetchPoliciesExcReq).andExpect(status().isBadRequest());
@@ -236,18 +303,18 @@ class TestApiRestController {
 
     @Test
     void getSpecificVersionOfPolicy() throws Exception {
-        when(toscaServiceTemplateService.fetchPolicies(
+        when(toscaServiceTemplateService.fetchJpaPolicies(
             SOME_POLICY_TYPE, SOME_POLICY_TYPE_VERSION, SOME_POLICY_NAME, SOME_POLICY_VERSION, PolicyFetchMode.BARE,
             false))
-            .thenReturn(new ToscaServiceTemplate());
+            .thenReturn(new JpaToscaServiceTemplate());
         var fetchPoliciesReq =
             get(URI_VALID_POLICY_TYPE_AND_VERSION_FOR_POLICIES
                 + "/somePolicyName/versions/somePolicyVersion").accept(MediaType.APPLICATION_JSON);
         this.mvc.perform(fetchPoliciesReq).andExpect(status().isOk());
 
-        given(toscaServiceTemplateService.fetchPolicies(
-            WRONG_POLICY_EVERYTHING, WRONG_POLICY_EVERYTHING, WRONG_POLICY_EVERYTHING,
-            WRONG_POLICY_EVERYTHING, PolicyFetchMode.REFERENCED, false)).willThrow(pfException);
+        given(toscaServiceTemplateService.fetchJpaPolicies(
+            WRONG_POLICY_EVERYTHING, WRONG_POLICY_EVERYTHING, WRONG_POLICY_EVERYTHING, WRONG_POLICY_EVERYTHING,
+            PolicyFetchMode.REFERENCED, false)).willThrow(pfException);
         var fetchPoliciesExcReq = get("/policytypes/wrong/versions/wrong/policies/wrong/versions/wrong"
             + "?mode=REFERENCED").accept(MediaType.APPLICATION_JSON);
         this.mvc.perform(fetchPoliciesExcReq).andExpect(status().isBadRequest());
@@ -255,10 +322,10 @@ class TestApiRestController {
 
     @Test
     void getSpecificVersionOfPolicy_skipMetadata() throws Exception {
-        when(toscaServiceTemplateService.fetchPolicies(
+        when(toscaServiceTemplateService.fetchJpaPolicies(
             SOME_POLICY_TYPE, SOME_POLICY_TYPE_VERSION, SOME_POLICY_NAME, SOME_POLICY_VERSION, PolicyFetchMode.BARE,
             true))
-            .thenReturn(new ToscaServiceTemplate());
+            .thenReturn(new JpaToscaServiceTemplate());
         var fetchPoliciesReq =
             get(URI_VALID_POLICY_TYPE_AND_VERSION_FOR_POLICIES
                 + "/somePolicyName/versions/somePolicyVersion?skipMetadata=true").accept(MediaType.APPLICATION_JSON);
@@ -267,9 +334,10 @@ class TestApiRestController {
 
     @Test
     void getLatestVersionOfPolicy() throws Exception {
-        when(toscaServiceTemplateService.fetchLatestPolicies(
-            SOME_POLICY_TYPE, SOME_POLICY_TYPE_VERSION, SOME_POLICY_NAME, PolicyFetchMode.BARE))
-            .thenReturn(new ToscaServiceTemplate());
+        when(toscaServiceTemplateService.fetchJpaPolicies(
+            SOME_POLICY_TYPE, SOME_POLICY_TYPE_VERSION, SOME_POLICY_NAME, ToscaTypedEntityFilter.LATEST_VERSION,
+            PolicyFetchMode.BARE, false))
+            .thenReturn(new JpaToscaServiceTemplate());
         var fetchPoliciesReq = get(URI_VALID_POLICY_TYPE_AND_VERSION_FOR_POLICIES
             + "/somePolicyName/versions/latest").accept(MediaType.APPLICATION_JSON);
         this.mvc.perform(fetchPoliciesReq).andExpect(status().isOk());
@@ -277,8 +345,9 @@ class TestApiRestController {
 
     @Test
     void getLatestVersionOfPolicy_Exception() throws Exception {
-        when(toscaServiceTemplateService.fetchLatestPolicies(WRONG_POLICY_EVERYTHING, WRONG_POLICY_EVERYTHING,
-            WRONG_POLICY_EVERYTHING, null))
+        when(toscaServiceTemplateService.fetchJpaPolicies(
+            WRONG_POLICY_EVERYTHING, WRONG_POLICY_EVERYTHING, WRONG_POLICY_EVERYTHING,
+            ToscaTypedEntityFilter.LATEST_VERSION, null, false))
             .thenThrow(new PfModelException(Response.Status.BAD_REQUEST, "Error"));
         var fetchPoliciesExcReq = get("/policytypes/wrong/versions/wrong/policies/wrong/versions/latest");
         this.mvc.perform(fetchPoliciesExcReq).andExpect(status().isBadRequest());
@@ -289,7 +358,7 @@ class TestApiRestController {
         var toscaTemplate = new ToscaServiceTemplate();
         toscaTemplate.setName(SOME_POLICY_NAME);
         toscaTemplate.setVersion(SOME_POLICY_VERSION);
-        when(toscaServiceTemplateService.createPolicy(any())).thenReturn(toscaTemplate);
+        when(policyCreateCombiner.createPolicies(any())).thenReturn(toscaTemplate);
 
         var body = ResourceUtils.getResourceAsString("policies/vFirewall.policy.monitoring.input.tosca.v2.yaml");
         var postRequest = post(URI_VALID_POLICY_TYPE_AND_VERSION_FOR_POLICIES)
@@ -297,7 +366,7 @@ class TestApiRestController {
         this.mvc.perform(postRequest).andExpect(status().isCreated());
 
         // exception scenario
-        given(toscaServiceTemplateService.createPolicy(any())).willThrow(pfException);
+        given(policyCreateCombiner.createPolicies(any())).willThrow(pfException);
         var postExceptionReq = post("/policytypes/wrong/versions/wrong/policies")
             .content(body).contentType("application/yaml");
         this.mvc.perform(postExceptionReq).andExpect(status().isBadRequest());
@@ -324,13 +393,12 @@ class TestApiRestController {
 
     @Test
     void getPolicies() throws Exception {
-        when(toscaServiceTemplateService.fetchPolicies(null, null, null, null, PolicyFetchMode.BARE))
-            .thenReturn(new ToscaServiceTemplate());
+        when(toscaServiceTemplateService.fetchJpaPolicies(null, null, null, null, PolicyFetchMode.BARE, false))
+            .thenReturn(new JpaToscaServiceTemplate());
         var fetchPoliciesReq = get("/policies").accept(MediaType.APPLICATION_JSON);
         this.mvc.perform(fetchPoliciesReq).andExpect(status().isOk());
 
-        when(toscaServiceTemplateService.fetchPolicies(
-            null, null, null, null, PolicyFetchMode.REFERENCED))
+        when(toscaServiceTemplateService.fetchJpaPolicies(null, null, null, null, PolicyFetchMode.REFERENCED, false))
             .thenThrow(new PfModelRuntimeException(Response.Status.BAD_REQUEST, "Random error message"));
         var fetchPoliciesExcReq = get("/policies?mode=REFERENCED")
             .accept(MediaType.APPLICATION_JSON);
@@ -339,8 +407,7 @@ class TestApiRestController {
 
     @Test
     void getPolicies_404Exception() throws Exception {
-        given(toscaServiceTemplateService.fetchPolicies(
-            null, null, null, null, PolicyFetchMode.REFERENCED))
+        given(toscaServiceTemplateService.fetchJpaPolicies(null, null, null, null, PolicyFetchMode.REFERENCED, false))
             .willThrow(new PfModelRuntimeException(Response.Status.NOT_FOUND, "Random error message"));
         var fetchPoliciesExcReq = get("/policies?mode=REFERENCED")
             .accept(MediaType.APPLICATION_JSON);
@@ -350,15 +417,15 @@ class TestApiRestController {
 
     @Test
     void getSpecificPolicy() throws Exception {
-        when(toscaServiceTemplateService.fetchPolicies(null, null,
-            SOME_POLICY_NAME, SOME_POLICY_VERSION, PolicyFetchMode.BARE, false))
-            .thenReturn(new ToscaServiceTemplate());
+        when(toscaServiceTemplateService.fetchJpaPolicies(
+            null, null, SOME_POLICY_NAME, SOME_POLICY_VERSION, PolicyFetchMode.BARE, false))
+            .thenReturn(new JpaToscaServiceTemplate());
         var fetchPoliciesReq = get("/policies/somePolicyName/versions/somePolicyVersion")
             .accept(MediaType.APPLICATION_JSON);
         this.mvc.perform(fetchPoliciesReq).andExpect(status().isOk());
 
-        given(toscaServiceTemplateService.fetchPolicies(null, null,
-            WRONG_POLICY_EVERYTHING, WRONG_POLICY_EVERYTHING, PolicyFetchMode.REFERENCED, false))
+        given(toscaServiceTemplateService.fetchJpaPolicies(
+            null, null, WRONG_POLICY_EVERYTHING, WRONG_POLICY_EVERYTHING, PolicyFetchMode.REFERENCED, false))
             .willThrow(new PfModelRuntimeException(Response.Status.NOT_FOUND, "Random error message"));
         var fetchPoliciesExcReq = get("/policies/wrong/versions/wrong?mode=REFERENCED")
             .accept(MediaType.APPLICATION_JSON);
@@ -367,9 +434,9 @@ class TestApiRestController {
 
     @Test
     void getSpecificPolicy_skipMetadata() throws Exception {
-        when(toscaServiceTemplateService.fetchPolicies(null, null,
-            SOME_POLICY_NAME, SOME_POLICY_VERSION, PolicyFetchMode.BARE, true))
-            .thenReturn(new ToscaServiceTemplate());
+        when(toscaServiceTemplateService.fetchJpaPolicies(
+            null, null, SOME_POLICY_NAME, SOME_POLICY_VERSION, PolicyFetchMode.BARE, true))
+            .thenReturn(new JpaToscaServiceTemplate());
         var fetchPoliciesReq = get("/policies/somePolicyName/versions/somePolicyVersion?skipMetadata=true")
             .accept(MediaType.APPLICATION_JSON);
         this.mvc.perform(fetchPoliciesReq).andExpect(status().isOk());
@@ -380,18 +447,79 @@ class TestApiRestController {
         var toscaTemplate = new ToscaServiceTemplate();
         toscaTemplate.setName(SOME_POLICY_NAME);
         toscaTemplate.setVersion(SOME_POLICY_VERSION);
-        when(toscaServiceTemplateService.createPolicies(any())).thenReturn(toscaTemplate);
+        when(policyCreateCombiner.createPolicies(any())).thenReturn(toscaTemplate);
 
         var body = ResourceUtils.getResourceAsString("policies/vFirewall.policy.monitoring.input.tosca.v2.yaml");
         var postRequest = post("/policies").content(body).contentType("application/yaml");
         this.mvc.perform(postRequest).andExpect(status().isCreated());
 
         // exception scenario
-        given(toscaServiceTemplateService.createPolicies(any())).willThrow(pfException);
+        given(policyCreateCombiner.createPolicies(any())).willThrow(pfException);
         var postExceptionReq = post("/policies").content(body).contentType("application/yaml");
         this.mvc.perform(postExceptionReq).andExpect(status().isBadRequest());
     }
 
+    @Test
+    void deletePolicies() throws Exception {
+        when(toscaServiceTemplateService.deletePolicies(any())).thenReturn(new ToscaServiceTemplate());
+        var body = "{\"name\":\"somePolicyName\",\"maxVersion\":\"2.0.0\"}";
+        var postRequest = post("/policies/delete").content(body).contentType(MediaType.APPLICATION_JSON);
+        this.mvc.perform(postRequest).andExpect(status().isOk());
+
+        // exception scenario
+        given(toscaServiceTemplateService.deletePolicies(any())).willThrow(pfException);
+        var postExceptionReq = post("/policies/delete").content(body).contentType(MediaType.APPLICATION_JSON);
+        this.mvc.perform(postExceptionReq).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void importPolicies() throws Exception {
+        when(policyImportService.importPolicies(any(ToscaServiceTemplate.class), eq(100)))
+            .thenReturn(new PolicyImportReport());
+
+        var body = ResourceUtils.getResourceAsString("policies/vFirewall.policy.monitoring.input.tosca.v2.yaml");
+        var postRequest = post("/policies/import?chunkSize=100").content(body).contentType("application/yaml");
+        this.mvc.perform(postRequest).andExpect(status().isOk());
+
+        // some chunks failed
+        var report = new PolicyImportReport();
+        report.addChunk(new PolicyImportReport.ChunkResult(0, 0, 1, 1, 0, true, null));
+        report.addChunk(new PolicyImportReport.ChunkResult(1, 1, 1, 0, 0, false, "invalid policy"));
+        when(policyImportService.importPolicies(any(ToscaServiceTemplate.class), eq(100))).thenReturn(report);
+        postRequest = post("/policies/import?chunkSize=100").content(body).contentType("application/yaml");
+        this.mvc.perform(postRequest).andExpect(status().isMultiStatus());
+
+        // exception scenario
+        given(policyImportService.importPolicies(any(ToscaServiceTemplate.class), eq(100))).willThrow(pfException);
+        var postExceptionReq = post("/policies/import?chunkSize=100").content(body).contentType("application/yaml");
+        this.mvc.perform(postExceptionReq).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importPolicies_ndjson() throws Exception {
+        final var defaultChunkSize = PolicyImportService.DEFAULT_IMPORT_CHUNK_SIZE;
+        final List<ToscaServiceTemplate> documents = new ArrayList<>();
+        when(policyImportService.importPolicies(any(Iterator.class), eq(defaultChunkSize))).thenAnswer(invocation -> {
+            invocation.<Iterator<ToscaServiceTemplate>>getArgument(0).forEachRemaining(documents::add);
+            return new PolicyImportReport();
+        });
+
+        var line = "{\"tosca_definitions_version\":\"tosca_simple_yaml_1_1_0\",\"topology_template\":"
+            + "{\"policies\":[{\"%s\":{\"type\":\"onap.policies.Test\",\"type_version\":\"1.0.0\","
+            + "\"version\":\"1.0.0\"}}]}}";
+        var body = String.format(line, "policy1") + "\n\n" + String.format(line, "policy2") + "\n";
+        var postRequest = post("/policies/import").content(body).contentType(MediaType.APPLICATION_NDJSON);
+        this.mvc.perform(postRequest).andExpect(status().isOk());
+
+        // the service templates are read one by one, by the import
+        assertThat(documents).hasSize(2);
+        assertThat(documents.get(1).getToscaTopologyTemplate().getPolicies().get(0)).containsKey("policy2");
+
+        var badRequest = post("/policies/import").content("{").contentType(MediaType.APPLICATION_NDJSON);
+        this.mvc.perform(badRequest).andExpect(status().isBadRequest());
+    }
+
     @Test
     void deleteSpecificPolicy() throws Exception {
         when(toscaServiceTemplateService.deletePolicy(SOME_POLICY_NAME, SOME_POLICY_VERSION))
@@ -0,0 +1,106 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class TestDatabaseAdmissionFilter {
+
+    @Test
+    void testRejectsBeyondLimit() throws Exception {
+        var filter = new DatabaseAdmissionFilter(true, 1, 10, 0, 2);
+        var nested = new MockHttpServletResponse();
+        var outer = new MockHttpServletResponse();
+
+        filter.doFilter(request("/policies"), outer, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                try {
+                    // the only permit is held by this request
+                    filter.doFilter(request("/policytypes"), nested, new MockFilterChain(new OkServlet()));
+                    // probes are always admitted
+                    var health = new MockHttpServletResponse();
+                    filter.doFilter(request("/health"), health, new MockFilterChain(new OkServlet()));
+                    assertThat(health.getStatus()).isEqualTo(200);
+                } catch (ServletException exc) {
+                    throw new IOException(exc);
+                }
+                resp.setStatus(200);
+            }
+        }));
+
+        assertThat(outer.getStatus()).isEqualTo(200);
+        assertThat(nested.getStatus()).isEqualTo(503);
+        assertThat(nested.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(nested.getContentAsString()).contains("retry later");
+        assertThat(filter.getAvailable()).isEqualTo(1);
+    }
+
+    @Test
+    void testPoolSizeLimit() {
+        assertThat(new DatabaseAdmissionFilter(true, 0, 7, 0, 1).getAvailable()).isEqualTo(7);
+        assertThat(new DatabaseAdmissionFilter(true, 3, 7, 0, 1).getAvailable()).isEqualTo(3);
+    }
+
+    @Test
+    void testDisabled() throws Exception {
+        var filter = new DatabaseAdmissionFilter(false, 1, 10, 0, 1);
+        var nested = new MockHttpServletResponse();
+
+        filter.doFilter(request("/policies"), new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                try {
+                    filter.doFilter(request("/policytypes"), nested, new MockFilterChain(new OkServlet()));
+                } catch (ServletException exc) {
+                    throw new IOException(exc);
+                }
+            }
+        }));
+
+        assertThat(nested.getStatus()).isEqualTo(200);
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        var request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        return request;
+    }
+
+    private static class OkServlet extends HttpServlet {
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+            resp.setStatus(200);
+        }
+    }
+}
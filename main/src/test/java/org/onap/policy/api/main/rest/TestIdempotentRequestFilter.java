@@ -0,0 +1,233 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class TestIdempotentRequestFilter {
+
+    private static final String REQUEST_ID = "6e2a3f3c-1f53-4c1f-a3a5-0f4f0f6a7b21";
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private int status;
+    private FilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        status = HttpServletResponse.SC_CREATED;
+        chain = (request, response) -> {
+            var body = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            var httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(status);
+            httpResponse.setHeader("X-LatestVersion", "1.0.0");
+            httpResponse.setContentType("application/json");
+            httpResponse.getOutputStream()
+                .write(("{\"execution\":" + executions.incrementAndGet() + ",\"body\":" + body + "}")
+                    .getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    @Test
+    void testRepeatedRequestIsReplayed() throws Exception {
+        var filter = new IdempotentRequestFilter(true, 600, 10, 1024 * 1024, 1024 * 1024, 1000);
+
+        var first = execute(filter, "POST", REQUEST_ID, "{}");
+        var second = execute(filter, "POST", REQUEST_ID, "{}");
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(second.getStatus()).isEqualTo(HttpServletResponse.SC_CREATED);
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(second.getHeader("X-LatestVersion")).isEqualTo("1.0.0");
+        assertThat(second.getContentType()).startsWith("application/json");
+
+        // a different body, method or request ID is a different request
+        execute(filter, "POST", REQUEST_ID, "{\"other\":1}");
+        execute(filter, "PUT", REQUEST_ID, "{}");
+        execute(filter, "POST", "a90c4b1e-0d3c-4d57-bd64-1c1a9f0b4d55", "{}");
+        assertThat(executions.get()).isEqualTo(4);
+    }
+
+    @Test
+    void testRequestsNotCached() throws Exception {
+        var filter = new IdempotentRequestFilter(true, 600, 10, 1024 * 1024, 1024 * 1024, 1000);
+
+        // no request ID
+        execute(filter, "POST", null, "{}");
+        execute(filter, "POST", null, "{}");
+        assertThat(executions.get()).isEqualTo(2);
+
+        // not a write
+        execute(filter, "GET", REQUEST_ID, "");
+        execute(filter, "GET", REQUEST_ID, "");
+        assertThat(executions.get()).isEqualTo(4);
+
+        // failed requests can be retried
+        status = HttpServletResponse.SC_NOT_ACCEPTABLE;
+        execute(filter, "POST", REQUEST_ID, "{}");
+        execute(filter, "POST", REQUEST_ID, "{}");
+        assertThat(executions.get()).isEqualTo(6);
+
+        // disabled
+        status = HttpServletResponse.SC_OK;
+        var disabledFilter = new IdempotentRequestFilter(false, 600, 10, 1024 * 1024, 1024 * 1024, 1000);
+        execute(disabledFilter, "POST", REQUEST_ID, "{}");
+        execute(disabledFilter, "POST", REQUEST_ID, "{}");
+        assertThat(executions.get()).isEqualTo(8);
+
+        // streamed imports
+        for (var i = 0; i < 2; i++) {
+            var ndjsonRequest = makeRequest("POST", REQUEST_ID, "{}");
+            ndjsonRequest.setContentType("application/x-ndjson");
+            filter.doFilter(ndjsonRequest, new MockHttpServletResponse(), chain);
+        }
+        assertThat(executions.get()).isEqualTo(10);
+    }
+
+    @Test
+    void testRequestTooLarge() throws Exception {
+        var filter = new IdempotentRequestFilter(true, 600, 10, 1024 * 1024, 4, 1000);
+
+        // a larger body is executed, but not cached
+        var response = execute(filter, "POST", REQUEST_ID, "{\"a\":1}");
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_CREATED);
+        assertThat(response.getContentAsString()).isEqualTo("{\"execution\":1,\"body\":{\"a\":1}}");
+        execute(filter, "POST", REQUEST_ID, "{\"a\":1}");
+        assertThat(executions.get()).isEqualTo(2);
+
+        // a body of undeclared length is read no further than the limit, and then passed on whole
+        var undeclaredRequest = new HttpServletRequestWrapper(makeRequest("POST", REQUEST_ID, "{\"a\":1}")) {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+        };
+        response = new MockHttpServletResponse();
+        filter.doFilter(undeclaredRequest, response, chain);
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_CREATED);
+        assertThat(response.getContentAsString()).isEqualTo("{\"execution\":3,\"body\":{\"a\":1}}");
+
+        // the partly read body can also be read as characters
+        var readerChain = (FilterChain) (request, chainResponse) ->
+            assertThat(request.getReader().readLine()).isEqualTo("{\"a\":12}");
+        undeclaredRequest = new HttpServletRequestWrapper(makeRequest("POST", REQUEST_ID, "{\"a\":12}")) {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        filter.doFilter(undeclaredRequest, new MockHttpServletResponse(), readerChain);
+
+        // a body within the limit is cached
+        execute(filter, "POST", REQUEST_ID, "{}");
+        execute(filter, "POST", REQUEST_ID, "{}");
+        assertThat(executions.get()).isEqualTo(4);
+    }
+
+    @Test
+    void testReadListener() throws Exception {
+        var filter = new IdempotentRequestFilter(true, 600, 10, 1024 * 1024, 1024 * 1024, 1000);
+        var body = new StringBuilder();
+        var allDataRead = new AtomicBoolean();
+        FilterChain asyncChain = (request, response) -> {
+            var inputStream = request.getInputStream();
+            inputStream.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    while (inputStream.isReady() && !inputStream.isFinished()) {
+                        body.append((char) inputStream.read());
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    allDataRead.set(true);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    throw new IllegalStateException(throwable);
+                }
+            });
+            ((HttpServletResponse) response).setStatus(HttpServletResponse.SC_OK);
+        };
+
+        filter.doFilter(makeRequest("POST", REQUEST_ID, "{\"a\":1}"), new MockHttpServletResponse(), asyncChain);
+        assertThat(body).hasToString("{\"a\":1}");
+        assertThat(allDataRead).isTrue();
+    }
+
+    @Test
+    void testBounds() throws Exception {
+        var filter = new IdempotentRequestFilter(true, 600, 1, 1024 * 1024, 1024 * 1024, 1000);
+        execute(filter, "POST", REQUEST_ID, "{\"first\":1}");
+        execute(filter, "POST", REQUEST_ID, "{\"second\":2}");
+        execute(filter, "POST", REQUEST_ID, "{\"first\":1}");
+        assertThat(executions.get()).isEqualTo(3);
+
+        // responses larger than the cache are not retained
+        var tinyFilter = new IdempotentRequestFilter(true, 600, 10, 8, 1024 * 1024, 1000);
+        execute(tinyFilter, "POST", REQUEST_ID, "{}");
+        execute(tinyFilter, "POST", REQUEST_ID, "{}");
+        assertThat(executions.get()).isEqualTo(5);
+
+        // expired responses are not replayed
+        var expiringFilter = new IdempotentRequestFilter(true, 0, 10, 1024 * 1024, 1024 * 1024, 1000);
+        execute(expiringFilter, "POST", REQUEST_ID, "{}");
+        Thread.sleep(10);
+        execute(expiringFilter, "POST", REQUEST_ID, "{}");
+        assertThat(executions.get()).isEqualTo(7);
+    }
+
+    private MockHttpServletResponse execute(IdempotentRequestFilter filter, String method, String requestId,
+        String body) throws Exception {
+        var response = new MockHttpServletResponse();
+        filter.doFilter(makeRequest(method, requestId, body), response, chain);
+        return response;
+    }
+
+    private MockHttpServletRequest makeRequest(String method, String requestId, String body) {
+        var request = new MockHttpServletRequest(method, "/policies");
+        if (requestId != null) {
+            request.addHeader(CommonRestController.REQUEST_ID_NAME, requestId);
+        }
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,79 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+import org.springframework.web.util.WebUtils;
+
+class TestNetworkRequestLogger {
+
+    private final NetworkRequestLogger logger = new NetworkRequestLogger(8, 10);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        RequestContextHolder.resetRequestAttributes();
+        logger.shutdown();
+    }
+
+    @Test
+    void testFilterCapturesBody() throws Exception {
+        var request = new MockHttpServletRequest("POST", "/policies");
+        request.setContent("{\"policies\":[]}".getBytes(StandardCharsets.UTF_8));
+        var captured = new AtomicReference<byte[]>();
+
+        logger.doFilterInternal(request, new MockHttpServletResponse(), (filteredRequest, response) -> {
+            filteredRequest.getInputStream().readAllBytes();
+            RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes((HttpServletRequest) filteredRequest));
+            captured.set(WebUtils.getNativeRequest(filteredRequest, ContentCachingRequestWrapper.class)
+                .getContentAsByteArray());
+            logger.logRequest("/policies", null);
+        });
+
+        // only the first bytes of the body are kept
+        assertThat(new String(captured.get(), StandardCharsets.UTF_8)).isEqualTo("{\"polici");
+    }
+
+    @Test
+    void testToPayload() {
+        var content = "0123456789".getBytes(StandardCharsets.UTF_8);
+        assertThat(logger.toPayload("0123".getBytes(StandardCharsets.UTF_8), 4, StandardCharsets.UTF_8))
+            .isEqualTo("0123");
+        assertThat(logger.toPayload(content, 10, StandardCharsets.UTF_8))
+            .isEqualTo("01234567... [truncated, 10 bytes]");
+        assertThat(logger.toPayload(content, -1, StandardCharsets.UTF_8))
+            .isEqualTo("01234567... [truncated, at least 8 bytes]");
+        assertThat(logger.toPayload("01234567".getBytes(StandardCharsets.UTF_8), 8, StandardCharsets.UTF_8))
+            .isEqualTo("01234567");
+    }
+}
@@ -0,0 +1,86 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+class TestRequestAllocationRecorder {
+
+    @Test
+    void testRecordsAllocation() throws Exception {
+        var registry = new SimpleMeterRegistry();
+        var beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", registry);
+        var recorder = new RequestAllocationRecorder(beanFactory.getBeanProvider(MeterRegistry.class), true);
+
+        var request = new MockHttpServletRequest("GET", "/policies");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/policies");
+        var response = new MockHttpServletResponse();
+        recorder.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+                resp.setStatus(200);
+                req.setAttribute("payload", new byte[100_000]);
+            }
+        }));
+
+        var summary = registry.find(RequestAllocationRecorder.METRIC_NAME).tag("method", "GET")
+            .tag("uri", "/policies").tag("status", "200").summary();
+        assertThat(summary).isNotNull();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isGreaterThanOrEqualTo(100_000);
+    }
+
+    @Test
+    void testDisabled() throws Exception {
+        var registry = new SimpleMeterRegistry();
+        var beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", registry);
+        var recorder = new RequestAllocationRecorder(beanFactory.getBeanProvider(MeterRegistry.class), false);
+
+        var chain = new MockFilterChain();
+        recorder.doFilter(new MockHttpServletRequest("GET", "/policies"), new MockHttpServletResponse(), chain);
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(registry.find(RequestAllocationRecorder.METRIC_NAME).summary()).isNull();
+    }
+
+    @Test
+    void testWithoutRegistry() throws Exception {
+        var recorder =
+            new RequestAllocationRecorder(new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class), true);
+        var chain = new MockFilterChain();
+        recorder.doFilter(new MockHttpServletRequest("GET", "/policies"), new MockHttpServletResponse(), chain);
+        assertThat(chain.getRequest()).isNotNull();
+    }
+}
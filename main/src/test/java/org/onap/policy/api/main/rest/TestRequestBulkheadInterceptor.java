@@ -0,0 +1,124 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+class TestRequestBulkheadInterceptor {
+
+    private SimpleMeterRegistry registry;
+    private RequestBulkheadInterceptor interceptor;
+    private HandlerMethod policyHandler;
+    private HandlerMethod nodeTemplateHandler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        registry = new SimpleMeterRegistry();
+        var beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", registry);
+        // one read at a time and none waiting, one change at a time and one waiting for 10 ms
+        interceptor = new RequestBulkheadInterceptor(beanFactory.getBeanProvider(MeterRegistry.class), true,
+            1, 0, 0, 1, 1, 10, 3);
+
+        policyHandler = new HandlerMethod(Mockito.mock(ApiRestController.class),
+            ApiRestController.class.getMethod("getAllPolicyTypes", UUID.class));
+        nodeTemplateHandler = new HandlerMethod(Mockito.mock(NodeTemplateController.class),
+            NodeTemplateController.class.getMethod("createToscaNodeTemplates", ToscaServiceTemplate.class, UUID.class));
+    }
+
+    @Test
+    void testLanes() throws Exception {
+        var firstRead = new MockHttpServletRequest("GET", "/policytypes");
+        assertThat(interceptor.preHandle(firstRead, new MockHttpServletResponse(), policyHandler)).isTrue();
+
+        // the read lane is full, and has no queue
+        var rejectedRead = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(new MockHttpServletRequest("GET", "/policytypes"), rejectedRead,
+            policyHandler)).isFalse();
+        assertThat(rejectedRead.getStatus()).isEqualTo(429);
+        assertThat(rejectedRead.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+
+        // changes are not affected by the reads
+        var firstWrite = new MockHttpServletRequest("POST", "/nodetemplates");
+        assertThat(interceptor.preHandle(firstWrite, new MockHttpServletResponse(), nodeTemplateHandler)).isTrue();
+
+        // a change waits in the queue of its lane, and gives up
+        var timedOutWrite = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(new MockHttpServletRequest("POST", "/nodetemplates"), timedOutWrite,
+            nodeTemplateHandler)).isFalse();
+        assertThat(timedOutWrite.getStatus()).isEqualTo(503);
+        assertThat(timedOutWrite.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+
+        assertThat(registry.get(Bulkhead.METRIC_PREFIX + ".active").tag("lane", "write").gauge().value())
+            .isEqualTo(1.0);
+        assertThat(registry.get(Bulkhead.METRIC_PREFIX + ".rejected").tag("lane", "read").tag("reason", "queue-full")
+            .counter().count()).isEqualTo(1.0);
+        assertThat(registry.get(Bulkhead.METRIC_PREFIX + ".rejected").tag("lane", "write").tag("reason", "timeout")
+            .counter().count()).isEqualTo(1.0);
+
+        // completed requests leave their lane
+        interceptor.afterCompletion(firstRead, new MockHttpServletResponse(), policyHandler, null);
+        interceptor.afterCompletion(firstWrite, new MockHttpServletResponse(), nodeTemplateHandler, null);
+        assertThat(interceptor.getReadLane().getActive()).isZero();
+        assertThat(interceptor.getWriteLane().getActive()).isZero();
+        assertThat(interceptor.preHandle(new MockHttpServletRequest("GET", "/policytypes"),
+            new MockHttpServletResponse(), policyHandler)).isTrue();
+    }
+
+    @Test
+    void testOtherHandlers() throws Exception {
+        assertThat(interceptor.preHandle(new MockHttpServletRequest("GET", "/policytypes"),
+            new MockHttpServletResponse(), policyHandler)).isTrue();
+
+        // requests that are not handled by the controllers do not take part
+        var otherHandler = new HandlerMethod(new Object(), Object.class.getMethod("toString"));
+        assertThat(interceptor.preHandle(new MockHttpServletRequest("GET", "/other"), new MockHttpServletResponse(),
+            otherHandler)).isTrue();
+        assertThat(interceptor.preHandle(new MockHttpServletRequest("GET", "/other"), new MockHttpServletResponse(),
+            new Object())).isTrue();
+        assertThat(interceptor.getReadLane().getActive()).isEqualTo(1);
+    }
+
+    @Test
+    void testDisabled() throws Exception {
+        var disabled = new RequestBulkheadInterceptor(new DefaultListableBeanFactory()
+            .getBeanProvider(MeterRegistry.class), false, 1, 0, 0, 1, 0, 0, 1);
+        for (var count = 0; count < 3; count++) {
+            assertThat(disabled.preHandle(new MockHttpServletRequest("GET", "/policytypes"),
+                new MockHttpServletResponse(), policyHandler)).isTrue();
+        }
+        assertThat(disabled.getReadLane().getActive()).isZero();
+    }
+}
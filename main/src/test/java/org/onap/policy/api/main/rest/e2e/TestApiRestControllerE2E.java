@@ -34,6 +34,7 @@ import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.onap.policy.api.main.rest.PolicyImportReport;
 import org.onap.policy.common.utils.coder.CoderException;
 import org.onap.policy.common.utils.coder.StandardCoder;
 import org.onap.policy.common.utils.coder.StandardYamlCoder;
@@ -42,6 +43,7 @@ import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.webtestclient.autoconfigure.AutoConfigureWebTestClient;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
@@ -98,6 +100,9 @@ class TestApiRestControllerE2E {
     protected static final String POLICYTYPES_DROOLS_VERSION = POLICYTYPES_DROOLS + "/versions/1.0.0";
     protected static final String POLICYTYPES_DROOLS_VERSION_LATEST = POLICYTYPES_DROOLS + "/versions/latest";
 
+    protected static final String POLICYTYPES_OP_COMMON_VERSION =
+        "/policytypes/onap.policies.controlloop.operational.Common/versions/1.0.0";
+
     protected static final String POLICYTYPES_NAMING_VERSION = POLICYTYPES + "/onap.policies.Naming/versions/1.0.0";
 
     protected static final String POLICYTYPES_TCA_POLICIES =
@@ -113,6 +118,8 @@ class TestApiRestControllerE2E {
         POLICYTYPES_DROOLS_VERSION + "/policies/" + OP_POLICY_NAME_VCPE + "/versions/1.0.0";
 
     protected static final String POLICIES = "/policies";
+    protected static final String POLICIES_IMPORT = "/policies/import";
+    protected static final String POLICIES_DELETE = "/policies/delete";
 
     protected static final String[] TOSCA_POLICY_RESOURCE_NAMES = {
         "policies/vCPE.policy.monitoring.input.tosca.json",
@@ -284,6 +291,17 @@ class TestApiRestControllerE2E {
         webClient.delete().uri(uri).exchange().expectStatus().isNotFound();
     }
 
+    @Test
+    void deletePolicyTypeReferencedByNameInDerivedFrom() {
+        // the Drools policy type derives from the Common policy type by name only, so from its latest version
+        performPostRequestIsCreated(TOSCA_POLICYTYPE_OP_RESOURCE, POLICYTYPES);
+        performPostRequestIsCreated(TOSCA_POLICYTYPE_RESOURCE_NAMES[2], POLICYTYPES);
+
+        webClient.delete().uri(POLICYTYPES_OP_COMMON_VERSION).exchange()
+            .expectStatus().isEqualTo(HttpStatus.NOT_ACCEPTABLE);
+        performGetRequest(POLICYTYPES_OP_COMMON_VERSION);
+    }
+
     @Test
     void getPoliciesWithPolicyTypeAndVersionEndpoint() {
         for (String resourceName : TOSCA_POLICY_RESOURCE_NAMES) {
@@ -397,6 +415,80 @@ class TestApiRestControllerE2E {
             .exchange().expectStatus().isNotFound();
     }
 
+    @Test
+    void deletePoliciesRemovesReferences() {
+        performPostRequestIsCreated("policytypes/onap.policies.monitoring.tcagen2.yaml", POLICYTYPES);
+        var policy = ResourceUtils.getResourceAsString(TOSCA_POLICY_RESOURCE_NAMES[0]);
+        for (var name : List.of("onap.delete.tca1", "onap.delete.tca2", "onap.delete.tca3")) {
+            webClient.post().uri(POLICIES).contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(policy.replace("onap.restart.tca", name)).exchange().expectStatus().isCreated();
+        }
+
+        // a single policy is removed from the policies container of the service template and from the policy table
+        performDeleteRequest("/policies/onap.delete.tca1/versions/1.0.0");
+        webClient.get().uri("/policies/onap.delete.tca1/versions/1.0.0").accept(APPLICATION_JSON)
+            .exchange().expectStatus().isNotFound();
+        var policyNames = getPolicyNames();
+        assertThat(policyNames).doesNotContain("onap.delete.tca1").contains("onap.delete.tca2", "onap.delete.tca3");
+
+        // the policy can be created again once its reference is removed
+        webClient.post().uri(POLICIES).contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(policy.replace("onap.restart.tca", "onap.delete.tca1")).exchange().expectStatus().isCreated();
+
+        // several policies, as a list and as the versions of a policy
+        webClient.post().uri(POLICIES_DELETE).contentType(MediaType.APPLICATION_JSON)
+            .bodyValue("{\"policies\":[{\"name\":\"onap.delete.tca1\",\"version\":\"1.0.0\"},"
+                + "{\"name\":\"onap.delete.tca2\",\"version\":\"1.0.0\"}]}")
+            .exchange().expectStatus().isOk();
+        webClient.post().uri(POLICIES_DELETE).contentType(MediaType.APPLICATION_JSON)
+            .bodyValue("{\"name\":\"onap.delete.tca3\",\"minVersion\":\"1.0.0\"}")
+            .exchange().expectStatus().isOk();
+        assertThat(getPolicyNames()).doesNotContain("onap.delete.tca1", "onap.delete.tca2", "onap.delete.tca3");
+
+        // nothing is deleted if any of the policies is not found
+        webClient.post().uri(POLICIES_DELETE).contentType(MediaType.APPLICATION_JSON)
+            .bodyValue("{\"policies\":[{\"name\":\"onap.delete.tca1\",\"version\":\"1.0.0\"}]}")
+            .exchange().expectStatus().isNotFound();
+    }
+
+    @Test
+    void importPolicies() {
+        performPostRequestIsCreated("policytypes/onap.policies.monitoring.tcagen2.yaml", POLICYTYPES);
+        var policy = ResourceUtils.getResourceAsString(TOSCA_POLICY_RESOURCE_NAMES[0]);
+
+        // the references to imported policies are inserted into the policies container of the service template
+        var body = policy.replace("onap.restart.tca", "onap.import.json.tca");
+        var report = performImportRequest(POLICIES_IMPORT, MediaType.APPLICATION_JSON, body, HttpStatus.OK);
+        assertEquals(1, report.getImportedPolicies());
+        assertEquals(0, report.getFailedPolicies());
+        performGetRequest("/policies/onap.import.json.tca/versions/1.0.0");
+
+        report = performImportRequest(POLICIES_IMPORT, MediaType.APPLICATION_JSON, body, HttpStatus.OK);
+        assertEquals(0, report.getImportedPolicies());
+        assertEquals(1, report.getUnchangedPolicies());
+
+        // an NDJSON stream of one service template per line, imported a policy at a time, in which a chunk fails
+        var line = policy.replace("\r", "").replace("\n", "");
+        var stream = line.replace("onap.restart.tca", "onap.import.ndjson.tca1") + "\n"
+            + line.replace("onap.restart.tca", "onap.import.ndjson.tca2") + "\n"
+            + line.replace("onap.restart.tca", "onap.import.ndjson.tca3")
+                .replace("onap.policies.monitoring.tcagen2", "IDontExist") + "\n";
+        report = performImportRequest(POLICIES_IMPORT + "?chunkSize=1", MediaType.APPLICATION_NDJSON, stream,
+            HttpStatus.MULTI_STATUS);
+        assertEquals(3, report.getChunks().size());
+        assertEquals(2, report.getImportedPolicies());
+        assertEquals(1, report.getFailedPolicies());
+        performGetRequest("/policies/onap.import.ndjson.tca1/versions/1.0.0");
+        performGetRequest("/policies/onap.import.ndjson.tca2/versions/1.0.0");
+        webClient.get().uri("/policies/onap.import.ndjson.tca3/versions/1.0.0").accept(APPLICATION_JSON)
+            .exchange().expectStatus().isNotFound();
+
+        // an import in which every chunk fails is rejected
+        webClient.post().uri(POLICIES_IMPORT).contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(body.replace("onap.policies.monitoring.tcagen2", "IDontExist"))
+            .exchange().expectStatus().isEqualTo(HttpStatus.NOT_ACCEPTABLE);
+    }
+
     @Test
     void getPolicies() {
         var policyTypeFile = "policytypes/onap.policies.monitoring.tcagen2.yaml";
@@ -447,6 +539,22 @@ class TestApiRestControllerE2E {
             .bodyValue(body).exchange().expectStatus().isCreated();
     }
 
+    private List<String> getPolicyNames() {
+        return performGetRequestAndCollectResponse(POLICIES).getToscaTopologyTemplate().getPolicies().stream()
+            .flatMap(policyMap -> policyMap.keySet().stream()).toList();
+    }
+
+    private PolicyImportReport performImportRequest(String urlTemplate, MediaType mediaType, String body,
+        HttpStatus expectedStatus) {
+        var response = webClient.post().uri(urlTemplate).contentType(mediaType).accept(APPLICATION_JSON)
+            .bodyValue(body).exchange().expectStatus().isEqualTo(expectedStatus).expectBody(String.class);
+        try {
+            return new StandardCoder().decode(response.returnResult().getResponseBody(), PolicyImportReport.class);
+        } catch (CoderException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private ToscaServiceTemplate performGetRequestAndCollectResponse(String urlTemplate) {
         var response = webClient.get().uri(urlTemplate).accept(APPLICATION_JSON, APPLICATION_YAML).exchange()
             .expectStatus().isOk().expectBody(String.class);
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.onap.policy.api.main.repository.DataTypeRepository;
 import org.onap.policy.api.main.repository.NodeTemplateRepository;
 import org.onap.policy.api.main.repository.NodeTypeRepository;
@@ -69,6 +70,12 @@ class TestCommonToscaServiceTemplateService {
     protected PolicyService policyService;
     @Mock
     protected NodeTemplateService nodeTemplateService;
+    @Spy
+    protected PolicyTypeValidatorCache policyTypeValidatorCache =
+        new PolicyTypeValidatorCache(new IdentifierCanonicalizer(256));
+
+    @Spy
+    protected ParallelPolicyProcessor parallelPolicyProcessor = new ParallelPolicyProcessor(2, 64);
 
     AutoCloseable autoCloseable;
 
@@ -0,0 +1,64 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TestIdentifierCanonicalizer {
+
+    @Test
+    void testCanonicalizeStrings() {
+        var canonicalizer = new IdentifierCanonicalizer(5);
+        var first = canonicalizer.canonicalize(new String("1.0.0"));
+        assertThat(canonicalizer.canonicalize(new String("1.0.0"))).isSameAs(first);
+        assertThat(canonicalizer.canonicalize(null)).isNull();
+
+        // strings that are too long are not kept
+        var longString = new String("1.0.0.0");
+        assertThat(canonicalizer.canonicalize(longString)).isSameAs(longString);
+        assertThat(canonicalizer.canonicalize(new String("1.0.0.0"))).isNotSameAs(longString);
+        assertThat(canonicalizer.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testUnreferencedStringsAreDropped() throws Exception {
+        var canonicalizer = new IdentifierCanonicalizer(256);
+        List<String> referenced = new ArrayList<>();
+        for (var i = 0; i < 1000; i++) {
+            var identifier = canonicalizer.canonicalize("policy." + i);
+            if (i < 10) {
+                referenced.add(identifier);
+            }
+        }
+
+        for (var attempt = 0; attempt < 50 && canonicalizer.size() > referenced.size(); attempt++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertThat(canonicalizer.size()).isEqualTo(referenced.size());
+        assertThat(canonicalizer.canonicalize(new String("policy.0"))).isSameAs(referenced.get(0));
+    }
+}
@@ -0,0 +1,142 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.common.utils.coder.StandardYamlCoder;
+import org.onap.policy.common.utils.resources.ResourceUtils;
+import org.onap.policy.models.base.PfModelRuntimeException;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaTopologyTemplate;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaServiceTemplate;
+
+class TestParallelPolicyProcessor {
+
+    private static final String POLICY_RESOURCE = "policies/vCPE.policy.monitoring.input.tosca.json";
+    private static final String POLICY_TYPE_RESOURCE = "policytypes/onap.policies.monitoring.tcagen2.yaml";
+    private static final int POLICY_COUNT = 50;
+
+    private final ParallelPolicyProcessor processor = new ParallelPolicyProcessor(4, 10);
+
+    @AfterEach
+    void tearDown() {
+        processor.shutdown();
+    }
+
+    @Test
+    void testConvert() throws CoderException {
+        var body = makeBody(POLICY_COUNT);
+        var policies = body.getToscaTopologyTemplate().getPolicies();
+
+        assertThat(processor.convert(body)).isEqualTo(new JpaToscaServiceTemplate(body));
+        assertThat(body.getToscaTopologyTemplate().getPolicies()).isSameAs(policies);
+        assertThat(processor.convert(body).getTopologyTemplate().getPolicies().getConceptMap())
+            .hasSize(POLICY_COUNT);
+
+        // the request body is never modified, not even while it is converted
+        var readOnlyBody = makeBody(POLICY_COUNT);
+        var readOnlyPolicies = readOnlyBody.getToscaTopologyTemplate().getPolicies();
+        readOnlyBody.setToscaTopologyTemplate(new ToscaTopologyTemplate() {
+            @Override
+            public List<Map<String, ToscaPolicy>> getPolicies() {
+                return readOnlyPolicies;
+            }
+
+            @Override
+            public void setPolicies(List<Map<String, ToscaPolicy>> policies) {
+                throw new UnsupportedOperationException("the request body is read only");
+            }
+        });
+        assertThat(processor.convert(readOnlyBody)).isEqualTo(new JpaToscaServiceTemplate(readOnlyBody));
+
+        // small requests are converted on the calling thread
+        var smallBody = makeBody(2);
+        assertThat(processor.convert(smallBody)).isEqualTo(new JpaToscaServiceTemplate(smallBody));
+    }
+
+    @Test
+    void testConvertErrorsAreDeterministic() throws CoderException {
+        var body = makeBody(POLICY_COUNT);
+        var policies = body.getToscaTopologyTemplate().getPolicies();
+        policies.get(POLICY_COUNT - 5).values().iterator().next().setType(null);
+        policies.get(7).values().iterator().next().setTypeVersion(null);
+
+        var expected = catchThrowable(() -> new JpaToscaServiceTemplate(body));
+        assertThat(expected).isInstanceOf(PfModelRuntimeException.class);
+        for (var i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> processor.convert(body)).isInstanceOf(PfModelRuntimeException.class)
+                .hasMessage(expected.getMessage());
+        }
+        assertThat(body.getToscaTopologyTemplate().getPolicies()).isSameAs(policies);
+    }
+
+    @Test
+    void testValidate() throws CoderException {
+        var validationTemplate = new JpaToscaServiceTemplate(new StandardYamlCoder()
+            .decode(ResourceUtils.getResourceAsString(POLICY_TYPE_RESOURCE), ToscaServiceTemplate.class));
+        var policiesTemplate = new JpaToscaServiceTemplate(makeBody(POLICY_COUNT));
+        validationTemplate.setTopologyTemplate(policiesTemplate.getTopologyTemplate());
+
+        assertThat(validationTemplate.validate("template").isValid()).isTrue();
+        assertThat(processor.validate(validationTemplate, "template").isValid()).isTrue();
+
+        // policies of unknown policy types are reported in the order of the policies
+        var conceptMap = validationTemplate.getTopologyTemplate().getPolicies().getConceptMap();
+        var policyList = new ArrayList<>(conceptMap.values());
+        policyList.get(3).getType().setVersion("9.9.9");
+        policyList.get(POLICY_COUNT - 3).getType().setVersion("8.8.8");
+
+        var result = processor.validate(validationTemplate, "template");
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getResult()).contains("INVALID, not found");
+        assertThat(result.getResult().indexOf("9.9.9")).isLessThan(result.getResult().indexOf("8.8.8"));
+        for (var i = 0; i < 10; i++) {
+            assertThat(processor.validate(validationTemplate, "template").getResult()).isEqualTo(result.getResult());
+        }
+    }
+
+    private ToscaServiceTemplate makeBody(int count) throws CoderException {
+        var body = new StandardCoder().decode(ResourceUtils.getResourceAsString(POLICY_RESOURCE),
+            ToscaServiceTemplate.class);
+        var policy = body.getToscaTopologyTemplate().getPolicies().get(0).values().iterator().next();
+
+        List<Map<String, ToscaPolicy>> policies = new ArrayList<>();
+        for (var i = 0; i < count; i++) {
+            var copy = new ToscaPolicy(policy);
+            copy.setName(policy.getName() + "." + i);
+            policies.add(Map.of(copy.getName(), copy));
+        }
+        body.getToscaTopologyTemplate().setPolicies(policies);
+        return body;
+    }
+}
@@ -2,6 +2,7 @@
  *  ============LICENSE_START=======================================================
  *  Copyright (C) 2022 Bell Canada. All rights reserved.
  *  Modifications Copyright (C) 2023, 2025 OpenInfra Foundation Europe. All rights reserved.
+ *  Modifications Copyright (C) 2026 Deutsche Telekom AG.
  *  ================================================================================
  *  Licensed under the Apache License, Version 2.0 (the "License");
  *  you may not use this file except in compliance with the License.
@@ -23,31 +24,42 @@ package org.onap.policy.api.main.service;
 
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.onap.policy.api.main.repository.PdpGroupRepository;
+import org.onap.policy.api.main.repository.PdpSubGroupReference;
 import org.onap.policy.common.utils.coder.CoderException;
 import org.onap.policy.common.utils.coder.StandardCoder;
 import org.onap.policy.common.utils.resources.ResourceUtils;
+import org.onap.policy.models.base.PfModelRuntimeException;
 import org.onap.policy.models.pdp.concepts.PdpGroups;
-import org.onap.policy.models.pdp.persistence.concepts.JpaPdpGroup;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
 
 class TestPdpGroupService {
 
     @Mock
     private PdpGroupRepository pdpGroupRepository;
 
-    @InjectMocks
     private PdpGroupService pdpGroupService;
 
+    private final List<PdpSubGroupReference> deployments = new ArrayList<>();
+    private final List<PdpSubGroupReference> supportedTypes = new ArrayList<>();
+
     AutoCloseable closeable;
 
     /**
@@ -60,10 +72,31 @@ class TestPdpGroupService {
         closeable = MockitoAnnotations.openMocks(this);
         var pdpGroups = new StandardCoder().decode(ResourceUtils.getResourceAsString("pdpgroups/PdpGroups.json"),
             PdpGroups.class).getGroups();
-        List<JpaPdpGroup> jpaPdpGroupList = new ArrayList<>();
-        pdpGroups.forEach(pdpGroup -> jpaPdpGroupList.add(new JpaPdpGroup(pdpGroup)));
+        for (var pdpGroup : pdpGroups) {
+            for (var pdpSubGroup : pdpGroup.getPdpSubgroups()) {
+                pdpSubGroup.getPolicies().forEach(policy -> deployments.add(new PdpSubGroupReference(
+                    pdpGroup.getName(), pdpSubGroup.getPdpType(), policy.getName(), policy.getVersion())));
+                pdpSubGroup.getSupportedPolicyTypes().forEach(type -> supportedTypes.add(new PdpSubGroupReference(
+                    pdpGroup.getName(), pdpSubGroup.getPdpType(), type.getName(), type.getVersion())));
+            }
+        }
+
+        when(pdpGroupRepository.findPolicyDeployments(any())).thenAnswer(invocation -> {
+            Collection<String> names = invocation.getArgument(0);
+            return deployments.stream().filter(reference -> names.contains(reference.name())).toList();
+        });
+        when(pdpGroupRepository.findPolicyTypeSupport(anyString(), anyString()))
+            .thenAnswer(invocation -> supportedTypes.stream()
+                .filter(reference -> reference.name().equals(invocation.getArgument(0))
+                    && reference.version().equals(invocation.getArgument(1)))
+                .toList());
+        when(pdpGroupRepository.findAllPolicyDeployments()).thenAnswer(invocation -> List.copyOf(deployments));
+        when(pdpGroupRepository.findAllPolicyTypeSupport()).thenAnswer(invocation -> List.copyOf(supportedTypes));
+        when(pdpGroupRepository.countPolicyDeployments()).thenAnswer(invocation -> (long) deployments.size());
+        when(pdpGroupRepository.countPolicyTypeSupport()).thenAnswer(invocation -> (long) supportedTypes.size());
 
-        when(pdpGroupRepository.findAll()).thenReturn(jpaPdpGroupList);
+        pdpGroupService = new PdpGroupService(pdpGroupRepository, new IdentifierCanonicalizer(256), 0, 60000);
+        pdpGroupService.refresh();
     }
 
     @AfterEach
@@ -85,9 +118,108 @@ class TestPdpGroupService {
     void testAssertPolicyNotDeployedInPdpGroup() {
         assertThatCode(() -> pdpGroupService.assertPolicyNotDeployedInPdpGroup("policy_not_deployed", "1.0.0"))
             .doesNotThrowAnyException();
+        assertThatCode(() -> pdpGroupService.assertPolicyNotDeployedInPdpGroup(
+            "onap.policies.controlloop.operational.common.apex.SampleDomain", "9.9.9")).doesNotThrowAnyException();
 
         assertThatThrownBy(() -> pdpGroupService.assertPolicyNotDeployedInPdpGroup(
             "onap.policies.controlloop.operational.common.apex.SampleDomain", "1.0.0"))
             .hasMessage("policy is in use, it is deployed in PDP group defaultGroup subgroup apex");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testAssertPoliciesNotDeployedInPdpGroup() {
+        assertThatCode(() -> pdpGroupService.assertPoliciesNotDeployedInPdpGroup(
+            List.of(new ToscaConceptIdentifier("policy_not_deployed", "1.0.0"))))
+            .doesNotThrowAnyException();
+
+        assertThatThrownBy(() -> pdpGroupService.assertPoliciesNotDeployedInPdpGroup(List.of(
+            new ToscaConceptIdentifier("policy_not_deployed", "1.0.0"),
+            new ToscaConceptIdentifier("onap.policies.controlloop.operational.common.apex.SampleDomain", "1.0.0"))))
+            .hasMessage("policy onap.policies.controlloop.operational.common.apex.SampleDomain:1.0.0 is in use, "
+                + "it is deployed in PDP group defaultGroup subgroup apex");
+
+        assertThatCode(() -> pdpGroupService.assertPoliciesNotDeployedInPdpGroup(List.of()))
+            .doesNotThrowAnyException();
+        verify(pdpGroupRepository, never()).findAll();
+    }
+
+    @Test
+    void testAssertPolicyTypeNotKnownSupported() {
+        assertThatCode(() -> pdpGroupService.assertPolicyTypeNotKnownSupported("policy_type_not_supported", "1.0.0"))
+            .doesNotThrowAnyException();
+
+        assertThatThrownBy(() -> pdpGroupService.assertPolicyTypeNotKnownSupported(
+            "onap.policies.controlloop.guard.common.FrequencyLimiter", "1.0.0"))
+            .hasMessage("policy type is in use, it is referenced in PDP group defaultGroup subgroup xacml");
+    }
+
+    @Test
+    void testAssertPolicyNotKnownDeployed() {
+        assertThatCode(() -> pdpGroupService.assertPolicyNotKnownDeployed("policy_not_deployed", "1.0.0"))
+            .doesNotThrowAnyException();
+
+        // a single policy is reported with the same message as by the authoritative check
+        assertThatThrownBy(() -> pdpGroupService.assertPolicyNotKnownDeployed(
+            "onap.policies.controlloop.operational.common.apex.SampleDomain", "1.0.0"))
+            .hasMessage("policy is in use, it is deployed in PDP group defaultGroup subgroup apex");
+    }
+
+    @Test
+    void testAssertPoliciesNotKnownDeployed() {
+        var deployedPolicy =
+            new ToscaConceptIdentifier("onap.policies.controlloop.operational.common.apex.SampleDomain", "1.0.0");
+        assertThatCode(() -> pdpGroupService.assertPoliciesNotKnownDeployed(
+            List.of(new ToscaConceptIdentifier("policy_not_deployed", "1.0.0")))).doesNotThrowAnyException();
+        assertThatThrownBy(() -> pdpGroupService.assertPoliciesNotKnownDeployed(List.of(deployedPolicy)))
+            .hasMessage("policy onap.policies.controlloop.operational.common.apex.SampleDomain:1.0.0 is in use, "
+                + "it is deployed in PDP group defaultGroup subgroup apex");
+
+        // the read model is only reloaded when the probe sees a change
+        pdpGroupService.refresh();
+        verify(pdpGroupRepository, times(1)).findAllPolicyDeployments();
+
+        // an undeployment changes the row count seen by the probe, so the read model is reloaded
+        deployments.removeIf(reference -> reference.name().equals(deployedPolicy.getName()));
+        pdpGroupService.refresh();
+        assertThatCode(() -> pdpGroupService.assertPoliciesNotKnownDeployed(List.of(deployedPolicy)))
+            .doesNotThrowAnyException();
+        verify(pdpGroupRepository, times(2)).findAllPolicyDeployments();
+
+        // a deployment found by an authoritative check requests a reload, even if the row counts are unchanged
+        deployments.add(new PdpSubGroupReference("defaultGroup", "apex", deployedPolicy.getName(), "1.0.0"));
+        deployments.remove(0);
+        assertThatThrownBy(() -> pdpGroupService.assertPoliciesNotDeployedInPdpGroup(List.of(deployedPolicy)))
+            .isInstanceOf(PfModelRuntimeException.class);
+        pdpGroupService.refresh();
+        assertThatThrownBy(() -> pdpGroupService.assertPoliciesNotKnownDeployed(List.of(deployedPolicy)))
+            .isInstanceOf(PfModelRuntimeException.class);
+        verify(pdpGroupRepository, times(3)).findAllPolicyDeployments();
+
+        // requests never query the PDP subgroups for the read model, and accept everything until it is loaded
+        clearInvocations(pdpGroupRepository);
+        var unloadedService =
+            new PdpGroupService(pdpGroupRepository, new IdentifierCanonicalizer(256), 60000, 60000);
+        assertThatCode(() -> unloadedService.assertPoliciesNotKnownDeployed(List.of(deployedPolicy)))
+            .doesNotThrowAnyException();
+        verify(pdpGroupRepository, never()).countPolicyDeployments();
+        verify(pdpGroupRepository, never()).findAllPolicyDeployments();
+
+        // a failed refresh keeps the current read model, and reloads it on the next refresh
+        when(pdpGroupRepository.countPolicyDeployments()).thenThrow(new IllegalStateException("database down"));
+        pdpGroupService.refresh();
+        assertThatThrownBy(() -> pdpGroupService.assertPoliciesNotKnownDeployed(List.of(deployedPolicy)))
+            .isInstanceOf(PfModelRuntimeException.class);
+    }
+
+    @Test
+    void testRefresher() {
+        var refreshedService =
+            new PdpGroupService(pdpGroupRepository, new IdentifierCanonicalizer(256), 10, 60000);
+        refreshedService.startRefresher();
+        try {
+            verify(pdpGroupRepository, timeout(5000)).findAllPolicyDeployments();
+        } finally {
+            refreshedService.stopRefresher();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import jakarta.ws.rs.core.Response;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.models.base.PfModelRuntimeException;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+
+class TestPolicyCreateCombiner {
+
+    private final ToscaServiceTemplateService toscaServiceTemplateService = mock(ToscaServiceTemplateService.class);
+
+    @Test
+    void testCreatePolicies() {
+        var combiner = new PolicyCreateCombiner(toscaServiceTemplateService, 0, 10);
+        var body = new ToscaServiceTemplate();
+        when(toscaServiceTemplateService.createPoliciesInBatch(List.of(body)))
+            .thenReturn(Collections.singletonList(null));
+        assertThat(combiner.createPolicies(body)).isSameAs(body);
+
+        var error = new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE, "invalid policy");
+        when(toscaServiceTemplateService.createPoliciesInBatch(List.of(body))).thenReturn(List.of(error));
+        assertThatThrownBy(() -> combiner.createPolicies(body)).isSameAs(error);
+
+        when(toscaServiceTemplateService.createPoliciesInBatch(List.of(body)))
+            .thenThrow(new IllegalStateException("database unavailable"));
+        assertThatThrownBy(() -> combiner.createPolicies(body)).isInstanceOf(IllegalStateException.class)
+            .hasMessage("database unavailable");
+    }
+
+    @Test
+    void testCreatePolicies_concurrent() throws Exception {
+        var combiner = new PolicyCreateCombiner(toscaServiceTemplateService, 50, 3);
+        var batches = Collections.synchronizedList(new ArrayList<List<ToscaServiceTemplate>>());
+        when(toscaServiceTemplateService.createPoliciesInBatch(anyList())).thenAnswer(invocation -> {
+            List<ToscaServiceTemplate> bodies = invocation.getArgument(0);
+            batches.add(bodies);
+            var errors = new ArrayList<PfModelRuntimeException>(Collections.nCopies(bodies.size(), null));
+            for (var i = 0; i < bodies.size(); i++) {
+                if ("invalid".equals(bodies.get(i).getName())) {
+                    errors.set(i, new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE, "invalid policy"));
+                }
+            }
+            return errors;
+        });
+
+        var bodies = new ToscaServiceTemplate[7];
+        for (var i = 0; i < bodies.length; i++) {
+            bodies[i] = new ToscaServiceTemplate();
+            bodies[i].setName(i == 3 ? "invalid" : "valid" + i);
+        }
+
+        var executor = Executors.newFixedThreadPool(bodies.length);
+        try {
+            var results = new ArrayList<Future<ToscaServiceTemplate>>();
+            for (var body : bodies) {
+                results.add(executor.submit(() -> combiner.createPolicies(body)));
+            }
+            for (var i = 0; i < bodies.length; i++) {
+                var result = results.get(i);
+                if (i == 3) {
+                    assertThatThrownBy(() -> result.get(10, TimeUnit.SECONDS))
+                        .hasCauseInstanceOf(PfModelRuntimeException.class);
+                } else {
+                    assertThat(result.get(10, TimeUnit.SECONDS)).isSameAs(bodies[i]);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // every request is applied exactly once, in batches that do not exceed the maximum size
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(3));
+        assertThat(batches.stream().flatMap(List::stream).toList()).containsExactlyInAnyOrder(bodies);
+    }
+
+    @Test
+    void testCreatePolicies_uncontended() {
+        // a request on its own does not wait for the window
+        var combiner = new PolicyCreateCombiner(toscaServiceTemplateService, 60_000, 10);
+        var body = new ToscaServiceTemplate();
+        when(toscaServiceTemplateService.createPoliciesInBatch(List.of(body)))
+            .thenReturn(Collections.singletonList(null));
+        assertThat(assertTimeoutPreemptively(Duration.ofSeconds(10), () -> combiner.createPolicies(body)))
+            .isSameAs(body);
+    }
+
+    @Test
+    void testCreatePolicies_interrupted() throws Exception {
+        var combiner = new PolicyCreateCombiner(toscaServiceTemplateService, 60_000, 10);
+        var firstBatchRelease = new CountDownLatch(1);
+        var batches = Collections.synchronizedList(new ArrayList<List<ToscaServiceTemplate>>());
+        when(toscaServiceTemplateService.createPoliciesInBatch(anyList())).thenAnswer(invocation -> {
+            List<ToscaServiceTemplate> bodies = invocation.getArgument(0);
+            if (batches.isEmpty()) {
+                firstBatchRelease.await(10, TimeUnit.SECONDS);
+            }
+            batches.add(bodies);
+            return new ArrayList<PfModelRuntimeException>(Collections.nCopies(bodies.size(), null));
+        });
+
+        var bodies = new ToscaServiceTemplate[3];
+        var outcomes = new ArrayList<CompletableFuture<ToscaServiceTemplate>>();
+        var interrupted = new AtomicBoolean();
+        var threads = new ArrayList<Thread>();
+        for (var i = 0; i < bodies.length; i++) {
+            var body = new ToscaServiceTemplate();
+            body.setName("body" + i);
+            bodies[i] = body;
+            var outcome = new CompletableFuture<ToscaServiceTemplate>();
+            outcomes.add(outcome);
+            threads.add(new Thread(() -> {
+                try {
+                    outcome.complete(combiner.createPolicies(body));
+                } catch (RuntimeException exc) {
+                    interrupted.set(Thread.currentThread().isInterrupted());
+                    outcome.completeExceptionally(exc);
+                }
+            }));
+        }
+
+        // the first request is on its own, so it is committed at once, and holds up the two others
+        threads.get(0).start();
+        awaitThreads(List.of(threads.get(0)), Thread.State.TIMED_WAITING);
+        threads.get(1).start();
+        threads.get(2).start();
+        awaitThreads(threads.subList(1, 3), Thread.State.WAITING);
+        firstBatchRelease.countDown();
+        assertThat(outcomes.get(0).get(10, TimeUnit.SECONDS)).isSameAs(bodies[0]);
+
+        // the next leader finds another request queued, so it sleeps through the window
+        var leader = awaitThreads(threads.subList(1, 3), Thread.State.TIMED_WAITING);
+        leader.interrupt();
+
+        // the leader fails its own request only, and the other request is committed by the next leader
+        var leaderIndex = threads.indexOf(leader);
+        var otherIndex = 3 - leaderIndex;
+        assertThatThrownBy(() -> outcomes.get(leaderIndex).get(10, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(PfModelRuntimeException.class)
+            .satisfies(exc -> assertThat(((PfModelRuntimeException) exc.getCause()).getErrorResponse()
+                .getResponseCode()).isEqualTo(Response.Status.SERVICE_UNAVAILABLE));
+        assertThat(interrupted).isTrue();
+        assertThat(outcomes.get(otherIndex).get(10, TimeUnit.SECONDS)).isSameAs(bodies[otherIndex]);
+        assertThat(batches).containsExactly(List.of(bodies[0]), List.of(bodies[otherIndex]));
+    }
+
+    /**
+     * Waits until all the threads are in a state, or for the first thread in the state if the state is a timed wait.
+     */
+    private Thread awaitThreads(List<Thread> threads, Thread.State state) throws InterruptedException {
+        var deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            var inState = threads.stream().filter(thread -> thread.getState() == state).toList();
+            if (state == Thread.State.TIMED_WAITING ? !inState.isEmpty() : inState.size() == threads.size()) {
+                return inState.get(0);
+            }
+            Thread.sleep(1);
+        }
+        throw new AssertionError("threads not in state " + state);
+    }
+}
@@ -0,0 +1,189 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.ws.rs.core.Response;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.api.main.rest.PolicyImportReport;
+import org.onap.policy.models.base.PfModelRuntimeException;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaNodeType;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicyType;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaTopologyTemplate;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaServiceTemplate;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+class TestPolicyImportService {
+
+    private final ToscaServiceTemplateService toscaServiceTemplateService = mock(ToscaServiceTemplateService.class);
+    private final PolicyImportService policyImportService = new PolicyImportService(toscaServiceTemplateService);
+    private final List<List<String>> importedChunks = new ArrayList<>();
+    private final List<Integer> failingChunks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(toscaServiceTemplateService.getPolicyTypesServiceTemplate()).thenReturn(new JpaToscaServiceTemplate());
+        when(toscaServiceTemplateService.importPolicyChunk(any(), any(), anyInt(), anyInt(), anyList()))
+            .thenAnswer(invocation -> {
+                int index = invocation.getArgument(2);
+                int first = invocation.getArgument(3);
+                List<Map<String, ToscaPolicy>> chunk = invocation.getArgument(4);
+                importedChunks.add(chunk.stream().flatMap(policyMap -> policyMap.keySet().stream()).toList());
+                if (failingChunks.contains(index)) {
+                    throw switch (index % 3) {
+                        case 0 -> new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE, "invalid policy");
+                        case 1 -> new DataIntegrityViolationException("duplicate policy");
+                        default -> new CannotCreateTransactionException("database unavailable");
+                    };
+                }
+                return new PolicyImportReport.ChunkResult(index, first, chunk.size(), chunk.size(), 0, true, null);
+            });
+    }
+
+    @Test
+    void testChunking() {
+        var report = policyImportService.importPolicies(makeDocument("p0", "p1", "p2", "p3", "p4"), 2);
+
+        assertThat(importedChunks).containsExactly(List.of("p0", "p1"), List.of("p2", "p3"), List.of("p4"));
+        assertThat(report.getChunkSize()).isEqualTo(2);
+        assertThat(report.getTotalPolicies()).isEqualTo(5);
+        assertThat(report.getImportedPolicies()).isEqualTo(5);
+        assertThat(report.getFailedPolicies()).isZero();
+        assertThat(report.getChunks()).extracting(PolicyImportReport.ChunkResult::getFirstPolicy)
+            .containsExactly(0, 2, 4);
+
+        // the stored types are read once for all the chunks
+        verify(toscaServiceTemplateService, times(1)).getPolicyTypesServiceTemplate();
+
+        // the default chunk size
+        importedChunks.clear();
+        report = policyImportService.importPolicies(makeDocument("p0", "p1"), 0);
+        assertThat(report.getChunkSize()).isEqualTo(PolicyImportService.DEFAULT_IMPORT_CHUNK_SIZE);
+        assertThat(importedChunks).containsExactly(List.of("p0", "p1"));
+    }
+
+    @Test
+    void testChunkFailures() {
+        // every chunk runs in a transaction of its own, whose failure is reported without stopping the import
+        failingChunks.addAll(List.of(1, 2, 3));
+        var report = policyImportService.importPolicies(makeDocument("p0", "p1", "p2", "p3", "p4", "p5", "p6"), 2);
+
+        assertThat(importedChunks).hasSize(4);
+        assertThat(report.getTotalPolicies()).isEqualTo(7);
+        assertThat(report.getImportedPolicies()).isEqualTo(2);
+        assertThat(report.getFailedPolicies()).isEqualTo(5);
+        assertThat(report.getChunks()).extracting(PolicyImportReport.ChunkResult::isSuccessful)
+            .containsExactly(true, false, false, false);
+        assertThat(report.getChunks()).extracting(PolicyImportReport.ChunkResult::getMessage)
+            .containsExactly(null, "duplicate policy", "database unavailable", "invalid policy");
+    }
+
+    @Test
+    void testAllChunksFail() {
+        failingChunks.addAll(List.of(0, 1));
+        assertThatThrownBy(() -> policyImportService.importPolicies(makeDocument("p0", "p1", "p2"), 2))
+            .isInstanceOf(PfModelRuntimeException.class)
+            .hasMessage("none of the 3 policies were imported, invalid policy");
+        assertThat(importedChunks).hasSize(2);
+    }
+
+    @Test
+    void testTypesBeforePolicies() {
+        var typesAndPolicies = makeDocument("p1");
+        typesAndPolicies.setPolicyTypes(Map.of("onap.policies.Test", new ToscaPolicyType()));
+
+        var report = policyImportService.importPolicies(List.of(makeDocument("p0"), typesAndPolicies).iterator(), 10);
+
+        // the policies read before the types are imported first, and the types are read again after they change
+        assertThat(importedChunks).containsExactly(List.of("p0"), List.of("p1"));
+        assertThat(report.getImportedPolicies()).isEqualTo(2);
+        var order = inOrder(toscaServiceTemplateService);
+        order.verify(toscaServiceTemplateService).getPolicyTypesServiceTemplate();
+        order.verify(toscaServiceTemplateService).importPolicyChunk(any(), any(), anyInt(), anyInt(), anyList());
+        order.verify(toscaServiceTemplateService).createPolicyType(any());
+        order.verify(toscaServiceTemplateService).getPolicyTypesServiceTemplate();
+        order.verify(toscaServiceTemplateService).importPolicyChunk(any(), any(), anyInt(), anyInt(), anyList());
+
+        // a document with types only
+        var typesOnly = new ToscaServiceTemplate();
+        typesOnly.setPolicyTypes(Map.of("onap.policies.Test", new ToscaPolicyType()));
+        assertThat(policyImportService.importPolicies(typesOnly, 10).getChunks()).isEmpty();
+    }
+
+    @Test
+    void testErrors() {
+        var nodeTypes = makeDocument("p1");
+        nodeTypes.setNodeTypes(Map.of("org.onap.nodetypes.Test", new ToscaNodeType()));
+
+        // an error after chunks were imported reports how many policies were imported
+        var documents = List.of(makeDocument("p0"), nodeTypes).iterator();
+        assertThatThrownBy(() -> policyImportService.importPolicies(documents, 1))
+            .isInstanceOf(PfModelRuntimeException.class)
+            .hasMessage("node types and node templates cannot be imported, after 1 policies were imported");
+        assertThat(importedChunks).containsExactly(List.of("p0"));
+
+        assertThatThrownBy(() -> policyImportService.importPolicies(nodeTypes, 1))
+            .hasMessage("node types and node templates cannot be imported");
+
+        var typeError = new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE, "invalid policy type");
+        when(toscaServiceTemplateService.createPolicyType(any())).thenThrow(typeError);
+        var typesAndPolicies = makeDocument("p1");
+        typesAndPolicies.setPolicyTypes(Map.of("onap.policies.Test", new ToscaPolicyType()));
+        var typeDocuments = List.of(makeDocument("p0"), typesAndPolicies).iterator();
+        assertThatThrownBy(() -> policyImportService.importPolicies(typeDocuments, 10))
+            .hasMessage("invalid policy type, after 1 policies were imported");
+
+        assertThatThrownBy(() -> policyImportService.importPolicies(new ToscaServiceTemplate(), 10))
+            .hasMessage("no policies found to import");
+    }
+
+    private static ToscaServiceTemplate makeDocument(String... policyNames) {
+        List<Map<String, ToscaPolicy>> policies = new ArrayList<>();
+        for (var policyName : policyNames) {
+            var policy = new ToscaPolicy();
+            policy.setName(policyName);
+            policies.add(Map.of(policyName, policy));
+        }
+        var document = new ToscaServiceTemplate();
+        document.setToscaDefinitionsVersion("tosca_simple_yaml_1_1_0");
+        document.setToscaTopologyTemplate(new ToscaTopologyTemplate());
+        document.getToscaTopologyTemplate().setPolicies(policies);
+        return document;
+    }
+}
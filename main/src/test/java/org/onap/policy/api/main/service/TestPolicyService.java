@@ -2,6 +2,7 @@
  *  ============LICENSE_START=======================================================
  *  Copyright (C) 2022 Bell Canada. All rights reserved.
  *  Modifications Copyright (C) 2023 Nordix Foundation.
+ *  Modifications Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
  *  ================================================================================
  *  Licensed under the Apache License, Version 2.0 (the "License");
  *  you may not use this file except in compliance with the License.
@@ -22,7 +23,10 @@
 package org.onap.policy.api.main.service;
 
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.inOrder;
 
+import jakarta.persistence.EntityManager;
+import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,12 +35,16 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.onap.policy.api.main.repository.PolicyRepository;
 import org.onap.policy.models.base.PfConceptKey;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaPolicy;
 
 class TestPolicyService {
 
     @Mock
     private PolicyRepository policyRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
     @Mock
     private PolicyService policyService;
 
@@ -58,4 +66,22 @@ class TestPolicyService {
         Mockito.doNothing().when(policyRepository).deleteById(id);
         assertThatCode(() -> policyService.deletePolicy(id)).doesNotThrowAnyException();
     }
-}
\ No newline at end of file
+
+    @Test
+    void testDeletePolicies() {
+        var policy = new JpaToscaPolicy(new PfConceptKey("dummy", "1.0.0"));
+        assertThatCode(() -> policyService.deletePolicies(List.of(policy))).doesNotThrowAnyException();
+    }
+
+    @Test
+    void testAddPolicies() {
+        var policy = new JpaToscaPolicy(new PfConceptKey("dummy", "1.0.0"));
+        var containerKey = new PfConceptKey("ToscaPoliciesSimple", "1.0.0");
+        new PolicyService(policyRepository, entityManager).addPolicies(containerKey, List.of(policy));
+
+        var order = inOrder(entityManager, policyRepository);
+        order.verify(entityManager).persist(policy);
+        order.verify(entityManager).flush();
+        order.verify(policyRepository).insertPolicyReference("ToscaPoliciesSimple", "1.0.0", "dummy", "1.0.0");
+    }
+}
@@ -0,0 +1,164 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.common.utils.coder.StandardYamlCoder;
+import org.onap.policy.common.utils.resources.ResourceUtils;
+import org.onap.policy.models.base.PfConceptKey;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaProperty;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaServiceTemplate;
+
+class TestPolicyTypeValidatorCache {
+
+    private static final String POLICY_RESOURCE = "policies/vCPE.policy.monitoring.input.tosca.json";
+    private static final String POLICY_TYPE_RESOURCE = "policytypes/onap.policies.monitoring.tcagen2.yaml";
+    private static final String POLICY_RESOURCE_WITH_BAD_POLICYTYPE_VERSION =
+        "policies/vCPE.policy.bad.policytypeversion.json";
+
+    private final PolicyTypeValidatorCache cache = new PolicyTypeValidatorCache(new IdentifierCanonicalizer(256));
+
+    @Test
+    void testGetValidationTemplate() throws CoderException {
+        var typesTemplate = new JpaToscaServiceTemplate(new StandardYamlCoder()
+            .decode(ResourceUtils.getResourceAsString(POLICY_TYPE_RESOURCE), ToscaServiceTemplate.class));
+        var policyFragment = new JpaToscaServiceTemplate(new StandardCoder()
+            .decode(ResourceUtils.getResourceAsString(POLICY_RESOURCE), ToscaServiceTemplate.class));
+
+        // fragments that contain more than policies are validated with the whole service template
+        assertNull(cache.getValidationTemplate(typesTemplate, typesTemplate));
+
+        var validationTemplate = cache.getValidationTemplate(typesTemplate, policyFragment);
+        var policy = policyFragment.getTopologyTemplate().getPolicies().getConceptMap().values().iterator().next();
+        assertThat(validationTemplate.getPolicyTypes().getConceptMap()).containsKey(policy.getType());
+        assertThat(typesTemplate.getPolicyTypes().getConceptMap().keySet())
+            .containsAll(validationTemplate.getPolicyTypes().getConceptMap().keySet());
+        assertThat(validationTemplate.getDataTypes().getConceptMap()).isNotEmpty();
+        assertThat(typesTemplate.getDataTypes().getConceptMap().keySet())
+            .containsAll(validationTemplate.getDataTypes().getConceptMap().keySet());
+        assertThat(validationTemplate.getTopologyTemplate().getPolicies())
+            .isSameAs(policyFragment.getTopologyTemplate().getPolicies());
+        assertThat(validationTemplate.validate("validation template").isValid()).isTrue();
+
+        // the closure is reused, and resolved again after invalidation
+        assertThat(cache.getValidationTemplate(typesTemplate, policyFragment).getPolicyTypes().getConceptMap())
+            .isEqualTo(validationTemplate.getPolicyTypes().getConceptMap());
+        cache.invalidate();
+        assertThat(cache.getValidationTemplate(typesTemplate, policyFragment).validate("revalidated").isValid())
+            .isTrue();
+
+        // a policy type re-created with different content, for example through another instance, is resolved again
+        typesTemplate.getPolicyTypes().get(policy.getType()).setDescription("re-created policy type");
+        assertThat(cache.getValidationTemplate(typesTemplate, policyFragment).getPolicyTypes()
+            .get(policy.getType()).getDescription()).isEqualTo("re-created policy type");
+
+        // policies of unknown policy types are reported by the validation
+        var badPolicyString = ResourceUtils.getResourceAsString(POLICY_RESOURCE_WITH_BAD_POLICYTYPE_VERSION);
+        var badPolicyFragment =
+            new JpaToscaServiceTemplate(new StandardCoder().decode(badPolicyString, ToscaServiceTemplate.class));
+        var badValidationResult = cache.getValidationTemplate(typesTemplate, badPolicyFragment).validate("bad");
+        assertThat(badValidationResult.isValid()).isFalse();
+        assertThat(badValidationResult.getResult()).contains("INVALID, not found");
+        assertThat(cache.getValidationTemplate(null, badPolicyFragment).validate("bad").isValid()).isFalse();
+    }
+
+    /**
+     * Checks that closures resolved from separately decoded service templates share their identifiers, by counting the
+     * distinct string instances the cached closures hold with and without canonicalization.
+     */
+    @Test
+    void testCanonicalization() throws CoderException {
+        var policyFragment = new JpaToscaServiceTemplate(new StandardCoder()
+            .decode(ResourceUtils.getResourceAsString(POLICY_RESOURCE), ToscaServiceTemplate.class));
+
+        // each identifier is held once
+        var canonicalStrings = getIdentifierInstances(cache, policyFragment);
+        assertThat(canonicalStrings).hasSameSizeAs(new HashSet<>(canonicalStrings));
+
+        // without canonicalization, the closures hold a copy of each identifier per decoded service template
+        var copiedStrings = getIdentifierInstances(
+            new PolicyTypeValidatorCache(new IdentifierCanonicalizer(0)), policyFragment);
+        assertThat(copiedStrings).hasSizeGreaterThan(canonicalStrings.size());
+    }
+
+    /**
+     * Resolves the closure of the policy type of a fragment twice, each time from a newly decoded service template,
+     * and gets the distinct string instances that the two closures hold as identifiers.
+     */
+    private Set<String> getIdentifierInstances(PolicyTypeValidatorCache validatorCache, JpaToscaServiceTemplate fragment)
+        throws CoderException {
+        Set<String> identifiers = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (var resolution = 0; resolution < 2; resolution++) {
+            var typesTemplate = new JpaToscaServiceTemplate(new StandardYamlCoder()
+                .decode(ResourceUtils.getResourceAsString(POLICY_TYPE_RESOURCE), ToscaServiceTemplate.class));
+            validatorCache.invalidate();
+            var validationTemplate = validatorCache.getValidationTemplate(typesTemplate, fragment);
+
+            for (var policyType : validationTemplate.getPolicyTypes().getConceptMap().values()) {
+                addIdentifiers(identifiers, policyType.getKey(), policyType.getDerivedFrom(),
+                    policyType.getProperties());
+            }
+            for (var dataType : validationTemplate.getDataTypes().getConceptMap().values()) {
+                addIdentifiers(identifiers, dataType.getKey(), dataType.getDerivedFrom(), dataType.getProperties());
+            }
+        }
+        return identifiers;
+    }
+
+    private void addIdentifiers(Set<String> identifiers, PfConceptKey key, PfConceptKey derivedFrom,
+        Map<String, JpaToscaProperty> properties) {
+        addIdentifiers(identifiers, key);
+        addIdentifiers(identifiers, derivedFrom);
+        if (properties == null) {
+            return;
+        }
+        for (var entry : properties.entrySet()) {
+            identifiers.add(entry.getKey());
+            var property = entry.getValue();
+            identifiers.add(property.getKey().getParentKeyName());
+            identifiers.add(property.getKey().getParentKeyVersion());
+            identifiers.add(property.getKey().getLocalName());
+            addIdentifiers(identifiers, property.getType());
+            if (property.getEntrySchema() != null) {
+                addIdentifiers(identifiers, property.getEntrySchema().getType());
+            }
+        }
+    }
+
+    private void addIdentifiers(Set<String> identifiers, PfConceptKey key) {
+        if (key != null) {
+            identifiers.add(key.getName());
+            identifiers.add(key.getVersion());
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import jakarta.ws.rs.core.Response;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.api.main.rest.PolicyWriteJob.JobStatus;
+import org.onap.policy.models.base.PfModelRuntimeException;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+
+class TestPolicyWriteJobService {
+
+    @Test
+    void testSubmit() {
+        var jobService = new PolicyWriteJobService(10, 10);
+        var serviceTemplate = new ToscaServiceTemplate();
+        var order = new ArrayList<String>();
+
+        var succeededJob = jobService.submit("POST /policytypes", () -> {
+            order.add("first");
+            return serviceTemplate;
+        });
+        var failedJob = jobService.submit("POST /policies", () -> {
+            order.add("second");
+            throw new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE, "invalid policy");
+        });
+        var crashedJob = jobService.submit("POST /policies", () -> {
+            order.add("third");
+            throw new IllegalStateException("unexpected");
+        });
+        assertThat(succeededJob.getSubmittedAt()).isNotNull();
+
+        // shutting down waits for the queued jobs to complete
+        jobService.shutdown();
+        assertThat(order).containsExactly("first", "second", "third");
+
+        var job = jobService.getJob(succeededJob.getId());
+        assertThat(job.getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(job.getOperation()).isEqualTo("POST /policytypes");
+        assertThat(job.getResult()).isSameAs(serviceTemplate);
+        assertThat(job.getStartedAt()).isNotNull();
+        assertThat(job.getFinishedAt()).isNotNull();
+
+        job = jobService.getJob(failedJob.getId());
+        assertThat(job.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(job.getError().getResponseCode()).isEqualTo(Response.Status.NOT_ACCEPTABLE);
+        assertThat(job.getError().getErrorMessage()).isEqualTo("invalid policy");
+
+        job = jobService.getJob(crashedJob.getId());
+        assertThat(job.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(job.getError().getResponseCode()).isEqualTo(Response.Status.INTERNAL_SERVER_ERROR);
+
+        var unknownJob = UUID.randomUUID();
+        assertThatThrownBy(() -> jobService.getJob(unknownJob)).hasMessage("job " + unknownJob + " not found");
+    }
+
+    @Test
+    void testSubmit_queueFull() throws InterruptedException {
+        var jobService = new PolicyWriteJobService(1, 10);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        var runningJob = jobService.submit("POST /policies", () -> {
+            started.countDown();
+            awaitQuietly(release);
+            return new ToscaServiceTemplate();
+        });
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(jobService.getJob(runningJob.getId()).getStatus()).isEqualTo(JobStatus.RUNNING);
+
+        var queuedJob = jobService.submit("POST /policies", ToscaServiceTemplate::new);
+        assertThat(queuedJob.getStatus()).isEqualTo(JobStatus.QUEUED);
+
+        assertThatThrownBy(() -> jobService.submit("POST /policies", ToscaServiceTemplate::new))
+            .isInstanceOf(PfModelRuntimeException.class)
+            .hasMessage("write job queue is full, retry the request later");
+
+        release.countDown();
+        jobService.shutdown();
+        assertThat(jobService.getJob(queuedJob.getId()).getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+    }
+
+    @Test
+    void testRetention() {
+        var jobService = new PolicyWriteJobService(10, 2);
+        var firstJob = jobService.submit("POST /policies", ToscaServiceTemplate::new);
+        var secondJob = jobService.submit("POST /policies", ToscaServiceTemplate::new);
+        var thirdJob = jobService.submit("POST /policies", ToscaServiceTemplate::new);
+        jobService.shutdown();
+
+        var firstJobId = firstJob.getId();
+        assertThatThrownBy(() -> jobService.getJob(firstJobId)).isInstanceOf(PfModelRuntimeException.class);
+        assertThat(jobService.getJob(secondJob.getId()).getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(jobService.getJob(thirdJob.getId()).getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
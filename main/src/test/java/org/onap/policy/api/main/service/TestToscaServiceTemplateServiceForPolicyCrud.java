@@ -38,11 +38,14 @@ import static org.mockito.Mockito.verify;
 import jakarta.ws.rs.core.Response;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.onap.policy.api.main.rest.PolicyDeleteRequest;
 import org.onap.policy.api.main.rest.PolicyFetchMode;
 import org.onap.policy.common.utils.coder.CoderException;
 import org.onap.policy.common.utils.coder.StandardCoder;
@@ -50,6 +53,8 @@ import org.onap.policy.common.utils.coder.StandardYamlCoder;
 import org.onap.policy.common.utils.resources.ResourceUtils;
 import org.onap.policy.models.base.PfConceptKey;
 import org.onap.policy.models.base.PfModelRuntimeException;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaNodeType;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
 import org.onap.policy.models.tosca.simple.concepts.JpaToscaNodeTemplate;
 import org.onap.policy.models.tosca.simple.concepts.JpaToscaNodeType;
@@ -284,11 +289,86 @@ class TestToscaServiceTemplateServiceForPolicyCrud extends TestCommonToscaServic
         }).doesNotThrowAnyException();
     }
 
+    @Test
+    void testCreatePoliciesInBatch() throws CoderException {
+        var policyTypeServiceTemplate = standardYamlCoder
+            .decode(ResourceUtils.getResourceAsString(POLICY_TYPE_RESOURCE), ToscaServiceTemplate.class);
+        var serviceTemplate = toscaServiceTemplateService.createPolicyType(policyTypeServiceTemplate);
+        mockDbServiceTemplate(serviceTemplate, null, null);
+        Mockito.clearInvocations(toscaServiceTemplateRepository);
+
+        var policyServiceTemplate = standardCoder
+            .decode(ResourceUtils.getResourceAsString(POLICY_RESOURCE), ToscaServiceTemplate.class);
+        var badPolicyServiceTemplate = standardCoder.decode(
+            ResourceUtils.getResourceAsString(POLICY_RESOURCE_WITH_BAD_POLICYTYPE_VERSION), ToscaServiceTemplate.class);
+        var errors = toscaServiceTemplateService.createPoliciesInBatch(
+            List.of(policyServiceTemplate, badPolicyServiceTemplate, new ToscaServiceTemplate()));
+        assertThat(errors).hasSize(3);
+        assertNull(errors.get(0));
+        assertThat(errors.get(1).getMessage()).contains(
+            "item \"policy type\" value \"onap.policies.monitoring.cdap.tca.hi.lo.app:2.0.0\" INVALID, not found");
+        assertThat(errors.get(2).getMessage()).isEqualTo("topology template not specified on service template");
+        verify(toscaServiceTemplateRepository).save(any());
+
+        // requests that can be applied together are validated once
+        Mockito.clearInvocations(toscaServiceTemplateRepository, policyTypeValidatorCache);
+        errors = toscaServiceTemplateService.createPoliciesInBatch(
+            List.of(policyServiceTemplate, policyServiceTemplate, policyServiceTemplate));
+        assertThat(errors).containsOnlyNulls();
+        verify(policyTypeValidatorCache).getValidationTemplate(any(), any());
+        verify(toscaServiceTemplateRepository).save(any());
+
+        // requests of the same batch that conflict with each other
+        Mockito.clearInvocations(toscaServiceTemplateRepository);
+        var conflictingServiceTemplate = standardCoder.decode(
+            ResourceUtils.getResourceAsString(POLICY_RESOURCE_WITH_DIFFERENT_FIELDS), ToscaServiceTemplate.class);
+        errors = toscaServiceTemplateService.createPoliciesInBatch(
+            List.of(policyServiceTemplate, conflictingServiceTemplate));
+        assertNull(errors.get(0));
+        assertThat(errors.get(1).getMessage()).contains(
+            "item \"entity\" value \"onap.restart.tca:1.0.0\" INVALID, does not equal existing entity");
+        verify(toscaServiceTemplateRepository).save(any());
+
+        // nothing to save
+        Mockito.clearInvocations(toscaServiceTemplateRepository);
+        errors = toscaServiceTemplateService.createPoliciesInBatch(List.of(new ToscaServiceTemplate()));
+        assertThat(errors.get(0)).isNotNull();
+        verify(toscaServiceTemplateRepository, never()).save(any());
+    }
+
+    @Test
+    void testCreatePolicyTypesAndPolicies() throws CoderException {
+        var policyTypeServiceTemplate = standardYamlCoder
+            .decode(ResourceUtils.getResourceAsString(POLICY_TYPE_RESOURCE), ToscaServiceTemplate.class);
+        var policyServiceTemplate = standardCoder
+            .decode(ResourceUtils.getResourceAsString(POLICY_RESOURCE), ToscaServiceTemplate.class);
+        var badPolicyServiceTemplate = standardCoder.decode(
+            ResourceUtils.getResourceAsString(POLICY_RESOURCE_WITH_BAD_POLICYTYPE_VERSION), ToscaServiceTemplate.class);
+
+        var policyTypes = List.of(policyTypeServiceTemplate);
+        var badPolicies = List.of(badPolicyServiceTemplate);
+        assertThatThrownBy(() -> toscaServiceTemplateService.createPolicyTypesAndPolicies(policyTypes, badPolicies))
+            .isInstanceOf(PfModelRuntimeException.class)
+            .hasMessageContaining("onap.policies.monitoring.cdap.tca.hi.lo.app:2.0.0\" INVALID, not found");
+        verify(toscaServiceTemplateRepository, never()).save(any());
+
+        // the policy types and policies are merged, validated and saved once
+        toscaServiceTemplateService.createPolicyTypesAndPolicies(policyTypes,
+            List.of(policyServiceTemplate, policyServiceTemplate));
+        var saved = ArgumentCaptor.forClass(JpaToscaServiceTemplate.class);
+        verify(toscaServiceTemplateRepository).save(saved.capture());
+        assertThat(saved.getValue().getPolicyTypes().getConceptMap()).containsAllEntriesOf(
+            new JpaToscaServiceTemplate(policyTypeServiceTemplate).getPolicyTypes().getConceptMap());
+        assertThat(saved.getValue().getTopologyTemplate().getPolicies().getConceptMap())
+            .containsKey(new PfConceptKey("onap.restart.tca", "1.0.0"));
+        verify(policyTypeValidatorCache).invalidate();
+    }
+
     @Test
     void testDeletePolicy() throws CoderException {
 
         assertThatThrownBy(() -> toscaServiceTemplateService.deletePolicy("dummy", "1.0.0"))
-            .hasMessage("no policies found");
+            .hasMessage("policy dummy:1.0.0 not found");
 
         var policyTypeServiceTemplate = standardYamlCoder
             .decode(ResourceUtils.getResourceAsString(POLICY_TYPE_RESOURCE), ToscaServiceTemplate.class);
@@ -301,6 +381,7 @@ class TestToscaServiceTemplateServiceForPolicyCrud extends TestCommonToscaServic
             .createPolicy(policyServiceTemplate);
         assertFalse(createPolicyResponseFragment.getToscaTopologyTemplate().getPolicies().get(0).isEmpty());
         mockDbServiceTemplate(serviceTemplate, createPolicyResponseFragment, Operation.CREATE_POLICY);
+        mockFlatRepositoriesFor(new JpaToscaServiceTemplate(serviceTemplate));
 
         var exceptionMessage = "policy is in use, it is deployed in PDP group dummy subgroup dummy";
         Mockito.doThrow(new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE, exceptionMessage))
@@ -314,11 +395,119 @@ class TestToscaServiceTemplateServiceForPolicyCrud extends TestCommonToscaServic
         var deletePolicyResponseFragment = toscaServiceTemplateService
             .deletePolicy("onap.restart.tca", "1.0.0");
         assertFalse(deletePolicyResponseFragment.getToscaTopologyTemplate().getPolicies().get(0).isEmpty());
+        verify(policyService).deletePolicy(new PfConceptKey("onap.restart.tca", "1.0.0"));
 
-        mockDbServiceTemplate(serviceTemplate, deletePolicyResponseFragment, Operation.DELETE_POLICY);
+        Mockito.when(policyRepository.findById(new PfConceptKey("onap.restart.tca", "1.0.0")))
+            .thenReturn(Optional.empty());
         assertThatThrownBy(() -> toscaServiceTemplateService
             .deletePolicy("onap.restart.tca", "1.0.0"))
-            .hasMessageContaining("no policies found");
+            .hasMessageContaining("policy onap.restart.tca:1.0.0 not found");
+    }
+
+    @Test
+    void testDeletePolicies() throws CoderException {
+        assertThatThrownBy(() -> toscaServiceTemplateService.deletePolicies(new PolicyDeleteRequest()))
+            .hasMessage("either a list of policies or a policy name must be specified");
+
+        var policyTypeServiceTemplate = standardYamlCoder
+            .decode(ResourceUtils.getResourceAsString(POLICY_TYPE_RESOURCE), ToscaServiceTemplate.class);
+        var serviceTemplate = toscaServiceTemplateService.createPolicyType(policyTypeServiceTemplate);
+        mockDbServiceTemplate(serviceTemplate, null, null);
+
+        var policyString = ResourceUtils.getResourceAsString(POLICY_RESOURCE);
+        var policyServiceTemplate = standardCoder.decode(policyString, ToscaServiceTemplate.class);
+        var createPolicyResponseFragment = toscaServiceTemplateService.createPolicy(policyServiceTemplate);
+        var policyKey = new PfConceptKey("onap.restart.tca", "1.0.0");
+        var policy = new JpaToscaServiceTemplate(createPolicyResponseFragment).getTopologyTemplate().getPolicies()
+            .get(policyKey);
+        Mockito.when(policyRepository.findAllById(any())).thenReturn(List.of(policy));
+
+        var byList = new PolicyDeleteRequest();
+        byList.setPolicies(List.of(new ToscaConceptIdentifier("onap.restart.tca", "1.0.0"),
+            new ToscaConceptIdentifier("dummy", "1.0.0")));
+        assertThatThrownBy(() -> toscaServiceTemplateService.deletePolicies(byList))
+            .hasMessage("policies [dummy:1.0.0] not found");
+        verify(policyService, never()).deletePolicies(any());
+
+        var byName = new PolicyDeleteRequest();
+        byName.setName("onap.restart.tca");
+        byName.setMinVersion("2.0.0");
+        Mockito.when(policyRepository.findKeysByName("onap.restart.tca")).thenReturn(List.of(policyKey));
+        assertThatThrownBy(() -> toscaServiceTemplateService.deletePolicies(byName))
+            .hasMessage("no versions of policy onap.restart.tca found in the requested version range");
+
+        var exceptionMessage =
+            "policy onap.restart.tca:1.0.0 is in use, it is deployed in PDP group dummy subgroup dummy";
+        byName.setMinVersion("1.0.0");
+        byName.setMaxVersion("2.0.0");
+        Mockito.doThrow(new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE, exceptionMessage))
+            .when(pdpGroupService).assertPoliciesNotDeployedInPdpGroup(any());
+        assertThatThrownBy(() -> toscaServiceTemplateService.deletePolicies(byName)).hasMessage(exceptionMessage);
+        verify(policyService, never()).deletePolicies(any());
+
+        Mockito.doNothing().when(pdpGroupService).assertPoliciesNotDeployedInPdpGroup(any());
+        var deletePoliciesResponse = toscaServiceTemplateService.deletePolicies(byName);
+        assertThat(deletePoliciesResponse.getToscaTopologyTemplate().getPolicies().get(0)).containsKey(
+            "onap.restart.tca");
+        verify(policyService).deletePolicies(List.of(policy));
+    }
+
+    @Test
+    void testImportPolicies() throws CoderException {
+        var policyImportService = new PolicyImportService(toscaServiceTemplateService);
+        assertThatThrownBy(() -> policyImportService.importPolicies(new ToscaServiceTemplate(), 1))
+            .hasMessage("no policies found to import");
+
+        var nodeTypes = new ToscaServiceTemplate();
+        nodeTypes.setNodeTypes(Map.of("org.onap.nodetypes.Test", new ToscaNodeType()));
+        assertThatThrownBy(() -> policyImportService.importPolicies(nodeTypes, 1))
+            .hasMessage("node types and node templates cannot be imported");
+
+        var policyTypeServiceTemplate = standardYamlCoder
+            .decode(ResourceUtils.getResourceAsString(POLICY_TYPE_RESOURCE), ToscaServiceTemplate.class);
+        var serviceTemplate = toscaServiceTemplateService.createPolicyType(policyTypeServiceTemplate);
+        mockDbServiceTemplate(serviceTemplate, null, null);
+        mockFlatRepositoriesFor(new JpaToscaServiceTemplate(serviceTemplate));
+
+        var importServiceTemplate = standardCoder
+            .decode(ResourceUtils.getResourceAsString(POLICY_RESOURCE), ToscaServiceTemplate.class);
+        var badPolicyServiceTemplate = standardCoder.decode(
+            ResourceUtils.getResourceAsString(POLICY_RESOURCE_WITH_BAD_POLICYTYPE_ID), ToscaServiceTemplate.class);
+        var policies = new ArrayList<>(importServiceTemplate.getToscaTopologyTemplate().getPolicies());
+        policies.addAll(badPolicyServiceTemplate.getToscaTopologyTemplate().getPolicies());
+        importServiceTemplate.getToscaTopologyTemplate().setPolicies(policies);
+
+        var report = policyImportService.importPolicies(importServiceTemplate, 1);
+        assertThat(report.getChunks()).hasSize(2);
+        assertThat(report.getTotalPolicies()).isEqualTo(2);
+        assertThat(report.getImportedPolicies()).isEqualTo(1);
+        assertThat(report.getFailedPolicies()).isEqualTo(1);
+        assertThat(report.getChunks().get(0).isSuccessful()).isTrue();
+        assertThat(report.getChunks().get(1).isSuccessful()).isFalse();
+        assertThat(report.getChunks().get(1).getMessage()).isNotBlank();
+
+        // without a policies container, the policies are added to the service template, which creates it
+        verify(toscaServiceTemplateRepository, Mockito.times(2)).save(any());
+        verify(policyService, never()).addPolicies(any(), any());
+
+        // once there is a policies container, the policies are added without the service template
+        var policiesKey = new PfConceptKey("ToscaPoliciesSimple", "1.0.0");
+        Mockito.when(toscaServiceTemplateRepository.findPoliciesKey(JpaToscaServiceTemplate.DEFAULT_NAME,
+            JpaToscaServiceTemplate.DEFAULT_VERSION)).thenReturn(Optional.of(policiesKey));
+        var policyServiceTemplate = standardCoder
+            .decode(ResourceUtils.getResourceAsString(POLICY_RESOURCE), ToscaServiceTemplate.class);
+        report = policyImportService.importPolicies(policyServiceTemplate, 1);
+        assertThat(report.getImportedPolicies()).isEqualTo(1);
+        verify(policyService).addPolicies(Mockito.eq(policiesKey), any());
+        verify(toscaServiceTemplateRepository, Mockito.times(2)).save(any());
+
+        // policies identical to stored policies are left unchanged
+        var storedPolicies = new JpaToscaServiceTemplate(policyServiceTemplate).getTopologyTemplate().getPolicies();
+        Mockito.when(policyRepository.findAllById(any()))
+            .thenReturn(new ArrayList<>(storedPolicies.getConceptMap().values()));
+        report = policyImportService.importPolicies(policyServiceTemplate, 1);
+        assertThat(report.getImportedPolicies()).isZero();
+        assertThat(report.getUnchangedPolicies()).isEqualTo(1);
     }
 
     @Test
@@ -562,6 +751,7 @@ class TestToscaServiceTemplateServiceForPolicyCrud extends TestCommonToscaServic
             .createPolicy(policyServiceTemplate);
         assertThat(createPolicyResponseFragment.getToscaTopologyTemplate().getPolicies()).hasSize(1);
         mockDbServiceTemplate(serviceTemplate, createPolicyResponseFragment, Operation.CREATE_POLICY);
+        mockFlatRepositoriesFor(new JpaToscaServiceTemplate(serviceTemplate));
 
         serviceTemplate = toscaServiceTemplateService.deletePolicy("onap.restart.tca", "1.0.0");
         assertThat(serviceTemplate.getToscaTopologyTemplate().getPolicies()).hasSize(1);
@@ -580,6 +770,7 @@ class TestToscaServiceTemplateServiceForPolicyCrud extends TestCommonToscaServic
             .createPolicy(policyServiceTemplate);
         assertThat(createPolicyResponseFragment.getToscaTopologyTemplate().getPolicies()).hasSize(1);
         mockDbServiceTemplate(serviceTemplate, createPolicyResponseFragment, Operation.CREATE_POLICY);
+        mockFlatRepositoriesFor(new JpaToscaServiceTemplate(serviceTemplate));
 
         assertThatThrownBy(() -> toscaServiceTemplateService.deletePolicy("onap.restart.tca", "2.0.0"))
             .hasMessageContaining("not found");
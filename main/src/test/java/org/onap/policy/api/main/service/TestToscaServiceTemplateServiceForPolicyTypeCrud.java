@@ -2,6 +2,7 @@
  *  ============LICENSE_START=======================================================
  *  Copyright (C) 2022 Bell Canada. All rights reserved.
  *  Modifications Copyright (C) 2023-2024 Nordix Foundation.
+ *  Modifications Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
  *  ================================================================================
  *  Licensed under the Apache License, Version 2.0 (the "License");
  *  you may not use this file except in compliance with the License.
@@ -27,6 +28,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import jakarta.ws.rs.core.Response;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -34,8 +36,11 @@ import org.mockito.Mockito;
 import org.onap.policy.common.utils.coder.CoderException;
 import org.onap.policy.common.utils.coder.StandardYamlCoder;
 import org.onap.policy.common.utils.resources.ResourceUtils;
+import org.onap.policy.models.base.PfConceptKey;
+import org.onap.policy.models.base.PfKey;
 import org.onap.policy.models.base.PfModelRuntimeException;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaServiceTemplate;
 
 /**
  * This class performs unit test of Policy Type CRUD operations as implemented in {@link ToscaServiceTemplateService}.
@@ -127,9 +132,20 @@ class TestToscaServiceTemplateServiceForPolicyTypeCrud extends TestCommonToscaSe
         assertNotNull(createPolicyTypeResponseFragment.getPolicyTypes().get(POLICY_TYPE_OPERATIONAL_DROOLS));
         mockDbServiceTemplate(serviceTemplate, createPolicyTypeResponseFragment, Operation.CREATE_POLICY_TYPE);
 
+        Mockito.when(policyTypeRepository.findKeysByDerivedFrom(POLICY_TYPE_OPERATIONAL_COMMON,
+            List.of(POLICY_TYPE_VERSION, PfKey.NULL_KEY_VERSION)))
+            .thenReturn(List.of(new PfConceptKey(POLICY_TYPE_OPERATIONAL_DROOLS, POLICY_TYPE_VERSION)));
+        assertThatThrownBy(() -> toscaServiceTemplateService.deletePolicyType(POLICY_TYPE_OPERATIONAL_COMMON,
+            POLICY_TYPE_VERSION)).hasMessage("policy type " + POLICY_TYPE_OPERATIONAL_COMMON + ":"
+                + POLICY_TYPE_VERSION + " is in use, it is referenced in policy type " + POLICY_TYPE_OPERATIONAL_DROOLS
+                + ":" + POLICY_TYPE_VERSION);
+
         var deletePolicyTypeResponseFragment = toscaServiceTemplateService
             .deletePolicyType(POLICY_TYPE_OPERATIONAL_DROOLS, POLICY_TYPE_VERSION);
         mockDbServiceTemplate(serviceTemplate, deletePolicyTypeResponseFragment, Operation.DELETE_POLICY_TYPE);
+        Mockito.when(policyTypeRepository.findKeysByDerivedFrom(POLICY_TYPE_OPERATIONAL_COMMON,
+            List.of(POLICY_TYPE_VERSION, PfKey.NULL_KEY_VERSION)))
+            .thenReturn(List.of());
         toscaServiceTemplateService.deletePolicyType(POLICY_TYPE_OPERATIONAL_COMMON, POLICY_TYPE_VERSION);
     }
 
@@ -163,15 +179,20 @@ class TestToscaServiceTemplateServiceForPolicyTypeCrud extends TestCommonToscaSe
             policyServiceTemplate);
 
         mockDbServiceTemplate(serviceTemplate, createPolicyResponseFragment, Operation.CREATE_POLICY);
+        Mockito.when(policyRepository.findKeysByType("onap.policies.monitoring.tcagen2", "1.0.0"))
+            .thenReturn(List.of(new PfConceptKey("onap.restart.tca", "1.0.0")));
         var exceptionMessage = "policy type onap.policies.monitoring.tcagen2:1.0.0 is in use, "
             + "it is referenced in policy onap.restart.tca:1.0.0";
         assertThatThrownBy(() -> toscaServiceTemplateService.deletePolicyType("onap.policies.monitoring.tcagen2",
             "1.0.0")).hasMessage(exceptionMessage);
 
+        mockFlatRepositoriesFor(new JpaToscaServiceTemplate(serviceTemplate));
         var deletePolicyResponseFragment = toscaServiceTemplateService
             .deletePolicy("onap.restart.tca", "1.0.0");
         assertFalse(deletePolicyResponseFragment.getToscaTopologyTemplate().getPolicies().get(0).isEmpty());
         mockDbServiceTemplate(serviceTemplate, deletePolicyResponseFragment, Operation.DELETE_POLICY);
+        Mockito.when(policyRepository.findKeysByType("onap.policies.monitoring.tcagen2", "1.0.0"))
+            .thenReturn(List.of());
 
         exceptionMessage = "policy type is in use, it is referenced in PDP group dummy subgroup dummy";
         Mockito.doThrow(new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE, exceptionMessage))
@@ -0,0 +1,93 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.startstop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.onap.policy.api.main.config.PolicyPreloadConfig;
+import org.onap.policy.api.main.service.ToscaServiceTemplateService;
+import org.onap.policy.common.utils.coder.StandardYamlCoder;
+import org.onap.policy.common.utils.resources.ResourceUtils;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+
+class ApiDatabaseInitializerDecodeTest {
+
+    private static final List<String> POLICY_TYPES = List.of(
+        "policytypes/onap.policies.monitoring.tcagen2.yaml",
+        "policytypes/onap.policies.Naming.yaml",
+        "policytypes/onap.policies.monitoring.tcagen2.v2.yaml",
+        "policytypes/onap.policies.native.Drools.yaml",
+        "policytypes/onap.policies.controlloop.guard.Common.yaml",
+        "policytypes/onap.policies.controlloop.guard.common.Blacklist.yaml");
+
+    @Test
+    void testParallelDecodingKeepsOrder() throws Exception {
+        var preloadConfig = new PolicyPreloadConfig();
+        preloadConfig.setPolicyTypes(POLICY_TYPES);
+        preloadConfig.setPolicies(List.of());
+        preloadConfig.setParallelism(4);
+
+        var service = Mockito.mock(ToscaServiceTemplateService.class);
+        Mockito.when(service.createPolicyType(any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
+        Mockito.when(service.createPolicies(any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        new ApiDatabaseInitializer(service, preloadConfig).loadData();
+
+        // the types are merged in the configured order, and the second version of a type is created on its own
+        var expectedPolicyTypes = new ArrayList<String>();
+        var expectedDataTypes = new ArrayList<String>();
+        for (var resource : POLICY_TYPES) {
+            if (!resource.contains(".v2.")) {
+                var serviceTemplate = decode(resource);
+                addNew(serviceTemplate.getPolicyTypes().keySet(), expectedPolicyTypes);
+                if (serviceTemplate.getDataTypes() != null) {
+                    addNew(serviceTemplate.getDataTypes().keySet(), expectedDataTypes);
+                }
+            }
+        }
+
+        var captor = ArgumentCaptor.forClass(ToscaServiceTemplate.class);
+        verify(service, times(2)).createPolicyType(captor.capture());
+        var merged = captor.getAllValues().get(0);
+        assertThat(merged.getPolicyTypes().keySet()).containsExactlyElementsOf(expectedPolicyTypes);
+        assertThat(merged.getDataTypes().keySet()).containsExactlyElementsOf(expectedDataTypes);
+        assertThat(captor.getAllValues().get(1)).isEqualTo(decode(POLICY_TYPES.get(2)));
+    }
+
+    private void addNew(Collection<String> keys, List<String> expectedKeys) {
+        keys.stream().filter(key -> !expectedKeys.contains(key)).forEach(expectedKeys::add);
+    }
+
+    private ToscaServiceTemplate decode(String resource) throws Exception {
+        return new StandardYamlCoder().decode(ResourceUtils.getResourceAsString(resource), ToscaServiceTemplate.class);
+    }
+}
@@ -0,0 +1,104 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.startstop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mockito;
+import org.onap.policy.api.main.config.PolicyPreloadConfig;
+import org.onap.policy.api.main.service.ToscaServiceTemplateService;
+
+class ApiDatabaseInitializerFingerprintTest {
+
+    private static final List<String> POLICY_TYPES = List.of(
+        "policytypes/onap.policies.Naming.yaml",
+        "policytypes/onap.policies.native.Drools.yaml");
+    private static final List<String> POLICIES = List.of("policies/sdnc.policy.naming.input.tosca.yaml");
+
+    private ToscaServiceTemplateService service;
+    private ApiDatabaseInitializer initializer;
+    private String fingerprint;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        var preloadConfig = new PolicyPreloadConfig();
+        preloadConfig.setPolicyTypes(POLICY_TYPES);
+        preloadConfig.setPolicies(POLICIES);
+
+        service = Mockito.mock(ToscaServiceTemplateService.class);
+        Mockito.when(service.createPolicyType(any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
+        Mockito.when(service.createPolicies(any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        initializer = new ApiDatabaseInitializer(service, preloadConfig);
+        fingerprint = ApiDatabaseInitializer.fingerprint(POLICY_TYPES, POLICIES);
+    }
+
+    @Test
+    void testFingerprint() throws Exception {
+        assertThat(fingerprint).startsWith("sha256:").isEqualTo(ApiDatabaseInitializer.fingerprint(POLICY_TYPES,
+            POLICIES));
+        assertThat(ApiDatabaseInitializer.fingerprint(POLICY_TYPES.subList(0, 1), POLICIES)).isNotEqualTo(fingerprint);
+        var reordered = List.of(POLICY_TYPES.get(1), POLICY_TYPES.get(0));
+        assertThat(ApiDatabaseInitializer.fingerprint(reordered, POLICIES)).isNotEqualTo(fingerprint);
+        assertThat(ApiDatabaseInitializer.fingerprint(POLICY_TYPES, List.of())).isNotEqualTo(fingerprint);
+        assertThat(ApiDatabaseInitializer.fingerprint(List.of("policytypes/missing.yaml"), List.of()))
+            .isNotEqualTo(ApiDatabaseInitializer.fingerprint(List.of(), List.of()));
+    }
+
+    @Test
+    void testEmptyDatabase() throws Exception {
+        initializer.loadData();
+
+        verify(service).createPolicyType(any());
+        verify(service).createPolicies(any());
+        verify(service).savePreloadFingerprint(fingerprint);
+    }
+
+    @Test
+    void testSameFingerprint() throws Exception {
+        Mockito.when(service.getPreloadFingerprint()).thenReturn(fingerprint);
+
+        initializer.loadData();
+
+        verify(service, never()).hasPolicyTypes();
+        verify(service, never()).createPolicyType(any());
+        verify(service, never()).savePreloadFingerprint(any());
+    }
+
+    @Test
+    void testOtherFingerprintWithPolicyTypes() throws Exception {
+        Mockito.when(service.getPreloadFingerprint()).thenReturn("sha256:other");
+        Mockito.when(service.hasPolicyTypes()).thenReturn(true);
+
+        initializer.loadData();
+
+        verify(service, never()).createPolicyType(any());
+        verify(service).savePreloadFingerprint(fingerprint);
+    }
+}
@@ -0,0 +1,132 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.startstop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import jakarta.ws.rs.core.Response;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.onap.policy.api.main.config.PolicyPreloadConfig;
+import org.onap.policy.api.main.service.ToscaServiceTemplateService;
+import org.onap.policy.common.utils.coder.StandardYamlCoder;
+import org.onap.policy.common.utils.resources.ResourceUtils;
+import org.onap.policy.models.base.PfConceptKey;
+import org.onap.policy.models.base.PfModelRuntimeException;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+
+class ApiDatabaseInitializerIncrementalTest {
+
+    private static final String NAMING = "policytypes/onap.policies.Naming.yaml";
+    private static final String DROOLS = "policytypes/onap.policies.native.Drools.yaml";
+    private static final String NAMING_POLICY = "policies/sdnc.policy.naming.input.tosca.yaml";
+
+    private ToscaServiceTemplateService service;
+    private ApiDatabaseInitializer initializer;
+
+    @BeforeEach
+    void setUp() {
+        var preloadConfig = new PolicyPreloadConfig();
+        preloadConfig.setPolicyTypes(List.of(NAMING, DROOLS));
+        preloadConfig.setPolicies(List.of(NAMING_POLICY));
+        preloadConfig.setIncremental(true);
+
+        service = Mockito.mock(ToscaServiceTemplateService.class);
+        Mockito.when(service.hasPolicyTypes()).thenReturn(true);
+        initializer = new ApiDatabaseInitializer(service, preloadConfig);
+    }
+
+    @Test
+    void testMissingPolicyTypeAndPolicy() throws Exception {
+        var naming = decode(NAMING);
+        Mockito.when(service.getPolicyTypeKeys()).thenReturn(keys(naming));
+        Mockito.when(service.getDataTypeKeys()).thenReturn(Set.of());
+        Mockito.when(service.getPolicyKeys()).thenReturn(Set.of());
+
+        initializer.loadData();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ToscaServiceTemplate>> policyTypes = ArgumentCaptor.forClass(List.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ToscaServiceTemplate>> policies = ArgumentCaptor.forClass(List.class);
+        verify(service).createPolicyTypesAndPolicies(policyTypes.capture(), policies.capture());
+
+        assertThat(policyTypes.getValue()).hasSize(1);
+        var missingPolicyTypes = decode(DROOLS).getPolicyTypes().keySet().stream()
+            .filter(name -> !naming.getPolicyTypes().containsKey(name)).toList();
+        assertThat(policyTypes.getValue().get(0).getPolicyTypes().keySet())
+            .containsExactlyElementsOf(missingPolicyTypes);
+        assertThat(policies.getValue()).hasSize(1);
+        assertThat(policies.getValue().get(0).getToscaTopologyTemplate().getPolicies())
+            .isEqualTo(decode(NAMING_POLICY).getToscaTopologyTemplate().getPolicies());
+        verify(service).savePreloadFingerprint(any());
+    }
+
+    @Test
+    void testNothingMissing() throws Exception {
+        var naming = decode(NAMING);
+        var drools = decode(DROOLS);
+        var policyTypeKeys = keys(naming);
+        policyTypeKeys.addAll(keys(drools));
+        Mockito.when(service.getPolicyTypeKeys()).thenReturn(policyTypeKeys);
+        Mockito.when(service.getDataTypeKeys()).thenReturn(Set.of());
+        var policy = decode(NAMING_POLICY).getToscaTopologyTemplate().getPolicies().get(0).entrySet().iterator()
+            .next();
+        Mockito.when(service.getPolicyKeys())
+            .thenReturn(Set.of(new PfConceptKey(policy.getKey(), policy.getValue().getVersion())));
+
+        initializer.loadData();
+
+        verify(service, never()).createPolicyTypesAndPolicies(any(), any());
+        verify(service).savePreloadFingerprint(any());
+    }
+
+    @Test
+    void testCreateFails() throws Exception {
+        Mockito.doThrow(new PfModelRuntimeException(Response.Status.NOT_ACCEPTABLE, "invalid")).when(service)
+            .createPolicyTypesAndPolicies(any(), any());
+
+        initializer.loadData();
+
+        verify(service).createPolicyTypesAndPolicies(any(), any());
+        verify(service, never()).savePreloadFingerprint(any());
+    }
+
+    private static Set<PfConceptKey> keys(ToscaServiceTemplate serviceTemplate) {
+        return serviceTemplate.getPolicyTypes().entrySet().stream()
+            .map(entry -> new PfConceptKey(entry.getKey(), entry.getValue().getVersion()))
+            .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private static ToscaServiceTemplate decode(String resource) throws Exception {
+        return new StandardYamlCoder().decode(ResourceUtils.getResourceAsString(resource), ToscaServiceTemplate.class);
+    }
+}
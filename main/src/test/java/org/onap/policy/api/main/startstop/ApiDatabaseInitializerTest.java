@@ -5,6 +5,7 @@
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2022 Bell Canada. All rights reserved.
  * Modifications Copyright (C) 2023 Nordix Foundation.
+ * Modifications Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,11 +23,15 @@
 
 package org.onap.policy.api.main.startstop;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 
 import org.junit.jupiter.api.Test;
 import org.onap.policy.api.main.PolicyApiApplication;
 import org.onap.policy.api.main.config.PolicyPreloadConfig;
+import org.onap.policy.api.main.repository.ToscaServiceTemplateRepository;
+import org.onap.policy.api.main.service.ToscaServiceTemplateService;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaServiceTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
@@ -43,13 +48,28 @@ class ApiDatabaseInitializerTest {
     @Autowired
     private ApiDatabaseInitializer adi;
 
+    @Autowired
+    private ToscaServiceTemplateService toscaServiceTemplateService;
+
+    @Autowired
+    private ToscaServiceTemplateRepository toscaServiceTemplateRepository;
+
     @Test
-    void testInitializeApiDatabase() {
+    void testInitializeApiDatabase() throws Exception {
         assertThatCode(() -> adi.initializeApiDatabase(params.getPolicyTypes(),
                 params.getPolicies())).doesNotThrowAnyException();
 
         // invoke it again - should still be OK
         assertThatCode(() -> adi.initializeApiDatabase(params.getPolicyTypes(),
                 params.getPolicies())).doesNotThrowAnyException();
+
+        assertThat(toscaServiceTemplateService.getPreloadFingerprint())
+            .isEqualTo(ApiDatabaseInitializer.fingerprint(params.getPolicyTypes(), params.getPolicies()));
+        assertThat(toscaServiceTemplateRepository.findMetadataValue(JpaToscaServiceTemplate.DEFAULT_NAME,
+            JpaToscaServiceTemplate.DEFAULT_VERSION, ToscaServiceTemplateService.PRELOAD_FINGERPRINT_METADATA))
+            .isEmpty();
+        assertThat(toscaServiceTemplateService.getPolicyTypeKeys()).isNotEmpty();
+        assertThat(toscaServiceTemplateService.getDataTypeKeys()).isNotEmpty();
+        assertThat(toscaServiceTemplateService.getPolicyKeys()).hasSameSizeAs(params.getPolicies());
     }
 }
\ No newline at end of file
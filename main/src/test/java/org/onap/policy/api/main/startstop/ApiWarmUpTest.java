@@ -0,0 +1,82 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.startstop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.google.gson.Gson;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.ws.rs.core.Response;
+import java.util.LinkedHashSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.onap.policy.api.main.rest.PolicyFetchMode;
+import org.onap.policy.api.main.service.ToscaServiceTemplateService;
+import org.onap.policy.models.base.PfConceptKey;
+import org.onap.policy.models.base.PfModelRuntimeException;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+class ApiWarmUpTest {
+
+    @Test
+    void testWarmUp() throws Exception {
+        var service = Mockito.mock(ToscaServiceTemplateService.class);
+        Mockito.when(service.getPolicyKeys()).thenReturn(new LinkedHashSet<>(List.of(new PfConceptKey("p1", "1.0.0"),
+            new PfConceptKey("p2", "1.0.0"), new PfConceptKey("p3", "1.0.0"))));
+        Mockito.when(service.fetchToscaNodeTemplates(any(), any()))
+            .thenThrow(new PfModelRuntimeException(Response.Status.NOT_FOUND, "none"));
+
+        var registry = new SimpleMeterRegistry();
+        var beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", registry);
+        beanFactory.registerSingleton("gson", new Gson());
+        new ApiWarmUp(service, beanFactory.getBeanProvider(Gson.class),
+            beanFactory.getBeanProvider(MeterRegistry.class), true, 2, 2).run(null);
+
+        verify(service, times(2)).fetchPolicyTypes(null, null);
+        verify(service, times(2)).fetchToscaNodeTemplates(null, null);
+        verify(service, times(2)).fetchPolicies(null, null, "p1", "1.0.0", PolicyFetchMode.BARE);
+        verify(service, times(2)).fetchPolicies(null, null, "p2", "1.0.0", PolicyFetchMode.BARE);
+        verify(service, times(0)).fetchPolicies(any(), any(), eq("p3"), any(), any());
+
+        var timer = registry.find(ApiWarmUp.METRIC_NAME).timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void testDisabled() {
+        var service = Mockito.mock(ToscaServiceTemplateService.class);
+        var beanFactory = new DefaultListableBeanFactory();
+        new ApiWarmUp(service, beanFactory.getBeanProvider(Gson.class),
+            beanFactory.getBeanProvider(MeterRegistry.class), false, 2, 2).run(null);
+
+        verifyNoInteractions(service);
+    }
+}
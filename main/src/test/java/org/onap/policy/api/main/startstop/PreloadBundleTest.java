@@ -0,0 +1,116 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.api.main.startstop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.AdditionalAnswers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.onap.policy.api.main.config.PolicyPreloadConfig;
+import org.onap.policy.api.main.service.ToscaServiceTemplateService;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+
+class PreloadBundleTest {
+
+    private static final List<String> POLICY_TYPES = List.of(
+        "policytypes/onap.policies.monitoring.tcagen2.yaml",
+        "policytypes/onap.policies.monitoring.tcagen2.v2.yaml",
+        "policytypes/onap.policies.Naming.yaml",
+        "policytypes/onap.policies.native.Drools.yaml");
+    private static final List<String> POLICIES = List.of("policies/sdnc.policy.naming.input.tosca.yaml");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testGenerateAndRead() throws Exception {
+        var bundleFile = tempDir.resolve("policy-preload/bundle.json.gz");
+        var bundle = PreloadBundleGenerator.generate(preloadConfig(POLICY_TYPES, null));
+        bundle.write(bundleFile);
+
+        var readBundle = PreloadBundle.read(bundleFile.toString());
+        assertThat(readBundle).isEqualTo(bundle);
+        assertThat(readBundle.isFor(ApiDatabaseInitializer.fingerprint(POLICY_TYPES, POLICIES))).isTrue();
+        assertThat(readBundle.isFor(ApiDatabaseInitializer.fingerprint(POLICY_TYPES.subList(1, 4), POLICIES)))
+            .isFalse();
+        assertThat(readBundle.getMultiVersionPolicyTypes()).hasSize(1);
+
+        assertThat(PreloadBundle.read(tempDir.resolve("missing.json.gz").toString())).isNull();
+    }
+
+    @Test
+    void testGenerateValidates() {
+        // the naming policy without its policy type
+        var preloadConfig = preloadConfig(POLICY_TYPES.subList(0, 2), null);
+        assertThatThrownBy(() -> PreloadBundleGenerator.generate(preloadConfig))
+            .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("onap.policies.Naming");
+    }
+
+    @Test
+    void testPreloadFromBundle() throws Exception {
+        var bundleFile = tempDir.resolve("bundle.json.gz");
+        PreloadBundleGenerator.generate(preloadConfig(POLICY_TYPES, null)).write(bundleFile);
+
+        var decoded = preload(preloadConfig(POLICY_TYPES, null));
+        var fromBundle = preload(preloadConfig(POLICY_TYPES, bundleFile.toString()));
+        assertThat(fromBundle).isEqualTo(decoded);
+
+        // a bundle for other resources is ignored
+        var otherTypes = POLICY_TYPES.subList(0, 3);
+        assertThat(preload(preloadConfig(otherTypes, bundleFile.toString())))
+            .isEqualTo(preload(preloadConfig(otherTypes, null)));
+    }
+
+    private List<ToscaServiceTemplate> preload(PolicyPreloadConfig preloadConfig) throws Exception {
+        var service = Mockito.mock(ToscaServiceTemplateService.class);
+        Mockito.when(service.createPolicyType(any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
+        Mockito.when(service.createPolicies(any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        new ApiDatabaseInitializer(service, preloadConfig).loadData();
+
+        var policyTypes = ArgumentCaptor.forClass(ToscaServiceTemplate.class);
+        verify(service, Mockito.atLeastOnce()).createPolicyType(policyTypes.capture());
+        var policies = ArgumentCaptor.forClass(ToscaServiceTemplate.class);
+        verify(service).createPolicies(policies.capture());
+
+        var created = new ArrayList<>(policyTypes.getAllValues());
+        created.addAll(policies.getAllValues());
+        return created;
+    }
+
+    private PolicyPreloadConfig preloadConfig(List<String> policyTypes, String bundle) {
+        var preloadConfig = new PolicyPreloadConfig();
+        preloadConfig.setPolicyTypes(policyTypes);
+        preloadConfig.setPolicies(POLICIES);
+        preloadConfig.setBundle(bundle);
+        return preloadConfig;
+    }
+}
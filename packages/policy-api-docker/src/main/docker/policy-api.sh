@@ -4,6 +4,7 @@
 #  Copyright (C) 2019-2021 AT&T Intellectual Property. All rights reserved.
 #  Modifications Copyright (C) 2019-2022, 2025 OpenInfra Foundation Europe. All rights reserved.
 #  Modifications Copyright (C) 2022 Bell Canada. All rights reserved.
+#  Modifications Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
 # ================================================================================
 # Licensed under the Apache License, Version 2.0 (the "License");
 # you may not use this file except in compliance with the License.
@@ -39,7 +40,21 @@ if [ -f "${POLICY_HOME}/etc/mounted/logback.xml" ]; then
     cp -f "${POLICY_HOME}"/etc/mounted/logback.xml "${POLICY_HOME}"/etc/
 fi
 
+# Use the extracted jar and its class data sharing archive when the image was built with them,
+# the archive only matches the jar it was created from
+API_JAR=/app/api.jar
+CDS_OPTS=""
+if [ -f /app/extracted/api.jar ]; then
+    API_JAR=/app/extracted/api.jar
+    if [ -f /app/api.jsa ] && [ "${CDS_ENABLED:-true}" = "true" ]; then
+        echo "using class data sharing archive /app/api.jsa"
+        CDS_OPTS="-XX:SharedArchiveFile=/app/api.jsa -Xshare:auto"
+    fi
+fi
+
+# shellcheck disable=SC2086
 "$JAVA_HOME"/bin/java \
+    ${CDS_OPTS} \
     -Dlogging.config="${POLICY_HOME}/etc/logback.xml" \
-    -jar /app/api.jar \
+    -jar "${API_JAR}" \
     --spring.config.location="${CONFIG_FILE}"